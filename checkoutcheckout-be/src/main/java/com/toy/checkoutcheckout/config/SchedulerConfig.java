@@ -1,11 +1,32 @@
 package com.toy.checkoutcheckout.config;
 
+import com.toy.checkoutcheckout.global.lease.ClusterSingleton;
+import com.toy.checkoutcheckout.global.lease.ClusterSingletonInterceptor;
+import com.toy.checkoutcheckout.global.lease.LeaseManager;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
     // 스케줄러 활성화를 위한 설정 클래스
-}
 
+    /**
+     * @ClusterSingleton 메서드를 리스를 획득한 인스턴스에서만 실행
+     * 어드바이저는 다른 빈보다 먼저 만들어지므로 리스 저장소는 처음 실행할 때 가져온다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor clusterSingletonAdvisor(ObjectProvider<LeaseManager> leaseManager) {
+        return new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ClusterSingleton.class),
+                new ClusterSingletonInterceptor(leaseManager::getObject));
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "characters")
+@Table(name = "characters",
+       indexes = @Index(name = "idx_characters_user_acquired_date", columnList = "user_id, acquired_date"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "study_plans")
+@Table(name = "study_plans",
+       indexes = @Index(name = "idx_study_plans_user_date", columnList = "user_id, date"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
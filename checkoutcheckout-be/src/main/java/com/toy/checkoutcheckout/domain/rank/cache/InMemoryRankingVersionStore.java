@@ -0,0 +1,39 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 프로세스 내 메모리 기반 랭킹 버전 저장소
+ * Redis 없이 실행되는 테스트/로컬 환경용 (leaderboard.store=memory)
+ */
+@Component
+@ConditionalOnProperty(name = "leaderboard.store", havingValue = "memory")
+public class InMemoryRankingVersionStore implements RankingVersionStore {
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long get(String key) {
+        return counter(key).get();
+    }
+
+    @Override
+    public long increment(String key) {
+        return counter(key).incrementAndGet();
+    }
+
+    @Override
+    public void onIncrement(BiConsumer<String, Long> listener) {
+        // 다른 인스턴스가 없으므로 알릴 변경도 없음
+    }
+
+    private AtomicLong counter(String key) {
+        return versions.computeIfAbsent(key, k -> new AtomicLong(System.currentTimeMillis() * 1000));
+    }
+}
@@ -0,0 +1,101 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.study.event.StudyMembershipChangedEvent;
+import com.toy.checkoutcheckout.domain.study.repository.StudyMemberRepository;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 프로세스 내 랭킹 캐시
+ * - 크기/TTL 기반 제거 (ranking.cache.max-size, ranking.cache.ttl-seconds)
+ * - 같은 키에 대한 동시 미스는 하나의 DB 조회로 합쳐짐 (Caffeine 의 키 단위 원자적 계산)
+ * - 항목은 조회 전에 읽은 범위 버전(RankingVersions)과 함께 저장되며, 타이머 종료나 스터디 멤버 변경이
+ *   커밋되면 영향받는 범위의 버전만 올림 (이전 버전의 항목은 더 이상 조회되지 않고 TTL/크기 제한으로 사라짐)
+ * - 버전을 올리기 전에 시작된 조회의 결과는 이전 버전으로 저장되므로 새 버전에 섞이지 않으며,
+ *   버전은 공유 저장소에 있으므로 다른 인스턴스에서 커밋된 변경도 반영됨
+ * - 버전은 RankingVersions 가 로컬에 두고 증가 알림으로 올리므로 적중 시 저장소를 왕복하지 않음
+ * - 적중률/로드 시간은 Micrometer(cache.gets, cache.load.duration 등, cache="rankings")로 노출
+ */
+@Slf4j
+@Component
+public class RankingCache {
+
+    private static final String CACHE_NAME = "rankings";
+    private static final Long GLOBAL_SCOPE_ID = 0L;
+
+    private final Cache<VersionedKey, Object> cache;
+    private final StudyMemberRepository studyMemberRepository;
+    private final RankingVersions rankingVersions;
+
+    public RankingCache(StudyMemberRepository studyMemberRepository,
+                        RankingVersions rankingVersions,
+                        MeterRegistry meterRegistry,
+                        @Value("${ranking.cache.max-size:10000}") long maxSize,
+                        @Value("${ranking.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.studyMemberRepository = studyMemberRepository;
+        this.rankingVersions = rankingVersions;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader 로 한 번만 계산해 저장
+     * 버전을 먼저 읽으므로 계산 도중 버전이 오르면 결과는 이전 버전으로만 남는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(RankingCacheKey key, Supplier<T> loader) {
+        long version = rankingVersions.current(key.getScope(), key.getStudyId());
+        return (T) cache.get(new VersionedKey(key, version), k -> loader.get());
+    }
+
+    /**
+     * 사용자의 공부 기록이 바뀌었을 때: 전체 스터디 랭킹과 사용자가 속한 스터디들의 스터디 내 랭킹 버전 증가
+     * (시작은 저장된 합계를 바꾸지 않으므로 무시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStopped(TimerStoppedEvent event) {
+        List<Long> studyIds = studyMemberRepository.findStudyIdsByUserId(event.getUserId());
+        for (RankingSnapshot.Scope scope : RankingSnapshot.Scope.values()) {
+            if (scope.isStudyRanking()) {
+                rankingVersions.bump(scope, GLOBAL_SCOPE_ID);
+            } else {
+                studyIds.forEach(studyId -> rankingVersions.bump(scope, studyId));
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(StudyMembershipChangedEvent event) {
+        Long studyId = event.getStudyId();
+        // 스터디 집계는 가입 이후 기록만 쌓이므로 전체 스터디 랭킹은 스터디가 생기거나 없어질 때만 바뀜
+        boolean studyListChanged = event.getType() == StudyMembershipChangedEvent.Type.STUDY_CREATED
+                || event.getType() == StudyMembershipChangedEvent.Type.STUDY_DELETED;
+        for (RankingSnapshot.Scope scope : RankingSnapshot.Scope.values()) {
+            if (!scope.isStudyRanking()) {
+                rankingVersions.bump(scope, studyId);
+            } else if (studyListChanged) {
+                rankingVersions.bump(scope, GLOBAL_SCOPE_ID);
+            }
+        }
+    }
+
+    private record VersionedKey(RankingCacheKey key, long version) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 랭킹 캐시 키 (범위, 스터디 ID, 기간)
+ * 전체 스터디 랭킹은 studyId 를 0 으로 둔다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(staticName = "of")
+public class RankingCacheKey {
+
+    private final RankingSnapshot.Scope scope;
+    private final Long studyId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
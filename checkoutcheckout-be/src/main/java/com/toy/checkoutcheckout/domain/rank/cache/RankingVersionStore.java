@@ -0,0 +1,28 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 랭킹 버전 카운터 저장소
+ * 모든 인스턴스가 같은 값을 보도록 운영 환경에서는 Redis 를, 테스트 환경에서는 메모리 구현을 사용한다.
+ *
+ * 카운터가 사라졌다가(예: Redis flush, 재기동) 다시 만들어질 때 이전 값과 겹치지 않도록
+ * 처음 값은 생성 시각(마이크로초)에서 시작한다.
+ */
+public interface RankingVersionStore {
+
+    /**
+     * 현재 버전 (없으면 생성)
+     */
+    long get(String key);
+
+    /**
+     * 버전 증가 후 새 버전 반환
+     */
+    long increment(String key);
+
+    /**
+     * 다른 인스턴스에서 버전이 증가했을 때 (키, 새 버전) 으로 호출될 리스너 등록
+     */
+    void onIncrement(BiConsumer<String, Long> listener);
+}
@@ -0,0 +1,93 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 랭킹 범위별 버전 카운터
+ * 해당 범위의 결과를 바꿀 수 있는 쓰기(타이머 종료, 멤버 변경)가 커밋되면 증가한다.
+ * 버전은 기간을 구분하지 않으므로 지난 기간은 내용이 같아도 버전이 바뀔 수 있다 (보수적).
+ * 카운터는 공유 저장소({@link RankingVersionStore})에 있으므로 어느 인스턴스에서 읽어도 같은 값이다.
+ *
+ * 조회마다 저장소를 왕복하지 않도록 읽은 버전을 로컬에 두고,
+ * 이 인스턴스의 증가와 저장소의 증가 알림(다른 인스턴스)으로 바로 올린다.
+ * 알림을 놓친 경우에도 ranking.cache.version-refresh-ms 가 지나면 저장소에서 다시 읽는다.
+ */
+@Component
+public class RankingVersions {
+
+    private static final String USER_DAILY = "USER_DAILY";
+
+    private final RankingVersionStore rankingVersionStore;
+    private final Cache<String, Long> localVersions;
+
+    public RankingVersions(RankingVersionStore rankingVersionStore,
+                           @Value("${ranking.cache.version-refresh-ms:5000}") long refreshMs) {
+        this.rankingVersionStore = rankingVersionStore;
+        this.localVersions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshMs))
+                .build();
+        rankingVersionStore.onIncrement(this::advance);
+    }
+
+    public long current(RankingSnapshot.Scope scope, Long scopeId) {
+        return current(key(scope.name(), scopeId));
+    }
+
+    public void bump(RankingSnapshot.Scope scope, Long scopeId) {
+        bump(key(scope.name(), scopeId));
+    }
+
+    /**
+     * 전체 사용자 일일 랭킹(리더보드) 버전
+     */
+    public long currentUserDaily() {
+        return current(key(USER_DAILY, 0L));
+    }
+
+    public void bumpUserDaily() {
+        bump(key(USER_DAILY, 0L));
+    }
+
+    /**
+     * 버전과 요청을 구분하는 값(범위, 기간, 조회자 등)으로 강한 ETag 생성
+     */
+    public String etag(long version, Object... parts) {
+        StringBuilder sb = new StringBuilder("\"v").append(version);
+        appendParts(sb, parts);
+        return sb.append('"').toString();
+    }
+
+    // 기간처럼 배열로 넘어온 값은 펼쳐서 붙임
+    private void appendParts(StringBuilder sb, Object[] parts) {
+        for (Object part : parts) {
+            if (part instanceof Object[] nested) {
+                appendParts(sb, nested);
+            } else {
+                sb.append('-').append(part);
+            }
+        }
+    }
+
+    private long current(String key) {
+        return localVersions.get(key, rankingVersionStore::get);
+    }
+
+    private void bump(String key) {
+        advance(key, rankingVersionStore.increment(key));
+    }
+
+    // 알림 순서가 뒤바뀌어도 버전이 내려가지 않도록 큰 값만 반영
+    private void advance(String key, long version) {
+        localVersions.asMap().merge(key, version, Long::max);
+    }
+
+    private String key(String board, Long scopeId) {
+        return board + ":" + scopeId;
+    }
+}
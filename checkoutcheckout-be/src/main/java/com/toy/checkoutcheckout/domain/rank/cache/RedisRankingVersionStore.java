@@ -0,0 +1,85 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis 문자열 카운터(INCR) 기반 랭킹 버전 저장소
+ * 증가할 때마다 "키 새버전" 을 채널에 발행해 다른 인스턴스가 로컬에 둔 버전을 바로 올릴 수 있게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "leaderboard.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRankingVersionStore implements RankingVersionStore {
+
+    private static final String KEY_PREFIX = "ranking:version:";
+    private static final String CHANNEL = "ranking:version:changes";
+
+    // 없으면 생성 시각으로 만든 뒤 조회 (동시에 만들어도 먼저 쓴 값을 사용)
+    private static final RedisScript<Long> GET = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') " +
+            "return tonumber(redis.call('GET', KEYS[1]))", Long.class);
+
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') " +
+            "local version = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PUBLISH', ARGV[2], ARGV[3] .. ' ' .. version) " +
+            "return version", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisRankingVersionStore(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @Override
+    public long get(String key) {
+        Long version = redisTemplate.execute(GET, List.of(KEY_PREFIX + key), initialVersion());
+        return version != null ? version : 0L;
+    }
+
+    @Override
+    public long increment(String key) {
+        Long version = redisTemplate.execute(INCREMENT, List.of(KEY_PREFIX + key), initialVersion(), CHANNEL, key);
+        return version != null ? version : 0L;
+    }
+
+    @Override
+    public void onIncrement(BiConsumer<String, Long> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(' ');
+            try {
+                listener.accept(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                log.warn("Ignoring malformed ranking version message: {}", body, e);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    private String initialVersion() {
+        return String.valueOf(System.currentTimeMillis() * 1000);
+    }
+}
@@ -1,110 +1,273 @@
 package com.toy.checkoutcheckout.domain.rank.controller;
 
+import com.toy.checkoutcheckout.domain.rank.cache.RankingVersions;
 import com.toy.checkoutcheckout.domain.rank.dto.DailyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.MomentumRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.MyRankResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.PercentileResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.RankHistoryResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.RankingChangesResponse;
 import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
 import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.rank.percentile.RankingPeriod;
+import com.toy.checkoutcheckout.domain.rank.service.PercentileService;
+import com.toy.checkoutcheckout.domain.rank.service.RankHistoryService;
 import com.toy.checkoutcheckout.domain.rank.service.RankService;
+import com.toy.checkoutcheckout.domain.rank.stream.StudyRankBroadcaster;
 import com.toy.checkoutcheckout.global.auth.CurrentUser;
 import com.toy.checkoutcheckout.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/ranks")
 @RequiredArgsConstructor
 public class RankController {
 
+    private static final Long GLOBAL_SCOPE_ID = 0L;
+
     private final RankService rankService;
+    private final PercentileService percentileService;
+    private final RankHistoryService rankHistoryService;
+    private final RankingVersions rankingVersions;
+    private final StudyRankBroadcaster studyRankBroadcaster;
 
     @GetMapping("/daily")
     public ResponseEntity<ApiResponse<DailyRankingResponse>> getDailyRanking(
+            WebRequest webRequest,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        String etag = rankingVersions.etag(rankingVersions.currentUserDaily(), "daily", targetDate, cursor, limit);
+        return conditional(webRequest, etag, () -> rankService.getDailyRanking(targetDate, cursor, limit));
+    }
+    
+    // 오늘의 실시간 전체 랭킹 (진행 중인 타이머 시간 포함, 캐시/ETag 없음)
+    @GetMapping("/daily/live")
+    public ResponseEntity<ApiResponse<DailyRankingResponse>> getLiveDailyRanking(
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        DailyRankingResponse response = rankService.getLiveDailyRanking(limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 내 일일 순위와 앞뒤 순위
+    @GetMapping("/daily/me")
+    public ResponseEntity<ApiResponse<MyRankResponse>> getMyDailyRank(
+            WebRequest webRequest,
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "2") int neighbours) {
+        
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        String etag = rankingVersions.etag(rankingVersions.currentUserDaily(),
+                "daily-me", currentUser.getUserId(), targetDate, neighbours);
+        return conditional(webRequest, etag,
+                () -> rankService.getMyDailyRank(currentUser.getUserId(), targetDate, neighbours));
+    }
+    
+    // 전체 모멘텀 랭킹 (최근 공부일수록 가중치가 큼)
+    @GetMapping("/momentum")
+    public ResponseEntity<ApiResponse<MomentumRankingResponse>> getMomentumRanking(
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        MomentumRankingResponse response = rankService.getMomentumRanking(limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 공부시간 백분위 (근사, userId 를 생략하면 내 백분위)
+    @GetMapping("/percentile")
+    public ResponseEntity<ApiResponse<PercentileResponse>> getPercentile(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(defaultValue = "DAILY") RankingPeriod period,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         
-        if (date == null) {
-            date = LocalDate.now();
-        }
+        Long targetUserId = userId != null ? userId : currentUser.getUserId();
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        
+        PercentileResponse response = percentileService.getPercentile(targetUserId, period, targetDate);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 내 일일 순위 추이 (전체 랭킹과 가입한 스터디별, 기본 최근 30일)
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<RankHistoryResponse>> getRankHistory(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         
-        DailyRankingResponse response = rankService.getDailyRanking(date);
+        RankHistoryResponse response = rankHistoryService.getHistory(currentUser.getUserId(), startDate, endDate);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     // 스터디별 일일 랭킹
     @GetMapping("/studies/daily")
     public ResponseEntity<ApiResponse<StudyRankingResponse>> getDailyStudyRanking(
+            WebRequest webRequest,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        String etag = studyEtag(RankingSnapshot.Scope.STUDY_DAILY, targetDate);
+        return conditional(webRequest, etag, () -> rankService.getDailyStudyRanking(targetDate));
+    }
+    
+    // 스터디별 일일 랭킹 변경분 (since 버전 이후)
+    @GetMapping("/studies/daily/changes")
+    public ResponseEntity<ApiResponse<RankingChangesResponse>> getDailyStudyRankingChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "0") long since) {
+        
         if (date == null) {
             date = LocalDate.now();
         }
         
-        StudyRankingResponse response = rankService.getDailyStudyRanking(date);
+        RankingChangesResponse response = rankService.getDailyStudyRankingChanges(date, since);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     // 스터디별 주간 랭킹
     @GetMapping("/studies/weekly")
     public ResponseEntity<ApiResponse<StudyRankingResponse>> getWeeklyStudyRanking(
+            WebRequest webRequest,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         
-        StudyRankingResponse response = rankService.getWeeklyStudyRanking(startDate, endDate);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        String etag = studyEtag(RankingSnapshot.Scope.STUDY_WEEKLY, startDate, endDate);
+        return conditional(webRequest, etag, () -> rankService.getWeeklyStudyRanking(startDate, endDate));
     }
     
     // 스터디별 월간 랭킹
     @GetMapping("/studies/monthly")
     public ResponseEntity<ApiResponse<StudyRankingResponse>> getMonthlyStudyRanking(
+            WebRequest webRequest,
             @RequestParam int year,
             @RequestParam int month) {
         
-        StudyRankingResponse response = rankService.getMonthlyStudyRanking(year, month);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        String etag = studyEtag(RankingSnapshot.Scope.STUDY_MONTHLY, year, month);
+        return conditional(webRequest, etag, () -> rankService.getMonthlyStudyRanking(year, month));
     }
     
     // 스터디 내 일일 랭킹
     @GetMapping("/studies/{studyId}/daily")
     public ResponseEntity<ApiResponse<StudyMemberRankingResponse>> getStudyMemberDailyRanking(
+            WebRequest webRequest,
             @AuthenticationPrincipal CurrentUser currentUser,
             @PathVariable Long studyId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        String etag = memberEtag(RankingSnapshot.Scope.MEMBER_DAILY, studyId, currentUser, targetDate);
+        return conditional(webRequest, etag, () -> rankService.getStudyMemberDailyRanking(
+                currentUser.getUserId(), studyId, targetDate));
+    }
+    
+    // 오늘의 스터디 내 실시간 랭킹 (진행 중인 타이머 시간 포함)
+    @GetMapping("/studies/{studyId}/daily/live")
+    public ResponseEntity<ApiResponse<StudyMemberRankingResponse>> getLiveStudyMemberDailyRanking(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @PathVariable Long studyId) {
+        
+        StudyMemberRankingResponse response = rankService.getLiveStudyMemberDailyRanking(
+                currentUser.getUserId(), studyId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 스터디 내 일일 랭킹 변경분 (since 버전 이후)
+    @GetMapping("/studies/{studyId}/daily/changes")
+    public ResponseEntity<ApiResponse<RankingChangesResponse>> getStudyMemberDailyRankingChanges(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @PathVariable Long studyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "0") long since) {
+        
         if (date == null) {
             date = LocalDate.now();
         }
         
-        StudyMemberRankingResponse response = rankService.getStudyMemberDailyRanking(
-                currentUser.getUserId(), studyId, date);
+        RankingChangesResponse response = rankService.getStudyMemberDailyRankingChanges(
+                currentUser.getUserId(), studyId, date, since);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 스터디 내 일일 랭킹 실시간 스트림 (SSE: snapshot 이후 delta)
+    @GetMapping(value = "/studies/{studyId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStudyMemberDailyRanking(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @PathVariable Long studyId) {
+        
+        // 멤버 확인과 첫 데이터는 일반 일일 랭킹 조회와 동일
+        StudyMemberRankingResponse today = rankService.getStudyMemberDailyRanking(
+                currentUser.getUserId(), studyId, LocalDate.now());
+        return studyRankBroadcaster.subscribe(currentUser.getUserId(), today);
+    }
+    
+    // 스터디 내 모멘텀 랭킹
+    @GetMapping("/studies/{studyId}/momentum")
+    public ResponseEntity<ApiResponse<MomentumRankingResponse>> getStudyMomentumRanking(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @PathVariable Long studyId) {
+        
+        MomentumRankingResponse response = rankService.getStudyMomentumRanking(currentUser.getUserId(), studyId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     // 스터디 내 주간 랭킹
     @GetMapping("/studies/{studyId}/weekly")
     public ResponseEntity<ApiResponse<StudyMemberRankingResponse>> getStudyMemberWeeklyRanking(
+            WebRequest webRequest,
             @AuthenticationPrincipal CurrentUser currentUser,
             @PathVariable Long studyId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         
-        StudyMemberRankingResponse response = rankService.getStudyMemberWeeklyRanking(
-                currentUser.getUserId(), studyId, startDate, endDate);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        String etag = memberEtag(RankingSnapshot.Scope.MEMBER_WEEKLY, studyId, currentUser, startDate, endDate);
+        return conditional(webRequest, etag, () -> rankService.getStudyMemberWeeklyRanking(
+                currentUser.getUserId(), studyId, startDate, endDate));
     }
     
     // 스터디 내 월간 랭킹
     @GetMapping("/studies/{studyId}/monthly")
     public ResponseEntity<ApiResponse<StudyMemberRankingResponse>> getStudyMemberMonthlyRanking(
+            WebRequest webRequest,
             @AuthenticationPrincipal CurrentUser currentUser,
             @PathVariable Long studyId,
             @RequestParam int year,
             @RequestParam int month) {
         
-        StudyMemberRankingResponse response = rankService.getStudyMemberMonthlyRanking(
-                currentUser.getUserId(), studyId, year, month);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        String etag = memberEtag(RankingSnapshot.Scope.MEMBER_MONTHLY, studyId, currentUser, year, month);
+        return conditional(webRequest, etag, () -> rankService.getStudyMemberMonthlyRanking(
+                currentUser.getUserId(), studyId, year, month));
+    }
+    
+    private String studyEtag(RankingSnapshot.Scope scope, Object... period) {
+        return rankingVersions.etag(rankingVersions.current(scope, GLOBAL_SCOPE_ID), scope, period);
+    }
+    
+    // 멤버 구성이 바뀌면 버전이 오르므로, 일치하는 ETag 는 이전에 멤버 확인을 통과한 사용자에게만 발급된 것
+    private String memberEtag(RankingSnapshot.Scope scope, Long studyId, CurrentUser currentUser, Object... period) {
+        return rankingVersions.etag(rankingVersions.current(scope, studyId),
+                scope, studyId, currentUser.getUserId(), period);
+    }
+    
+    // If-None-Match 가 현재 버전과 같으면 DB 조회 없이 304 응답
+    private <T> ResponseEntity<ApiResponse<T>> conditional(WebRequest webRequest, String etag, Supplier<T> loader) {
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(loader.get()));
     }
-}
\ No newline at end of file
+}
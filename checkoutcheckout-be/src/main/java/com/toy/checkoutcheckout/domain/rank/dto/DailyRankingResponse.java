@@ -28,4 +28,6 @@ public class DailyRankingResponse {
     
     private LocalDate date;
     private List<RankEntry> rankings;
+    private Long totalParticipants; // 해당 날짜에 공부 기록이 있는 사용자 수
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
 }
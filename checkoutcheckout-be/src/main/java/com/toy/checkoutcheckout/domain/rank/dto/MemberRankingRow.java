@@ -0,0 +1,13 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+/**
+ * 스터디 멤버 랭킹 조회 프로젝션 (캐릭터 타입까지 한 번의 쿼리로 조회)
+ */
+public record MemberRankingRow(Long userId, String nickname, String characterType, Long studyTime)
+        implements RankingRow {
+
+    @Override
+    public Long id() {
+        return userId;
+    }
+}
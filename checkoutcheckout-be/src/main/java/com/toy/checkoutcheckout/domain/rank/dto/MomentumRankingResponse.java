@@ -0,0 +1,31 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MomentumRankingResponse {
+
+    private Long studyId; // 전체 랭킹이면 null
+    private Long halfLifeDays; // 이 기간이 지난 공부시간은 절반만 반영
+    private List<RankEntry> rankings;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RankEntry {
+        private int rank;
+        private Long userId;
+        private String nickname;
+        private String characterType;
+        private Long momentum; // 현재 시점으로 감쇠된 공부시간 (초 단위)
+    }
+}
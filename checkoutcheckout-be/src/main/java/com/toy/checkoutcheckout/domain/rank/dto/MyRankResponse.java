@@ -0,0 +1,21 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyRankResponse {
+
+    private LocalDate date;
+    private Long totalParticipants;
+    private DailyRankingResponse.RankEntry me; // 기록이 없으면 rank 가 null
+    private List<DailyRankingResponse.RankEntry> neighbours; // 내 앞뒤 순위 (나 포함)
+}
@@ -0,0 +1,27 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+import com.toy.checkoutcheckout.domain.rank.percentile.RankingPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PercentileResponse {
+
+    private Long userId;
+    private RankingPeriod period;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long studyTime; // 초 단위
+    private Long totalParticipants; // 근사값 (기록이 있는 사용자 수)
+    private Double topPercent; // 상위 몇 % 인지, 기록이 없으면 null
+    private Double topPercentMin; // 같은 버킷 사용자 사이의 순서를 모르므로 생기는 범위
+    private Double topPercentMax;
+    private Double relativeError; // 공부시간 기준 상대 오차 한계
+}
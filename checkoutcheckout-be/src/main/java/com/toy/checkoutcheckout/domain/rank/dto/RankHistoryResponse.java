@@ -0,0 +1,39 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankHistoryResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<Series> series; // 첫 항목은 전체 랭킹, 이후 가입한 스터디별
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Series {
+        private Long studyId; // 전체 랭킹이면 null
+        private String studyName;
+        private List<Point> points; // 기간 내 모든 날짜 (기록이 없는 날은 rank 가 null)
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDate date;
+        private Integer rank; // 1부터, 65535 이상은 65535
+        private Integer totalParticipants;
+    }
+}
@@ -0,0 +1,36 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 특정 버전 이후 순위나 공부시간이 바뀐 항목
+ * 요청한 버전을 더 이상 보관하지 않으면 full=true 와 함께 전체 목록을 반환한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingChangesResponse {
+
+    private Long sinceVersion;
+    private Long version; // 다음 요청의 since 값
+    private boolean full;
+    private List<Entry> changes;
+    private List<Long> removed; // 랭킹에서 빠진 항목 ID
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long id; // 스터디 랭킹은 스터디 ID, 스터디 내 랭킹은 사용자 ID
+        private String name;
+        private int rank;
+        private Long studyTime; // 초 단위
+    }
+}
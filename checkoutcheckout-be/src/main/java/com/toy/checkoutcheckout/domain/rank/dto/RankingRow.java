@@ -0,0 +1,11 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+/**
+ * 랭킹 조회 결과 한 행 (순위 순서로 정렬되어 반환됨)
+ */
+public sealed interface RankingRow permits StudyRankingRow, MemberRankingRow {
+
+    Long id();
+
+    Long studyTime(); // 초 단위
+}
@@ -0,0 +1,41 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 스터디 내 실시간 랭킹 변경분 (SSE "delta" 이벤트)
+ * 순위나 상태가 바뀐 멤버만 담는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyRankDelta {
+
+    private Long studyId;
+    private LocalDate date;
+    private Long userId; // 변경을 일으킨 멤버
+    private Type type;
+    private List<Change> changes;
+
+    public enum Type {
+        STARTED, STOPPED, JOINED, LEFT
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private Long userId;
+        private int rank; // 제외된 멤버는 0
+        private Long studyTime; // 초 단위
+        private boolean active; // 타이머 진행 중 여부
+    }
+}
@@ -0,0 +1,12 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+/**
+ * 스터디 랭킹 조회 프로젝션
+ */
+public record StudyRankingRow(Long studyId, String studyName, Long studyTime) implements RankingRow {
+
+    @Override
+    public Long id() {
+        return studyId;
+    }
+}
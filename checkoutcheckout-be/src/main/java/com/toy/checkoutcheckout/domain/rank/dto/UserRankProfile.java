@@ -0,0 +1,7 @@
+package com.toy.checkoutcheckout.domain.rank.dto;
+
+/**
+ * 랭킹 표시에 필요한 사용자 정보 프로젝션
+ */
+public record UserRankProfile(Long userId, String nickname, String characterType) {
+}
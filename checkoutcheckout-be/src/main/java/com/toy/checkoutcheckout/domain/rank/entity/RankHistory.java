@@ -0,0 +1,81 @@
+package com.toy.checkoutcheckout.domain.rank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * 사용자의 일일 최종 순위 기록 (사용자, 범위, 연도당 한 행)
+ * payload 는 그 해의 날짜(1~366)마다 [순위(unsigned short)] [참가자 수(unsigned short)] 4바이트 고정 폭이다.
+ * 순위 0 은 기록 없음, 65535 를 넘는 값은 65535 로 저장한다.
+ */
+@Entity
+@Table(name = "rank_histories",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "scope_id", "year"}),
+       indexes = @Index(name = "idx_rank_histories_scope_year", columnList = "scope_id, year"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankHistory {
+
+    public static final long GLOBAL_SCOPE_ID = 0L;
+    private static final int BYTES_PER_DAY = 4;
+    private static final int DAYS = 366;
+    private static final int MAX_VALUE = 0xFFFF;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId; // 전체 랭킹이면 0, 스터디 내 랭킹이면 스터디 ID
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false, length = DAYS * BYTES_PER_DAY)
+    private byte[] payload;
+
+    public static RankHistory empty(Long userId, Long scopeId, int year) {
+        return RankHistory.builder()
+                .userId(userId)
+                .scopeId(scopeId)
+                .year(year)
+                .payload(new byte[DAYS * BYTES_PER_DAY])
+                .build();
+    }
+
+    public void record(LocalDate date, long rank, long participants) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int offset = offset(date);
+        buffer.putShort(offset, (short) Math.min(rank, MAX_VALUE));
+        buffer.putShort(offset + 2, (short) Math.min(participants, MAX_VALUE));
+    }
+
+    /**
+     * 해당 날짜의 순위, 기록이 없으면 0
+     */
+    public int rankOn(LocalDate date) {
+        return Short.toUnsignedInt(ByteBuffer.wrap(payload).getShort(offset(date)));
+    }
+
+    public int participantsOn(LocalDate date) {
+        return Short.toUnsignedInt(ByteBuffer.wrap(payload).getShort(offset(date) + 2));
+    }
+
+    private int offset(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("Date " + date + " is outside rank history year " + year);
+        }
+        return (date.getDayOfYear() - 1) * BYTES_PER_DAY;
+    }
+}
@@ -0,0 +1,67 @@
+package com.toy.checkoutcheckout.domain.rank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 자정 랭킹 사전 계산 실행 기록 (마감일당 한 행)
+ * 완료되지 않은 실행은 다시 시작되며, 이미 저장된 스냅샷은 건너뛰므로 실패한 구간만 다시 계산된다.
+ */
+@Entity
+@Table(name = "ranking_precompute_runs",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"closed_date"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingPrecomputeRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "closed_date", nullable = false)
+    private LocalDate closedDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "total_partitions", nullable = false)
+    private Integer totalPartitions;
+
+    @Column(name = "failed_partitions", nullable = false)
+    private Integer failedPartitions;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public void start(int partitions) {
+        this.status = Status.RUNNING;
+        this.attempts += 1;
+        this.totalPartitions = partitions;
+        this.failedPartitions = 0;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+    }
+
+    public void finish(int failed) {
+        this.status = failed == 0 ? Status.COMPLETED : Status.FAILED;
+        this.failedPartitions = failed;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
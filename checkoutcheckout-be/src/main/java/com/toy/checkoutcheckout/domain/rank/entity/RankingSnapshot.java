@@ -0,0 +1,67 @@
+package com.toy.checkoutcheckout.domain.rank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 종료된 기간의 랭킹 스냅샷
+ * 순위 순서대로 (id, 공부시간) 쌍을 압축 인코딩한 payload 를 저장한다.
+ * 이름/캐릭터 같은 표시 정보는 조회 시점에 채운다.
+ */
+@Entity
+@Table(name = "ranking_snapshots",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"scope", "scope_id", "start_date", "end_date"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Scope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId; // 스터디 내 랭킹이면 스터디 ID, 전체 스터디 랭킹이면 0
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public enum Scope {
+        STUDY_DAILY, STUDY_WEEKLY, STUDY_MONTHLY,
+        MEMBER_DAILY, MEMBER_WEEKLY, MEMBER_MONTHLY;
+
+        // 전체 스터디 랭킹(항목 id 가 스터디 id)인지 여부
+        public boolean isStudyRanking() {
+            return this == STUDY_DAILY || this == STUDY_WEEKLY || this == STUDY_MONTHLY;
+        }
+    }
+}
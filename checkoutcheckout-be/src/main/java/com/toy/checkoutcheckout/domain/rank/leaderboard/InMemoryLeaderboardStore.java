@@ -0,0 +1,145 @@
+package com.toy.checkoutcheckout.domain.rank.leaderboard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 메모리 기반 리더보드 저장소
+ * Redis 없이 실행되는 테스트/로컬 환경용 (leaderboard.store=memory)
+ * 순위 조회가 O(log n) 이 되도록 순위 트리({@link RankedTree})로 정렬 상태를 유지한다.
+ * 만료 시간(ttl)은 적용하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "leaderboard.store", havingValue = "memory")
+public class InMemoryLeaderboardStore implements LeaderboardStore {
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isReady(String board) {
+        Board target = boards.get(board);
+        return target != null && target.ready;
+    }
+
+    @Override
+    public void replace(String board, Map<Long, Double> scores, Duration ttl) {
+        Board target = boards.computeIfAbsent(board, key -> new Board());
+        synchronized (target) {
+            scores.forEach(target::raise);
+            target.ready = true;
+        }
+    }
+
+    @Override
+    public void raise(String board, Long memberId, double score) {
+        Board target = boards.computeIfAbsent(board, key -> new Board());
+        synchronized (target) {
+            target.raise(memberId, score);
+        }
+    }
+
+    @Override
+    public void invalidate(String board) {
+        Board target = boards.get(board);
+        if (target != null) {
+            target.ready = false;
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> findAll(String board) {
+        return findRange(board, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<LeaderboardEntry> findRange(String board, long offset, int limit) {
+        Board target = boards.get(board);
+        if (target == null || limit <= 0 || offset >= Integer.MAX_VALUE) {
+            return new ArrayList<>();
+        }
+        synchronized (target) {
+            return target.ordered.range((int) offset, limit);
+        }
+    }
+
+    @Override
+    public Long findRank(String board, Long memberId) {
+        Board target = boards.get(board);
+        if (target == null) {
+            return null;
+        }
+        synchronized (target) {
+            Double score = target.scores.get(memberId);
+            return score != null ? (long) target.ordered.rankOf(memberId, score) : null;
+        }
+    }
+
+    @Override
+    public Double findScore(String board, Long memberId) {
+        Board target = boards.get(board);
+        if (target == null) {
+            return null;
+        }
+        synchronized (target) {
+            return target.scores.get(memberId);
+        }
+    }
+
+    @Override
+    public Map<Long, Double> findScores(String board, Collection<Long> memberIds) {
+        Map<Long, Double> result = new HashMap<>();
+        Board target = boards.get(board);
+        if (target == null) {
+            return result;
+        }
+        synchronized (target) {
+            for (Long memberId : memberIds) {
+                Double score = target.scores.get(memberId);
+                if (score != null) {
+                    result.put(memberId, score);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long count(String board) {
+        Board target = boards.get(board);
+        if (target == null) {
+            return 0L;
+        }
+        synchronized (target) {
+            return target.ordered.size();
+        }
+    }
+
+    private static class Board {
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final RankedTree ordered = new RankedTree();
+        private volatile boolean ready;
+
+        private void put(Long memberId, double score) {
+            Double previous = scores.put(memberId, score);
+            if (previous != null) {
+                ordered.delete(memberId, previous);
+            }
+            ordered.insert(memberId, score);
+        }
+
+        private void raise(Long memberId, double score) {
+            Double current = scores.get(memberId);
+            if (current == null || current < score) {
+                put(memberId, score);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.toy.checkoutcheckout.domain.rank.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리더보드(정렬 집합)의 한 항목
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntry {
+
+    private final Long memberId;
+    private final double score;
+}
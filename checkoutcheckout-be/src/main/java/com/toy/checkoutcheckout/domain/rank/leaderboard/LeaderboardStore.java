@@ -0,0 +1,69 @@
+package com.toy.checkoutcheckout.domain.rank.leaderboard;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 기준 내림차순으로 정렬된 리더보드 저장소
+ * 운영 환경에서는 Redis 정렬 집합(sorted set)을, 테스트 환경에서는 메모리 구현을 사용한다.
+ *
+ * 저장소가 비워졌을 때(예: Redis flush) "아무도 공부하지 않은 날"과 구분할 수 있도록
+ * 재구성이 끝난 보드에는 준비(ready) 표시를 남긴다.
+ */
+public interface LeaderboardStore {
+
+    /**
+     * 보드가 준비 상태인지 확인 (재구성 또는 최초 적재가 완료된 상태)
+     */
+    boolean isReady(String board);
+
+    /**
+     * 재구성한 점수를 보드에 한 번에 반영하고 준비 상태로 표시
+     * 읽는 쪽은 반영 전 보드나 반영이 끝난 보드만 보며, 비어 있거나 일부만 채워진 보드가 준비 상태로 보이지 않는다.
+     * 재구성 중 {@link #raise} 로 더 큰 점수가 먼저 들어온 멤버는 그 점수를 유지한다.
+     */
+    void replace(String board, Map<Long, Double> scores, Duration ttl);
+
+    /**
+     * 멤버의 점수가 score 보다 작으면(또는 없으면) score 로 올린다.
+     * 커밋된 합계처럼 줄어들지 않는 값을 반영할 때 사용하므로 같은 값이 여러 번, 어떤 순서로 들어와도 결과가 같다.
+     */
+    void raise(String board, Long memberId, double score);
+
+    /**
+     * 보드의 준비 표시를 제거하여 다음 조회 시 재구성되도록 한다.
+     */
+    void invalidate(String board);
+
+    /**
+     * 점수 내림차순으로 전체 항목 조회
+     */
+    List<LeaderboardEntry> findAll(String board);
+
+    /**
+     * 순위 offset(0부터)부터 최대 limit 개 항목 조회
+     */
+    List<LeaderboardEntry> findRange(String board, long offset, int limit);
+
+    /**
+     * 멤버의 0부터 시작하는 순위, 보드에 없으면 null
+     */
+    Long findRank(String board, Long memberId);
+
+    /**
+     * 멤버의 점수, 보드에 없으면 null
+     */
+    Double findScore(String board, Long memberId);
+
+    /**
+     * 여러 멤버의 점수를 한 번에 조회 (보드에 없는 멤버는 결과에서 빠짐)
+     */
+    Map<Long, Double> findScores(String board, Collection<Long> memberIds);
+
+    /**
+     * 보드에 등록된 멤버 수
+     */
+    long count(String board);
+}
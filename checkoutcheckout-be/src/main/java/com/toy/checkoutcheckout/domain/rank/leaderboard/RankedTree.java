@@ -0,0 +1,172 @@
+package com.toy.checkoutcheckout.domain.rank.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 내림차순(동점은 memberId 오름차순)으로 정렬된 순위 트리
+ * 서브트리 크기를 함께 저장하는 트리프(treap)로, 삽입/삭제/순위 조회/구간 조회가 모두 O(log n) 이다.
+ * 동기화는 호출하는 쪽에서 책임진다.
+ */
+class RankedTree {
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(Long memberId, double score) {
+        root = insert(root, new Node(memberId, score));
+    }
+
+    void delete(Long memberId, double score) {
+        root = delete(root, memberId, score);
+    }
+
+    /**
+     * 0부터 시작하는 순위 (앞선 항목의 수)
+     */
+    int rankOf(Long memberId, double score) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(memberId, score, node);
+            if (cmp == 0) {
+                return rank + size(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 순위 offset 부터 최대 limit 개 항목을 순서대로 조회
+     */
+    List<LeaderboardEntry> range(int offset, int limit) {
+        int to = (int) Math.min((long) offset + limit, size());
+        List<LeaderboardEntry> result = new ArrayList<>(Math.max(0, to - offset));
+        collect(root, offset, to, 0, result);
+        return result;
+    }
+
+    private void collect(Node node, int from, int to, int base, List<LeaderboardEntry> result) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int leftSize = size(node.left);
+        int position = base + leftSize;
+        if (from < position) {
+            collect(node.left, from, to, base, result);
+        }
+        if (from <= position && position < to) {
+            result.add(new LeaderboardEntry(node.memberId, node.score));
+        }
+        if (position + 1 < to) {
+            collect(node.right, from, to, position + 1, result);
+        }
+    }
+
+    private Node insert(Node node, Node target) {
+        if (node == null) {
+            return target;
+        }
+        if (compare(target.memberId, target.score, node) < 0) {
+            node.left = insert(node.left, target);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, target);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node delete(Node node, Long memberId, double score) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(memberId, score, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, memberId, score);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, memberId, score);
+        } else {
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static int compare(Long memberId, double score, Node node) {
+        int cmp = Double.compare(node.score, score); // 점수 내림차순
+        return cmp != 0 ? cmp : Long.compare(memberId, node.memberId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static class Node {
+        private final Long memberId;
+        private final double score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Long memberId, double score) {
+            this.memberId = memberId;
+            this.score = score;
+        }
+    }
+}
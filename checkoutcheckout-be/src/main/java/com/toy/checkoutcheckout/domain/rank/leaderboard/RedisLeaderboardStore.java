@@ -0,0 +1,165 @@
+package com.toy.checkoutcheckout.domain.rank.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 정렬 집합(ZSET) 기반 리더보드 저장소
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leaderboard.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final String READY_SUFFIX = ":ready";
+    private static final String BUILD_SUFFIX = ":build:";
+    private static final Duration BUILD_TTL = Duration.ofMinutes(10); // 재구성 도중 실패하면 임시 키는 이 시간 뒤 사라짐
+
+    // 임시 키에 적재한 재구성 결과를 기존 보드와 합쳐(멤버별 큰 값) 보드 이름으로 옮기고 준비 표시까지 한 번에 처리
+    private static final RedisScript<Long> SWAP = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[3]) == 1 then " +
+            "  redis.call('ZUNIONSTORE', KEYS[3], 2, KEYS[3], KEYS[1], 'AGGREGATE', 'MAX') " +
+            "  redis.call('RENAME', KEYS[3], KEYS[1]) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('SET', KEYS[2], '1', 'PX', ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 현재 점수보다 클 때만 기록하고, 보드 만료 시간을 준비 표시에 맞춤
+    private static final RedisScript<Long> RAISE = new DefaultRedisScript<>(
+            "local current = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if current and tonumber(current) >= tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "local ttl = redis.call('PTTL', KEYS[2]) " +
+            "if ttl > 0 then redis.call('PEXPIRE', KEYS[1], ttl) end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean isReady(String board) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(readyKey(board)));
+    }
+
+    @Override
+    public void replace(String board, Map<Long, Double> scores, Duration ttl) {
+        // 재구성마다 다른 임시 키에 적재하므로 동시에 재구성해도 서로의 결과를 덮지 않음
+        String buildKey = key(board) + BUILD_SUFFIX + UUID.randomUUID();
+        if (!scores.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(entry.getKey()), entry.getValue()));
+            }
+            redisTemplate.opsForZSet().add(buildKey, tuples);
+            redisTemplate.expire(buildKey, BUILD_TTL);
+        }
+
+        redisTemplate.execute(SWAP, List.of(key(board), readyKey(board), buildKey), String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public void raise(String board, Long memberId, double score) {
+        redisTemplate.execute(RAISE, List.of(key(board), readyKey(board)),
+                String.valueOf(memberId), String.valueOf(score));
+    }
+
+    @Override
+    public void invalidate(String board) {
+        redisTemplate.delete(readyKey(board));
+    }
+
+    @Override
+    public List<LeaderboardEntry> findAll(String board) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key(board), 0, -1);
+        return toEntries(tuples);
+    }
+
+    @Override
+    public List<LeaderboardEntry> findRange(String board, long offset, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key(board), offset, offset + limit - 1);
+        return toEntries(tuples);
+    }
+
+    @Override
+    public Long findRank(String board, Long memberId) {
+        return redisTemplate.opsForZSet().reverseRank(key(board), String.valueOf(memberId));
+    }
+
+    @Override
+    public Double findScore(String board, Long memberId) {
+        return redisTemplate.opsForZSet().score(key(board), String.valueOf(memberId));
+    }
+
+    @Override
+    public Map<Long, Double> findScores(String board, Collection<Long> memberIds) {
+        Map<Long, Double> result = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return result;
+        }
+
+        // ZMSCORE 한 번으로 조회 (순서는 요청 순서와 같음)
+        List<Long> ids = new ArrayList<>(memberIds);
+        Object[] members = new Object[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            members[i] = String.valueOf(ids.get(i));
+        }
+        List<Double> scores = redisTemplate.opsForZSet().score(key(board), members);
+        if (scores == null) {
+            return result;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (scores.get(i) != null) {
+                result.put(ids.get(i), scores.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long count(String board) {
+        Long count = redisTemplate.opsForZSet().zCard(key(board));
+        return count != null ? count : 0L;
+    }
+
+    private List<LeaderboardEntry> toEntries(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        if (tuples == null) {
+            return entries;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            double score = tuple.getScore() != null ? tuple.getScore() : 0d;
+            entries.add(new LeaderboardEntry(Long.valueOf(tuple.getValue()), score));
+        }
+        return entries;
+    }
+
+    private String key(String board) {
+        return KEY_PREFIX + board;
+    }
+
+    private String readyKey(String board) {
+        return KEY_PREFIX + board + READY_SUFFIX;
+    }
+}
@@ -0,0 +1,71 @@
+package com.toy.checkoutcheckout.domain.rank.percentile;
+
+/**
+ * 사용자별 공부시간(초)의 로그 스케일 고정 버킷 히스토그램
+ *
+ * 값 v(>0) 는 버킷 ceil(log_γ v) 에 들어가며 γ = (1 + α) / (1 - α) 이다.
+ * 같은 버킷의 값들은 버킷 대표값과 상대 오차 α 이내이므로, 보고되는 백분위는
+ * 실제 공부시간의 ±α 범위 안에 있는 어떤 값의 정확한 백분위와 같다.
+ * (같은 버킷에 있는 사용자 사이의 순서는 구분하지 않음)
+ *
+ * 버킷 수는 α 와 최대값으로만 정해지므로 조회 비용은 사용자 수와 무관하다.
+ * 동기화는 호출하는 쪽에서 처리한다.
+ */
+public class PercentileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.02;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final long MAX_VALUE = 31L * 24 * 60 * 60; // 한 달 내내 공부한 경우
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    /**
+     * 값 하나를 추가(delta=1) 또는 제거(delta=-1)
+     */
+    public void add(long value, long delta) {
+        if (value <= 0) {
+            return; // 기록이 없는 사용자는 순위 대상이 아님
+        }
+        counts[index(value)] += delta;
+        total += delta;
+    }
+
+    /**
+     * 사용자의 합계가 before 에서 after 로 바뀐 경우
+     */
+    public void move(long before, long after) {
+        add(before, -1);
+        add(after, 1);
+    }
+
+    public long total() {
+        return total;
+    }
+
+    /**
+     * value 보다 확실히 큰 값의 개수 (더 높은 버킷의 합)
+     */
+    public long countAbove(long value) {
+        int from = value <= 0 ? 0 : index(value) + 1;
+        long above = 0;
+        for (int i = from; i < BUCKETS; i++) {
+            above += counts[i];
+        }
+        return above;
+    }
+
+    /**
+     * value 와 같은 버킷(구분할 수 없는 값)의 개수
+     */
+    public long countSameBucket(long value) {
+        return value <= 0 ? 0 : counts[index(value)];
+    }
+
+    static int index(long value) {
+        long clamped = Math.min(Math.max(value, 1L), MAX_VALUE);
+        return (int) Math.ceil(Math.log(clamped) / LOG_GAMMA);
+    }
+}
@@ -0,0 +1,27 @@
+package com.toy.checkoutcheckout.domain.rank.percentile;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 랭킹 집계 기간 (주간은 월요일 ~ 일요일)
+ */
+public enum RankingPeriod {
+    DAILY, WEEKLY, MONTHLY;
+
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(DayOfWeek.MONDAY);
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate endOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(DayOfWeek.SUNDAY);
+            case MONTHLY -> date.withDayOfMonth(date.lengthOfMonth());
+        };
+    }
+}
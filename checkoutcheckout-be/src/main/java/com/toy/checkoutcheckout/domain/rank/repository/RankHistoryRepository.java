@@ -0,0 +1,31 @@
+package com.toy.checkoutcheckout.domain.rank.repository;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RankHistoryRepository extends JpaRepository<RankHistory, Long> {
+
+    // 사용자의 모든 범위 기록 (연도 범위)
+    @Query("SELECT h FROM RankHistory h WHERE h.userId = :userId AND h.year BETWEEN :startYear AND :endYear")
+    List<RankHistory> findByUserIdAndYears(@Param("userId") Long userId,
+                                           @Param("startYear") int startYear,
+                                           @Param("endYear") int endYear);
+
+    @Query("SELECT h FROM RankHistory h WHERE h.scopeId = :scopeId AND h.year = :year AND h.userId IN :userIds")
+    List<RankHistory> findByScopeAndYearAndUserIds(@Param("scopeId") Long scopeId,
+                                                   @Param("year") int year,
+                                                   @Param("userIds") Collection<Long> userIds);
+
+    // 스터디 삭제 시 스터디 내 순위 기록 삭제
+    @Modifying
+    @Query("DELETE FROM RankHistory h WHERE h.scopeId = :scopeId")
+    int deleteByScopeId(@Param("scopeId") Long scopeId);
+}
@@ -0,0 +1,21 @@
+package com.toy.checkoutcheckout.domain.rank.repository;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankingPrecomputeRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RankingPrecomputeRunRepository extends JpaRepository<RankingPrecomputeRun, Long> {
+
+    Optional<RankingPrecomputeRun> findByClosedDate(LocalDate closedDate);
+
+    List<RankingPrecomputeRun> findByStatusNotOrderByClosedDateAsc(RankingPrecomputeRun.Status status);
+
+    @Query("SELECT MAX(r.closedDate) FROM RankingPrecomputeRun r")
+    LocalDate findMaxClosedDate();
+}
@@ -0,0 +1,31 @@
+package com.toy.checkoutcheckout.domain.rank.repository;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface RankingSnapshotRepository extends JpaRepository<RankingSnapshot, Long> {
+
+    Optional<RankingSnapshot> findByScopeAndScopeIdAndStartDateAndEndDate(RankingSnapshot.Scope scope,
+                                                                         Long scopeId,
+                                                                         LocalDate startDate,
+                                                                         LocalDate endDate);
+
+    boolean existsByScopeAndScopeIdAndStartDateAndEndDate(RankingSnapshot.Scope scope,
+                                                          Long scopeId,
+                                                          LocalDate startDate,
+                                                          LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM RankingSnapshot r WHERE r.scope IN :scopes AND r.scopeId = :scopeId")
+    int deleteByScopesAndScopeId(@Param("scopes") Collection<RankingSnapshot.Scope> scopes,
+                                 @Param("scopeId") Long scopeId);
+}
@@ -0,0 +1,238 @@
+package com.toy.checkoutcheckout.domain.rank.scheduler;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankingPrecomputeRun;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.rank.repository.RankingPrecomputeRunRepository;
+import com.toy.checkoutcheckout.domain.rank.service.RangeRankingService;
+import com.toy.checkoutcheckout.domain.rank.service.RankHistoryService;
+import com.toy.checkoutcheckout.domain.rank.service.RankingSnapshotService;
+import com.toy.checkoutcheckout.domain.study.entity.Study;
+import com.toy.checkoutcheckout.domain.study.repository.StudyRepository;
+import com.toy.checkoutcheckout.domain.timer.event.ActiveTimersClosedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.StudyDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.global.lease.ClusterSingleton;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자정 세션 정리 직후 방금 마감된 기간(어제, 지난주, 지난달)의 랭킹 스냅샷을 미리 생성
+ * - 전체 스터디 랭킹 한 구간과 스터디별 회원 랭킹 구간으로 나누어 제한된 스레드 풀에서 병렬 실행
+ * - 전체 랭킹과 스터디 내 일간 랭킹의 사용자별 최종 순위도 함께 기록 (rank_histories)
+ * - 마감일별 실행 기록(ranking_precompute_runs)을 남기고, 완료되지 않은 실행은 주기적으로 다시 시작
+ *   (이미 저장된 스냅샷은 건너뛰므로 실패한 구간만 다시 계산됨)
+ * - 구간별 소요 시간은 ranking.precompute.partition 타이머(kind, outcome 태그)로 노출
+ */
+@Slf4j
+@Component
+public class RankingSnapshotScheduler {
+
+    private static final Long GLOBAL_SCOPE_ID = 0L;
+    private static final String PARTITION_METRIC = "ranking.precompute.partition";
+    private static final String RUN_METRIC = "ranking.precompute.run";
+
+    private final RankingSnapshotService rankingSnapshotService;
+    private final RangeRankingService rangeRankingService;
+    private final RankHistoryService rankHistoryService;
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final StudyDailyTotalRepository studyDailyTotalRepository;
+    private final StudyRepository studyRepository;
+    private final RankingPrecomputeRunRepository rankingPrecomputeRunRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RankingSnapshotScheduler(RankingSnapshotService rankingSnapshotService,
+                                    RangeRankingService rangeRankingService,
+                                    RankHistoryService rankHistoryService,
+                                    UserDailyTotalRepository userDailyTotalRepository,
+                                    StudyDailyTotalRepository studyDailyTotalRepository,
+                                    StudyRepository studyRepository,
+                                    RankingPrecomputeRunRepository rankingPrecomputeRunRepository,
+                                    MeterRegistry meterRegistry,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${ranking.precompute.parallelism:4}") int parallelism,
+                                    @Value("${ranking.precompute.max-attempts:3}") int maxAttempts) {
+        this.rankingSnapshotService = rankingSnapshotService;
+        this.rangeRankingService = rangeRankingService;
+        this.rankHistoryService = rankHistoryService;
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.studyDailyTotalRepository = studyDailyTotalRepository;
+        this.studyRepository = studyRepository;
+        this.rankingPrecomputeRunRepository = rankingPrecomputeRunRepository;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActiveTimersClosed(ActiveTimersClosedEvent event) {
+        run(event.getClosedDate());
+    }
+
+    /**
+     * 실패했거나 중간에 멈춘(재시작 등) 실행을 이어서 수행
+     */
+    @Scheduled(initialDelayString = "${ranking.precompute.resume-initial-delay-ms:60000}",
+               fixedDelayString = "${ranking.precompute.resume-ms:900000}")
+    @ClusterSingleton("ranking-precompute-resume")
+    public void resumeIncompleteRuns() {
+        for (RankingPrecomputeRun run : rankingPrecomputeRunRepository
+                .findByStatusNotOrderByClosedDateAsc(RankingPrecomputeRun.Status.COMPLETED)) {
+            if (run.getAttempts() >= maxAttempts) {
+                continue; // 스냅샷은 첫 조회 시 지연 생성되므로 포기해도 이후 요청에서 복구됨
+            }
+            log.info("Resuming ranking precompute for {} (attempt {})", run.getClosedDate(), run.getAttempts() + 1);
+            run(run.getClosedDate());
+        }
+    }
+
+    /**
+     * closedDate 로 마감된 기간의 랭킹 스냅샷을 모든 스터디에 대해 생성
+     */
+    public void run(LocalDate closedDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Ranking precompute already running, skipping {}", closedDate);
+            return;
+        }
+
+        try {
+            List<Study> studies = studyRepository.findAll();
+            int partitions = studies.size() + 2;
+            Long runId = begin(closedDate, partitions);
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            int failed = precompute(closedDate, studies);
+            long elapsedNanos = sample.stop(meterRegistry.timer(RUN_METRIC, "outcome", failed == 0 ? "success" : "failure"));
+
+            finish(runId, failed);
+            log.info("Froze ranking snapshots for {}: {} partitions ({} failed) in {}ms",
+                    closedDate, partitions, failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        } catch (RuntimeException e) {
+            // 실행 기록이 RUNNING 으로 남아 다음 주기에 다시 시작됨
+            log.error("Failed to freeze ranking snapshots for {}", closedDate, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int precompute(LocalDate closedDate, List<Study> studies) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, studies.size() + 2)));
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(studies.size() + 2);
+            results.add(executor.submit(() -> partition("studies", closedDate, null,
+                    () -> freezeStudyRankings(closedDate))));
+            results.add(executor.submit(() -> partition("history", closedDate, null,
+                    () -> rankHistoryService.recordGlobal(closedDate))));
+            for (Study study : studies) {
+                results.add(executor.submit(() -> partition("members", closedDate, study.getId(),
+                        () -> freezeMemberRankings(closedDate, study.getId()))));
+            }
+
+            int failed = 0;
+            for (Future<Boolean> result : results) {
+                try {
+                    if (!result.get()) {
+                        failed++;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                }
+            }
+            return failed;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private boolean partition(String kind, LocalDate closedDate, Long studyId, Runnable work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            work.run();
+            return true;
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.warn("Ranking precompute partition failed: {} {} {}", kind, studyId, closedDate, e);
+            return false;
+        } finally {
+            sample.stop(meterRegistry.timer(PARTITION_METRIC, "kind", kind, "outcome", outcome));
+        }
+    }
+
+    private void freezeStudyRankings(LocalDate closedDate) {
+        // 일간
+        rankingSnapshotService.freeze(RankingSnapshot.Scope.STUDY_DAILY, GLOBAL_SCOPE_ID, closedDate, closedDate,
+                () -> studyDailyTotalRepository.findDailyStudyRanking(closedDate));
+
+        // 주간 (월요일 ~ 일요일)
+        if (closedDate.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            LocalDate weekStart = closedDate.minusDays(6);
+            rankingSnapshotService.freeze(RankingSnapshot.Scope.STUDY_WEEKLY, GLOBAL_SCOPE_ID, weekStart, closedDate,
+                    () -> rangeRankingService.studies(weekStart, closedDate));
+        }
+
+        // 월간
+        if (closedDate.getDayOfMonth() == closedDate.lengthOfMonth()) {
+            LocalDate monthStart = closedDate.withDayOfMonth(1);
+            rankingSnapshotService.freeze(RankingSnapshot.Scope.STUDY_MONTHLY, GLOBAL_SCOPE_ID, monthStart, closedDate,
+                    () -> rangeRankingService.studies(monthStart, closedDate));
+        }
+    }
+
+    private void freezeMemberRankings(LocalDate closedDate, Long studyId) {
+        rankingSnapshotService.freeze(RankingSnapshot.Scope.MEMBER_DAILY, studyId, closedDate, closedDate,
+                () -> userDailyTotalRepository.findDailyRankingByDateAndStudy(closedDate, studyId));
+        rankHistoryService.recordStudy(closedDate, studyId);
+
+        if (closedDate.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            LocalDate weekStart = closedDate.minusDays(6);
+            rankingSnapshotService.freeze(RankingSnapshot.Scope.MEMBER_WEEKLY, studyId, weekStart, closedDate,
+                    () -> rangeRankingService.members(studyId, weekStart, closedDate));
+        }
+
+        if (closedDate.getDayOfMonth() == closedDate.lengthOfMonth()) {
+            LocalDate monthStart = closedDate.withDayOfMonth(1);
+            rankingSnapshotService.freeze(RankingSnapshot.Scope.MEMBER_MONTHLY, studyId, monthStart, closedDate,
+                    () -> rangeRankingService.members(studyId, monthStart, closedDate));
+        }
+    }
+
+    private Long begin(LocalDate closedDate, int partitions) {
+        return transactionTemplate.execute(status -> {
+            RankingPrecomputeRun run = rankingPrecomputeRunRepository.findByClosedDate(closedDate)
+                    .orElseGet(() -> RankingPrecomputeRun.builder()
+                            .closedDate(closedDate)
+                            .attempts(0)
+                            .build());
+            run.start(partitions);
+            return rankingPrecomputeRunRepository.save(run).getId();
+        });
+    }
+
+    private void finish(Long runId, int failed) {
+        transactionTemplate.executeWithoutResult(status ->
+                rankingPrecomputeRunRepository.findById(runId).ifPresent(run -> run.finish(failed)));
+    }
+}
@@ -0,0 +1,152 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.cache.RankingVersions;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardEntry;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardStore;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일일 전체 랭킹 리더보드 관리
+ * 날짜별 정렬 집합에 사용자별 공부시간(초)을 두고, 저장소가 비워진 경우 일일 롤업에서 재구성한다.
+ * 종료 시 세션 시간을 더하지 않고 커밋된 그 날의 롤업 합계(줄어들지 않는 값)로 점수를 올리므로
+ * 재구성과 겹치거나 이벤트가 중복되어도 각 종료는 정확히 한 번 반영된다.
+ */
+@Slf4j
+@Service
+public class DailyLeaderboardService {
+
+    private static final String BOARD_PREFIX = "daily:";
+
+    private final LeaderboardStore leaderboardStore;
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final RankingVersions rankingVersions;
+    private final Duration ttl;
+
+    public DailyLeaderboardService(LeaderboardStore leaderboardStore,
+                                   UserDailyTotalRepository userDailyTotalRepository,
+                                   RankingVersions rankingVersions,
+                                   @Value("${leaderboard.daily-ttl-days:35}") long ttlDays) {
+        this.leaderboardStore = leaderboardStore;
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.rankingVersions = rankingVersions;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    /**
+     * 타이머 종료가 커밋된 후 해당 날짜 리더보드에 공부시간을 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStopped(TimerStoppedEvent event) {
+        String board = board(event.getSessionDate());
+        try {
+            if (leaderboardStore.isReady(board)) {
+                Long total = userDailyTotalRepository.findTotalDuration(event.getUserId(), event.getSessionDate());
+                if (total != null) {
+                    leaderboardStore.raise(board, event.getUserId(), total.doubleValue());
+                }
+            } else {
+                // 커밋 이후이므로 재구성 결과에 방금 종료된 세션이 포함됨
+                rebuild(event.getSessionDate());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update daily leaderboard for {}: {}", event.getSessionDate(), e.getMessage());
+            invalidateQuietly(board);
+        } finally {
+            // 리더보드 반영(또는 무효화) 이후에 올려야 새 버전으로 옛 결과를 받지 않음
+            rankingVersions.bumpUserDaily();
+        }
+    }
+
+    /**
+     * 날짜별 랭킹을 점수 내림차순으로 조회 (필요 시 재구성)
+     */
+    public List<LeaderboardEntry> getRanking(LocalDate date) {
+        return leaderboardStore.findAll(readyBoard(date));
+    }
+
+    /**
+     * 순위 offset(0부터)부터 최대 limit 명 조회
+     */
+    public List<LeaderboardEntry> getPage(LocalDate date, long offset, int limit) {
+        return leaderboardStore.findRange(readyBoard(date), offset, limit);
+    }
+
+    /**
+     * 사용자의 0부터 시작하는 순위, 기록이 없으면 null
+     */
+    public Long getRank(LocalDate date, Long userId) {
+        return leaderboardStore.findRank(readyBoard(date), userId);
+    }
+
+    /**
+     * 사용자의 저장된 점수(초), 기록이 없으면 null
+     */
+    public Double getScore(LocalDate date, Long userId) {
+        return leaderboardStore.findScore(readyBoard(date), userId);
+    }
+
+    /**
+     * 여러 사용자의 저장된 점수(초)를 한 번에 조회, 기록이 없는 사용자는 결과에 없음
+     */
+    public Map<Long, Double> getScores(LocalDate date, Collection<Long> userIds) {
+        return leaderboardStore.findScores(readyBoard(date), userIds);
+    }
+
+    /**
+     * 해당 날짜에 공부 기록이 있는 참가자 수
+     */
+    public long getParticipantCount(LocalDate date) {
+        return leaderboardStore.count(readyBoard(date));
+    }
+
+    /**
+     * 일일 롤업(user_daily_totals)으로부터 해당 날짜의 리더보드를 재구성
+     * 읽은 시점 이후에 커밋된 종료는 각자의 이벤트가 더 큰 합계로 올리므로 빠지거나 두 번 더해지지 않는다.
+     */
+    public void rebuild(LocalDate date) {
+        List<Object[]> totals = userDailyTotalRepository.findUserTotalsByDate(date);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (Object[] total : totals) {
+            Long userId = (Long) total[0];
+            Long duration = (Long) total[1];
+            scores.put(userId, duration != null ? duration.doubleValue() : 0d);
+        }
+
+        leaderboardStore.replace(board(date), scores, ttl);
+        log.info("Rebuilt daily leaderboard for {} with {} users", date, scores.size());
+    }
+
+    private String readyBoard(LocalDate date) {
+        String board = board(date);
+        if (!leaderboardStore.isReady(board)) {
+            rebuild(date);
+        }
+        return board;
+    }
+
+    private void invalidateQuietly(String board) {
+        try {
+            leaderboardStore.invalidate(board);
+        } catch (RuntimeException e) {
+            log.warn("Failed to invalidate leaderboard {}: {}", board, e.getMessage());
+        }
+    }
+
+    private String board(LocalDate date) {
+        return BOARD_PREFIX + date;
+    }
+}
@@ -0,0 +1,118 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardEntry;
+import com.toy.checkoutcheckout.utils.TimeUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 저장된 순위에 진행 중인 타이머 시간을 더해 다시 정렬
+ * 진행 중인 사용자만 힙으로 정렬하고 나머지(이미 정렬된 저장 순위)와 병합하므로
+ * 진행 중인 사용자가 a 명일 때 비용은 O(n + a log a) 이다.
+ */
+final class LiveRankingMerger {
+
+    private static final Comparator<LeaderboardEntry> BY_SCORE_DESC =
+            Comparator.comparingDouble(LeaderboardEntry::getScore).reversed();
+    private static final Comparator<StudyMemberRankingResponse.RankEntry> BY_STUDY_TIME_DESC =
+            Comparator.comparing(StudyMemberRankingResponse.RankEntry::getStudyTime).reversed();
+
+    private LiveRankingMerger() {
+    }
+
+    /**
+     * @param stored     저장된 리더보드 상위 구간 (점수 내림차순, 진행 중인 사용자 포함 가능)
+     * @param liveScores 진행 중인 사용자의 저장 점수 + 진행 시간
+     */
+    static List<LeaderboardEntry> daily(List<LeaderboardEntry> stored, Map<Long, Long> liveScores, int limit) {
+        PriorityQueue<LeaderboardEntry> live = new PriorityQueue<>(Math.max(1, liveScores.size()), BY_SCORE_DESC);
+        liveScores.forEach((userId, score) -> live.add(new LeaderboardEntry(userId, score)));
+
+        List<LeaderboardEntry> result = new ArrayList<>(limit);
+        Iterator<LeaderboardEntry> rest = stored.iterator();
+        LeaderboardEntry next = nextInactive(rest, liveScores);
+        while (result.size() < limit && (next != null || !live.isEmpty())) {
+            if (next == null || (!live.isEmpty() && live.peek().getScore() > next.getScore())) {
+                result.add(live.poll());
+            } else {
+                result.add(next);
+                next = nextInactive(rest, liveScores);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param elapsed 진행 중인 회원의 진행 시간 (초 단위)
+     */
+    static StudyMemberRankingResponse members(StudyMemberRankingResponse stored, Map<Long, Long> elapsed) {
+        if (elapsed.isEmpty()) {
+            return stored;
+        }
+
+        List<StudyMemberRankingResponse.RankEntry> rest = new ArrayList<>(stored.getRankings().size());
+        PriorityQueue<StudyMemberRankingResponse.RankEntry> live = new PriorityQueue<>(elapsed.size(), BY_STUDY_TIME_DESC);
+        long totalStudyTime = stored.getTotalStudyTime();
+        for (StudyMemberRankingResponse.RankEntry entry : stored.getRankings()) {
+            Long extra = elapsed.get(entry.getUserId());
+            if (extra == null) {
+                rest.add(entry);
+            } else {
+                live.add(withStudyTime(entry, 0, entry.getStudyTime() + extra));
+                totalStudyTime += extra;
+            }
+        }
+
+        List<StudyMemberRankingResponse.RankEntry> rankings = new ArrayList<>(stored.getRankings().size());
+        int rank = 1;
+        int index = 0;
+        while (index < rest.size() || !live.isEmpty()) {
+            StudyMemberRankingResponse.RankEntry entry;
+            if (index >= rest.size() || (!live.isEmpty() && live.peek().getStudyTime() > rest.get(index).getStudyTime())) {
+                entry = live.poll();
+            } else {
+                entry = rest.get(index++);
+            }
+            rankings.add(withStudyTime(entry, rank++, entry.getStudyTime()));
+        }
+
+        return StudyMemberRankingResponse.builder()
+                .studyId(stored.getStudyId())
+                .studyName(stored.getStudyName())
+                .startDate(stored.getStartDate())
+                .endDate(stored.getEndDate())
+                .rankings(rankings)
+                .totalStudyTime(totalStudyTime)
+                .formattedTotalStudyTime(TimeUtils.formatMillisToTimeString(totalStudyTime))
+                .build();
+    }
+
+    private static LeaderboardEntry nextInactive(Iterator<LeaderboardEntry> entries, Map<Long, Long> liveScores) {
+        while (entries.hasNext()) {
+            LeaderboardEntry entry = entries.next();
+            if (!liveScores.containsKey(entry.getMemberId())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // 캐시된 응답을 바꾸지 않도록 새 항목을 만듦
+    private static StudyMemberRankingResponse.RankEntry withStudyTime(StudyMemberRankingResponse.RankEntry entry,
+                                                                      int rank, long studyTime) {
+        return StudyMemberRankingResponse.RankEntry.builder()
+                .rank(rank)
+                .userId(entry.getUserId())
+                .nickname(entry.getNickname())
+                .studyTime(studyTime)
+                .formattedStudyTime(TimeUtils.formatMillisToTimeString(studyTime))
+                .characterType(entry.getCharacterType())
+                .build();
+    }
+}
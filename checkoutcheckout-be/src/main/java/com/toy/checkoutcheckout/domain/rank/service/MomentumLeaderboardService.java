@@ -0,0 +1,175 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardEntry;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardStore;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 공부에 가중치를 두는 모멘텀 리더보드
+ * 공부시간 d 가 시각 t 에 끝나면 현재 점수는 Σ d·e^(-λ(now - t)) (λ = ln2 / 반감기) 이다.
+ * 모든 사용자에게 e^(-λ·now) 가 똑같이 곱해지므로 순위는 기준 시각 EPOCH 로부터의 로그 값
+ * L = ln Σ d·e^(λ(t - EPOCH)) 만으로 정해진다. 저장소에는 L 을 두므로 주기적으로 전체 점수를
+ * 줄이는 작업이 필요 없다 (L 은 시간에 비례해 천천히 커질 뿐).
+ *
+ * 점수는 일일 롤업으로 계산한 절대값이며 (각 날짜의 공부시간은 그날 정오에 끝난 것으로 근사)
+ * 종료마다 해당 사용자의 값을 다시 계산해 더 클 때만 올린다. 롤업 합계는 줄어들지 않으므로
+ * 이벤트가 중복되거나 재구성과 겹쳐도 같은 종료가 두 번 더해지지 않고, 읽고-계산하고-쓰는 경쟁도 없다.
+ */
+@Slf4j
+@Service
+public class MomentumLeaderboardService {
+
+    static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String BOARD = "momentum";
+
+    private final LeaderboardStore leaderboardStore;
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final double decayPerSecond;
+    private final long halfLifeDays;
+    private final long rebuildDays;
+    private final Duration ttl;
+
+    public MomentumLeaderboardService(LeaderboardStore leaderboardStore,
+                                      UserDailyTotalRepository userDailyTotalRepository,
+                                      @Value("${ranking.momentum.half-life-days:7}") long halfLifeDays,
+                                      @Value("${ranking.momentum.rebuild-days:56}") long rebuildDays,
+                                      @Value("${ranking.momentum.ttl-days:30}") long ttlDays) {
+        this.leaderboardStore = leaderboardStore;
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.halfLifeDays = halfLifeDays;
+        this.decayPerSecond = Math.log(2) / Duration.ofDays(halfLifeDays).getSeconds();
+        this.rebuildDays = rebuildDays;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    /**
+     * 타이머 종료가 커밋된 후 사용자의 점수를 롤업 기준으로 다시 계산해 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStopped(TimerStoppedEvent event) {
+        if (event.getDuration() <= 0) {
+            return;
+        }
+        try {
+            if (!leaderboardStore.isReady(BOARD)) {
+                // 커밋 이후이므로 재구성 결과에 방금 종료된 세션이 포함됨
+                rebuild();
+                return;
+            }
+            Double score = userScore(event.getUserId());
+            if (score != null) {
+                leaderboardStore.raise(BOARD, event.getUserId(), score);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update momentum leaderboard: {}", e.getMessage());
+            invalidateQuietly();
+        }
+    }
+
+    /**
+     * 점수(로그 값) 내림차순 상위 limit 명
+     */
+    public List<LeaderboardEntry> getTop(int limit) {
+        return leaderboardStore.findRange(readyBoard(), 0, limit);
+    }
+
+    /**
+     * 사용자별 점수(로그 값), 기록이 없는 사용자는 빠짐
+     */
+    public Map<Long, Double> getScores(Collection<Long> userIds) {
+        return leaderboardStore.findScores(readyBoard(), userIds);
+    }
+
+    /**
+     * 로그 값을 now 시점의 감쇠된 공부시간(초)으로 변환
+     */
+    public long toDecayedSeconds(double logScore, LocalDateTime now) {
+        return Math.round(Math.exp(logScore - decayPerSecond * secondsSinceEpoch(now)));
+    }
+
+    public long getHalfLifeDays() {
+        return halfLifeDays;
+    }
+
+    /**
+     * 최근 rebuildDays 일의 일일 롤업으로 재구성 (각 날짜의 공부시간은 그날 정오에 끝난 것으로 근사)
+     * 그 이전 기록의 가중치는 2^(-rebuildDays / 반감기) 이하라 무시한다.
+     */
+    public void rebuild() {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Object[] row : userDailyTotalRepository.findUserTotalsSince(LocalDate.now().minusDays(rebuildDays))) {
+            Long userId = (Long) row[0];
+            LocalDate date = (LocalDate) row[1];
+            Long duration = (Long) row[2];
+            if (duration == null || duration <= 0) {
+                continue;
+            }
+            double added = logScore(duration, date.atTime(LocalTime.NOON));
+            scores.merge(userId, added, MomentumLeaderboardService::logAdd);
+        }
+
+        leaderboardStore.replace(BOARD, scores, ttl);
+        log.info("Rebuilt momentum leaderboard with {} users", scores.size());
+    }
+
+    // 최근 rebuildDays 일 롤업으로 계산한 사용자의 점수 (재구성과 같은 식), 기록이 없으면 null
+    private Double userScore(Long userId) {
+        Double score = null;
+        for (Object[] row : userDailyTotalRepository.findTotalsByUserSince(userId, LocalDate.now().minusDays(rebuildDays))) {
+            LocalDate date = (LocalDate) row[0];
+            Long duration = (Long) row[1];
+            if (duration == null || duration <= 0) {
+                continue;
+            }
+            double added = logScore(duration, date.atTime(LocalTime.NOON));
+            score = score != null ? logAdd(score, added) : added;
+        }
+        return score;
+    }
+
+    double logScore(long seconds, LocalDateTime endTime) {
+        return Math.log(seconds) + decayPerSecond * secondsSinceEpoch(endTime);
+    }
+
+    /**
+     * ln(e^a + e^b) 를 넘침 없이 계산
+     */
+    static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private static long secondsSinceEpoch(LocalDateTime time) {
+        return Duration.between(EPOCH, time).getSeconds();
+    }
+
+    private String readyBoard() {
+        if (!leaderboardStore.isReady(BOARD)) {
+            rebuild();
+        }
+        return BOARD;
+    }
+
+    private void invalidateQuietly() {
+        try {
+            leaderboardStore.invalidate(BOARD);
+        } catch (RuntimeException e) {
+            log.warn("Failed to invalidate leaderboard {}: {}", BOARD, e.getMessage());
+        }
+    }
+}
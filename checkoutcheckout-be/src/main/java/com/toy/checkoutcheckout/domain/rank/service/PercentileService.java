@@ -0,0 +1,215 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.toy.checkoutcheckout.domain.rank.dto.PercentileResponse;
+import com.toy.checkoutcheckout.domain.rank.percentile.PercentileSketch;
+import com.toy.checkoutcheckout.domain.rank.percentile.RankingPeriod;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일간/주간/월간 공부시간 백분위 (근사)
+ * 기간별로 사용자 합계의 PercentileSketch 를 메모리에 두고, 처음 조회할 때 롤업에서 한 번 만든 뒤
+ * 타이머 종료마다 해당 사용자를 이전 합계의 버킷에서 새 합계의 버킷으로 옮긴다.
+ * 조회 비용은 사용자 한 명의 합계 조회와 고정된 버킷 수만큼의 덧셈이므로 전체 사용자 수와 무관하다.
+ *
+ * 스케치는 기준(base, 롤업에서 재구성)과 이 노드에서 반영한 변경분(delta)을 병합해 사용한다.
+ * 다른 노드의 타이머 종료는 주기적 재구성(ranking.percentile.rebuild-ms) 때 반영된다.
+ * 재구성은 조회 전에 워터마크를 잡고, 그 이후 종료가 들어온 사용자는 조회 결과에 포함됐는지 알 수 없으므로
+ * 현재 합계를 다시 읽어 기준을 맞춘다. 워터마크 이전 종료분은 조회 결과에 이미 들어 있어 delta 와 함께 버린다.
+ */
+@Slf4j
+@Service
+public class PercentileService {
+
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final Cache<SketchKey, Sketches> sketches;
+
+    public PercentileService(UserDailyTotalRepository userDailyTotalRepository,
+                             @Value("${ranking.percentile.max-periods:256}") long maxPeriods,
+                             @Value("${ranking.percentile.idle-hours:24}") long idleHours) {
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.sketches = Caffeine.newBuilder()
+                .maximumSize(maxPeriods)
+                .expireAfterAccess(Duration.ofHours(idleHours))
+                .build();
+    }
+
+    /**
+     * 사용자의 기간 내 공부시간 백분위 (date 가 속한 일/주/월)
+     */
+    public PercentileResponse getPercentile(Long userId, RankingPeriod period, LocalDate date) {
+        LocalDate startDate = period.startOf(date);
+        LocalDate endDate = period.endOf(date);
+        Sketches sketch = sketches.get(new SketchKey(period, startDate), this::load);
+
+        long studyTime = userDailyTotalRepository.sumByUserIdAndDateRange(userId, startDate, endDate);
+
+        long participants;
+        long above;
+        long sameBucket;
+        synchronized (sketch) {
+            participants = sketch.base.total() + sketch.delta.total();
+            above = sketch.base.countAbove(studyTime) + sketch.delta.countAbove(studyTime);
+            sameBucket = sketch.base.countSameBucket(studyTime) + sketch.delta.countSameBucket(studyTime);
+        }
+
+        PercentileResponse.PercentileResponseBuilder response = PercentileResponse.builder()
+                .userId(userId)
+                .period(period)
+                .startDate(startDate)
+                .endDate(endDate)
+                .studyTime(studyTime)
+                .totalParticipants(participants)
+                .relativeError(PercentileSketch.RELATIVE_ACCURACY);
+
+        if (studyTime <= 0 || participants <= 0) {
+            return response.build();
+        }
+
+        // 나보다 많이 공부한 사람 수는 [above, above + sameBucket - 1] 범위
+        // (재구성 직후 다른 노드의 반영분 때문에 sameBucket 이 0 일 수 있어 1 로 보정)
+        long ties = Math.max(sameBucket, 1);
+        double min = percent(above + 1, participants);
+        double max = percent(above + ties, participants);
+        return response
+                .topPercent((min + max) / 2)
+                .topPercentMin(min)
+                .topPercentMax(max)
+                .build();
+    }
+
+    /**
+     * 타이머 종료가 커밋된 후, 이미 만들어진 스케치에만 변경분을 반영
+     * (없는 기간은 처음 조회할 때 롤업에서 만들어지므로 방금 종료된 세션도 포함됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStopped(TimerStoppedEvent event) {
+        if (event.getDuration() <= 0) {
+            return;
+        }
+        for (RankingPeriod period : RankingPeriod.values()) {
+            LocalDate startDate = period.startOf(event.getSessionDate());
+            Sketches sketch = sketches.getIfPresent(new SketchKey(period, startDate));
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                long after = userDailyTotalRepository.sumByUserIdAndDateRange(
+                        event.getUserId(), startDate, period.endOf(event.getSessionDate()));
+                long before = Math.max(after - event.getDuration(), 0L);
+                synchronized (sketch) {
+                    sketch.delta.move(before, after);
+                    if (sketch.sinceWatermark != null) {
+                        sketch.sinceWatermark.add(event.getUserId());
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to update {} percentile sketch for {}: {}", period, startDate, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 만들어진 스케치를 롤업에서 다시 만들어 다른 노드의 변경분과 누락분을 반영
+     */
+    @Scheduled(fixedDelayString = "${ranking.percentile.rebuild-ms:600000}")
+    public void rebuildAll() {
+        sketches.asMap().forEach((key, sketch) -> {
+            try {
+                rebuild(key, sketch);
+            } catch (RuntimeException e) {
+                synchronized (sketch) {
+                    sketch.sinceWatermark = null;
+                }
+                log.warn("Failed to rebuild {} percentile sketch for {}: {}", key.period(), key.startDate(), e.getMessage());
+            }
+        });
+    }
+
+    private void rebuild(SketchKey key, Sketches sketch) {
+        synchronized (sketch) {
+            sketch.sinceWatermark = new HashSet<>();
+        }
+        Map<Long, Long> totals = queryTotals(key);
+        PercentileSketch base = sketchOf(totals);
+        LocalDate endDate = key.period().endOf(key.startDate());
+        while (true) {
+            Set<Long> changed;
+            synchronized (sketch) {
+                if (sketch.sinceWatermark.isEmpty()) {
+                    // 이후 종료분은 새 기준에 없으므로 새 delta 에 쌓임
+                    sketch.base = base;
+                    sketch.delta = new PercentileSketch();
+                    sketch.sinceWatermark = null;
+                    return;
+                }
+                changed = sketch.sinceWatermark;
+                sketch.sinceWatermark = new HashSet<>();
+            }
+            for (Long userId : changed) {
+                long current = userDailyTotalRepository.sumByUserIdAndDateRange(userId, key.startDate(), endDate);
+                Long counted = totals.put(userId, current);
+                base.move(counted != null ? counted : 0L, current);
+            }
+        }
+    }
+
+    private Sketches load(SketchKey key) {
+        PercentileSketch base = sketchOf(queryTotals(key));
+        log.info("Built {} percentile sketch for {} with {} users", key.period(), key.startDate(), base.total());
+        return new Sketches(base);
+    }
+
+    private Map<Long, Long> queryTotals(SketchKey key) {
+        List<Object[]> rows = userDailyTotalRepository.findUserTotalRowsByDateRange(
+                key.startDate(), key.period().endOf(key.startDate()));
+        Map<Long, Long> totals = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                totals.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        return totals;
+    }
+
+    private static PercentileSketch sketchOf(Map<Long, Long> totals) {
+        PercentileSketch sketch = new PercentileSketch();
+        for (Long total : totals.values()) {
+            sketch.add(total, 1);
+        }
+        return sketch;
+    }
+
+    private static double percent(long position, long participants) {
+        return Math.min(100d, position * 100d / participants);
+    }
+
+    private record SketchKey(RankingPeriod period, LocalDate startDate) {
+    }
+
+    private static final class Sketches {
+        private PercentileSketch base;
+        private PercentileSketch delta = new PercentileSketch();
+        private Set<Long> sinceWatermark; // 재구성 중 워터마크 이후 종료가 들어온 사용자 (재구성 중이 아니면 null)
+
+        private Sketches(PercentileSketch base) {
+            this.base = base;
+        }
+    }
+}
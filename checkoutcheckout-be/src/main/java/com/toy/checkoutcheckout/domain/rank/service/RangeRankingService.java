@@ -0,0 +1,45 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.MemberRankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.RankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingRow;
+import com.toy.checkoutcheckout.domain.timer.repository.StudyDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 임의 기간 [startDate, endDate] 랭킹
+ * 대상(스터디/회원)마다 누적값 두 개의 차이로 합계를 구하므로 90일 기간도 1일 기간과 비용이 같다.
+ * 정렬은 대상 수만큼의 행을 받아 메모리에서 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RangeRankingService {
+
+    // 공부시간 내림차순, 같으면 id 오름차순
+    private static final Comparator<RankingRow> RANKING_ORDER =
+            Comparator.comparing(RankingRow::studyTime).reversed().thenComparing(RankingRow::id);
+
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final StudyDailyTotalRepository studyDailyTotalRepository;
+
+    public List<StudyRankingRow> studies(LocalDate startDate, LocalDate endDate) {
+        return sorted(studyDailyTotalRepository.findRangeTotals(startDate, endDate));
+    }
+
+    public List<MemberRankingRow> members(Long studyId, LocalDate startDate, LocalDate endDate) {
+        return sorted(userDailyTotalRepository.findRangeTotalsByStudy(startDate, endDate, studyId));
+    }
+
+    private static <T extends RankingRow> List<T> sorted(List<T> rows) {
+        List<T> result = new ArrayList<>(rows);
+        result.sort(RANKING_ORDER);
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.global.error.BadRequestException;
+import com.toy.checkoutcheckout.global.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 랭킹 페이지 커서 (다음 페이지가 시작하는 순위 위치를 감싼 불투명 토큰)
+ */
+final class RankCursor {
+
+    private static final String PREFIX = "r:";
+
+    private RankCursor() {
+    }
+
+    static String encode(long offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+            }
+            long offset = Long.parseLong(decoded.substring(PREFIX.length()));
+            if (offset < 0) {
+                throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+        }
+    }
+}
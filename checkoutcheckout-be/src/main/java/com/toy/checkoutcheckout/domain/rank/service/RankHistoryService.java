@@ -0,0 +1,170 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.MemberRankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.RankHistoryResponse;
+import com.toy.checkoutcheckout.domain.rank.entity.RankHistory;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardEntry;
+import com.toy.checkoutcheckout.domain.rank.repository.RankHistoryRepository;
+import com.toy.checkoutcheckout.domain.study.entity.Study;
+import com.toy.checkoutcheckout.domain.study.repository.StudyMemberRepository;
+import com.toy.checkoutcheckout.domain.study.repository.StudyRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.global.error.BadRequestException;
+import com.toy.checkoutcheckout.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 일일 최종 순위 기록
+ * - 마감된 날짜의 전체 랭킹과 스터디 내 랭킹에서 각 사용자의 순위와 참가자 수를 rank_histories 에 기록
+ * - 추이 조회는 사용자의 연도별 행만 읽으므로 기간 길이와 관계없이 한 번의 쿼리로 응답
+ */
+@Slf4j
+@Service
+public class RankHistoryService {
+
+    private static final int WRITE_CHUNK_SIZE = 500;
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final RankHistoryRepository rankHistoryRepository;
+    private final DailyLeaderboardService dailyLeaderboardService;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final StudyRepository studyRepository;
+    private final StudyMemberRepository studyMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RankHistoryService(RankHistoryRepository rankHistoryRepository,
+                              DailyLeaderboardService dailyLeaderboardService,
+                              RankingSnapshotService rankingSnapshotService,
+                              UserDailyTotalRepository userDailyTotalRepository,
+                              StudyRepository studyRepository,
+                              StudyMemberRepository studyMemberRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.rankHistoryRepository = rankHistoryRepository;
+        this.dailyLeaderboardService = dailyLeaderboardService;
+        this.rankingSnapshotService = rankingSnapshotService;
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.studyRepository = studyRepository;
+        this.studyMemberRepository = studyMemberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 해당 날짜 전체 랭킹의 최종 순위 기록 (참가자 수 = 공부 기록이 있는 사용자 수)
+     */
+    public void recordGlobal(LocalDate date) {
+        List<LeaderboardEntry> entries = dailyLeaderboardService.getRanking(date);
+
+        Map<Long, Long> ranks = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ranks.put(entries.get(i).getMemberId(), (long) i + 1);
+        }
+        record(RankHistory.GLOBAL_SCOPE_ID, date, ranks, entries.size());
+    }
+
+    /**
+     * 해당 날짜 스터디 내 랭킹의 최종 순위 기록
+     * 공부 기록이 있는 회원만 순위를 남기고, 참가자 수는 스터디 회원 수로 기록
+     */
+    public void recordStudy(LocalDate date, Long studyId) {
+        List<MemberRankingRow> rows = rankingSnapshotService.getRanking(
+                RankingSnapshot.Scope.MEMBER_DAILY, studyId, date, date,
+                () -> userDailyTotalRepository.findDailyRankingByDateAndStudy(date, studyId));
+
+        Map<Long, Long> ranks = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size() && rows.get(i).studyTime() > 0; i++) {
+            ranks.put(rows.get(i).id(), (long) i + 1);
+        }
+        record(studyId, date, ranks, rows.size());
+    }
+
+    // 사용자 묶음마다 기존 행을 한 번에 읽어 갱신 (없으면 생성)
+    private void record(Long scopeId, LocalDate date, Map<Long, Long> ranks, long participants) {
+        List<Long> userIds = new ArrayList<>(ranks.keySet());
+        int year = date.getYear();
+
+        for (int from = 0; from < userIds.size(); from += WRITE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + WRITE_CHUNK_SIZE, userIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, RankHistory> histories = new HashMap<>();
+                for (RankHistory history : rankHistoryRepository.findByScopeAndYearAndUserIds(scopeId, year, chunk)) {
+                    histories.put(history.getUserId(), history);
+                }
+
+                List<RankHistory> created = new ArrayList<>();
+                for (Long userId : chunk) {
+                    RankHistory history = histories.get(userId);
+                    if (history == null) {
+                        history = RankHistory.empty(userId, scopeId, year);
+                        created.add(history);
+                    }
+                    history.record(date, ranks.get(userId), participants);
+                }
+                rankHistoryRepository.saveAll(created);
+            });
+        }
+        log.debug("Recorded rank history: scope {} {} ({} users)", scopeId, date, userIds.size());
+    }
+
+    /**
+     * 사용자의 기간별 순위 추이 (전체 랭킹 + 현재 가입한 스터디별)
+     */
+    public RankHistoryResponse getHistory(Long userId, LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now().minusDays(1);
+        LocalDate start = startDate != null ? startDate : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 시작일부터 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        // 범위별 연도 행
+        Map<Long, Map<Integer, RankHistory>> histories = new HashMap<>();
+        for (RankHistory history : rankHistoryRepository.findByUserIdAndYears(userId, start.getYear(), end.getYear())) {
+            histories.computeIfAbsent(history.getScopeId(), k -> new HashMap<>()).put(history.getYear(), history);
+        }
+
+        List<RankHistoryResponse.Series> series = new ArrayList<>();
+        series.add(toSeries(null, null, histories.get(RankHistory.GLOBAL_SCOPE_ID), start, end));
+        for (Study study : studyRepository.findAllById(studyMemberRepository.findStudyIdsByUserId(userId))) {
+            series.add(toSeries(study.getId(), study.getName(), histories.get(study.getId()), start, end));
+        }
+
+        return RankHistoryResponse.builder()
+                .startDate(start)
+                .endDate(end)
+                .series(series)
+                .build();
+    }
+
+    private RankHistoryResponse.Series toSeries(Long studyId, String studyName,
+                                                Map<Integer, RankHistory> byYear,
+                                                LocalDate start, LocalDate end) {
+        List<RankHistoryResponse.Point> points = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            RankHistory history = byYear != null ? byYear.get(date.getYear()) : null;
+            int rank = history != null ? history.rankOn(date) : 0;
+            points.add(new RankHistoryResponse.Point(date,
+                    rank > 0 ? rank : null,
+                    rank > 0 ? history.participantsOn(date) : null));
+        }
+
+        return RankHistoryResponse.Series.builder()
+                .studyId(studyId)
+                .studyName(studyName)
+                .points(points)
+                .build();
+    }
+}
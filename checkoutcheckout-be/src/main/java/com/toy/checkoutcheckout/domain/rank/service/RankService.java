@@ -1,23 +1,35 @@
 package com.toy.checkoutcheckout.domain.rank.service;
 
+import com.toy.checkoutcheckout.domain.rank.cache.RankingCache;
+import com.toy.checkoutcheckout.domain.rank.cache.RankingCacheKey;
+import com.toy.checkoutcheckout.domain.rank.cache.RankingVersions;
 import com.toy.checkoutcheckout.domain.rank.dto.DailyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.MomentumRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.MyRankResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.RankingChangesResponse;
 import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
 import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.UserRankProfile;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardEntry;
 import com.toy.checkoutcheckout.domain.study.entity.Study;
 import com.toy.checkoutcheckout.domain.study.repository.StudyMemberRepository;
 import com.toy.checkoutcheckout.domain.study.repository.StudyRepository;
-import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.StudyDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.service.ActiveTimerRegistry;
 import com.toy.checkoutcheckout.domain.user.entity.User;
 import com.toy.checkoutcheckout.domain.user.repository.UserRepository;
 import com.toy.checkoutcheckout.global.error.ForbiddenException;
 import com.toy.checkoutcheckout.global.error.NotFoundException;
-import com.toy.checkoutcheckout.utils.TimeUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,365 +38,352 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RankService {
 
-    private final TimerSessionRepository timerSessionRepository;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_NEIGHBOURS = 50;
+    private static final Long GLOBAL_SCOPE_ID = 0L;
+
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final StudyDailyTotalRepository studyDailyTotalRepository;
     private final StudyRepository studyRepository;
     private final StudyMemberRepository studyMemberRepository;
     private final UserRepository userRepository;
+    private final DailyLeaderboardService dailyLeaderboardService;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final RangeRankingService rangeRankingService;
+    private final RankingCache rankingCache;
+    private final RankingVersions rankingVersions;
+    private final RankingChangeLog rankingChangeLog;
+    private final ActiveTimerRegistry activeTimerRegistry;
+    private final MomentumLeaderboardService momentumLeaderboardService;
 
     @Transactional(readOnly = true)
-    public DailyRankingResponse getDailyRanking(LocalDate date) {
-        List<Object[]> results = timerSessionRepository.findDailyRankingByDate(date);
+    public DailyRankingResponse getDailyRanking(LocalDate date, String cursor, int limit) {
+        long offset = RankCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
         
-        // 사용자 ID 목록 수집
-        List<Long> userIds = new ArrayList<>();
-        for (Object[] result : results) {
-            Long userId = (Long) result[0];
-            userIds.add(userId);
-        }
+        // 날짜별 리더보드(정렬 집합)에서 필요한 구간만 조회
+        List<LeaderboardEntry> entries = dailyLeaderboardService.getPage(date, offset, pageSize);
+        long totalParticipants = dailyLeaderboardService.getParticipantCount(date);
         
-        // 한 번의 쿼리로 사용자 정보 가져오기
-        List<User> users = userRepository.findAllById(userIds);
-        Map<Long, User> userMap = new HashMap<>();
-        for (User user : users) {
-            userMap.put(user.getId(), user);
-        }
-        
-        List<DailyRankingResponse.RankEntry> rankings = new ArrayList<>();
-        int rank = 1;
-        
-        for (Object[] result : results) {
-            Long userId = (Long) result[0];
-            String nickname = (String) result[1];
-            Long studyTime = (Long) result[2];
-            
-            // 사용자의 캐릭터 타입 가져오기
-            String characterType = null;
-            User user = userMap.get(userId);
-            if (user != null) {
-                characterType = user.getCharacterType();
-            }
-            
-            rankings.add(DailyRankingResponse.RankEntry.builder()
-                    .rank(rank++)
-                    .userId(userId)
-                    .nickname(nickname)
-                    .studyTime(studyTime)
-                    .characterType(characterType)
-                    .build());
-        }
+        long nextOffset = offset + entries.size();
+        String nextCursor = nextOffset < totalParticipants ? RankCursor.encode(nextOffset) : null;
         
         return DailyRankingResponse.builder()
                 .date(date)
-                .rankings(rankings)
+                .rankings(toDailyRankEntries(entries, offset))
+                .totalParticipants(totalParticipants)
+                .nextCursor(nextCursor)
                 .build();
     }
     
+    /**
+     * 오늘의 실시간 전체 랭킹 상위 limit 명 (진행 중인 타이머 시간 포함)
+     * 진행 중인 사용자가 a 명이면 나머지 사용자의 결과는 저장된 상위 limit + a 명 안에 모두 들어 있으므로
+     * 그 구간만 읽어 진행 중인 사용자와 병합한다. (진행 시간은 메모리 색인에서 계산, 사용자별 DB 조회 없음)
+     */
     @Transactional(readOnly = true)
-    public StudyRankingResponse getDailyStudyRanking(LocalDate date) {
-        List<Object[]> results = timerSessionRepository.findDailyStudyRanking(date);
-        
-        List<StudyRankingResponse.RankEntry> rankings = new ArrayList<>();
-        int rank = 1;
-        
-        for (Object[] result : results) {
-            Long studyId = (Long) result[0];
-            String studyName = (String) result[1];
-            Long studyTime = (Long) result[2];
-            
-            // 디버깅 로그 추가
-            System.out.println("스터디 ID: " + studyId + ", 이름: " + studyName + ", 공부시간(초): " + studyTime);
-            String formattedTime = TimeUtils.formatMillisToTimeString(studyTime);
-            System.out.println("변환된 시간: " + formattedTime);
-            
-            rankings.add(StudyRankingResponse.RankEntry.builder()
-                    .rank(rank++)
-                    .studyId(studyId)
-                    .studyName(studyName)
-                    .studyTime(studyTime)
-                    .formattedStudyTime(formattedTime)
-                    .build());
+    public DailyRankingResponse getLiveDailyRanking(int limit) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        Map<Long, ActiveTimerRegistry.ActiveTimer> active = activeTimerRegistry.findBySessionDate(today);
+        Map<Long, Double> storedScores = dailyLeaderboardService.getScores(today, active.keySet());
+        Map<Long, Long> liveScores = new HashMap<>(active.size() * 2);
+        long newcomers = 0; // 오늘 처음 공부 중이라 리더보드에 없는 사용자
+        for (ActiveTimerRegistry.ActiveTimer timer : active.values()) {
+            Double stored = storedScores.get(timer.userId());
+            if (stored == null) {
+                newcomers++;
+            }
+            liveScores.put(timer.userId(), (stored != null ? stored.longValue() : 0L) + timer.elapsedSeconds(now));
         }
         
-        return StudyRankingResponse.builder()
-                .startDate(date)
-                .endDate(date)
-                .rankings(rankings)
-                .build();
-    }
-    
-    @Transactional(readOnly = true)
-    public StudyRankingResponse getWeeklyStudyRanking(LocalDate startDate, LocalDate endDate) {
-        List<Object[]> results = timerSessionRepository.findWeeklyStudyRanking(startDate, endDate);
+        List<LeaderboardEntry> stored = dailyLeaderboardService.getPage(today, 0, pageSize + active.size());
+        List<LeaderboardEntry> entries = LiveRankingMerger.daily(stored, liveScores, pageSize);
         
-        List<StudyRankingResponse.RankEntry> rankings = new ArrayList<>();
-        int rank = 1;
-        
-        for (Object[] result : results) {
-            Long studyId = (Long) result[0];
-            String studyName = (String) result[1];
-            Long studyTime = (Long) result[2];
-            
-            rankings.add(StudyRankingResponse.RankEntry.builder()
-                    .rank(rank++)
-                    .studyId(studyId)
-                    .studyName(studyName)
-                    .studyTime(studyTime)
-                    .formattedStudyTime(TimeUtils.formatMillisToTimeString(studyTime))
-                    .build());
-        }
-        
-        return StudyRankingResponse.builder()
-                .startDate(startDate)
-                .endDate(endDate)
-                .rankings(rankings)
+        return DailyRankingResponse.builder()
+                .date(today)
+                .rankings(toDailyRankEntries(entries, 0))
+                .totalParticipants(dailyLeaderboardService.getParticipantCount(today) + newcomers)
                 .build();
     }
     
+    /**
+     * 전체 모멘텀 랭킹 상위 limit 명
+     */
     @Transactional(readOnly = true)
-    public StudyRankingResponse getMonthlyStudyRanking(int year, int month) {
-        LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
-        LocalDate lastDayOfMonth = firstDayOfMonth.withDayOfMonth(firstDayOfMonth.lengthOfMonth());
+    public MomentumRankingResponse getMomentumRanking(int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<LeaderboardEntry> entries = momentumLeaderboardService.getTop(pageSize);
         
-        List<Object[]> results = timerSessionRepository.findMonthlyStudyRanking(year, month);
+        List<Long> userIds = new ArrayList<>(entries.size());
+        for (LeaderboardEntry entry : entries) {
+            userIds.add(entry.getMemberId());
+        }
+        Map<Long, UserRankProfile> profiles = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (UserRankProfile profile : userRepository.findRankProfilesByIdIn(userIds)) {
+                profiles.put(profile.userId(), profile);
+            }
+        }
         
-        List<StudyRankingResponse.RankEntry> rankings = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<MomentumRankingResponse.RankEntry> rankings = new ArrayList<>(entries.size());
         int rank = 1;
-        
-        for (Object[] result : results) {
-            Long studyId = (Long) result[0];
-            String studyName = (String) result[1];
-            Long studyTime = (Long) result[2];
-            
-            rankings.add(StudyRankingResponse.RankEntry.builder()
-                    .rank(rank++)
-                    .studyId(studyId)
-                    .studyName(studyName)
-                    .studyTime(studyTime)
-                    .formattedStudyTime(TimeUtils.formatMillisToTimeString(studyTime))
-                    .build());
+        for (LeaderboardEntry entry : entries) {
+            UserRankProfile profile = profiles.get(entry.getMemberId());
+            int currentRank = rank++;
+            if (profile != null) {
+                rankings.add(toMomentumEntry(currentRank, profile, entry.getScore(), now));
+            }
         }
         
-        return StudyRankingResponse.builder()
-                .startDate(firstDayOfMonth)
-                .endDate(lastDayOfMonth)
+        return MomentumRankingResponse.builder()
+                .halfLifeDays(momentumLeaderboardService.getHalfLifeDays())
                 .rankings(rankings)
                 .build();
     }
     
+    /**
+     * 스터디 내 모멘텀 랭킹 (회원들의 전체 모멘텀 점수를 한 번에 조회해 정렬)
+     */
     @Transactional(readOnly = true)
-    public StudyMemberRankingResponse getStudyMemberDailyRanking(Long userId, Long studyId, LocalDate date) {
-        // 스터디 존재 확인
-        Study study = studyRepository.findById(studyId)
-                .orElseThrow(() -> new NotFoundException("스터디를 찾을 수 없습니다."));
-        
-        // 사용자가 스터디 멤버인지 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
-        
-        if (!studyMemberRepository.existsByStudyAndUser(study, user)) {
-            throw new ForbiddenException("스터디 멤버만 랭킹을 확인할 수 있습니다.");
-        }
-        
-        List<Object[]> results = timerSessionRepository.findDailyRankingByDateAndStudy(date, studyId);
+    public MomentumRankingResponse getStudyMomentumRanking(Long userId, Long studyId) {
+        findStudyForMember(userId, studyId);
         
-        // 사용자 ID 목록 수집
-        List<Long> userIds = new ArrayList<>();
-        for (Object[] result : results) {
-            Long memberId = (Long) result[0];
-            userIds.add(memberId);
+        List<UserRankProfile> members = userRepository.findRankProfilesByStudyId(studyId);
+        List<Long> memberIds = new ArrayList<>(members.size());
+        for (UserRankProfile member : members) {
+            memberIds.add(member.userId());
         }
+        Map<Long, Double> scores = momentumLeaderboardService.getScores(memberIds);
         
-        // 한 번의 쿼리로 사용자 정보 가져오기
-        List<User> users = userRepository.findAllById(userIds);
-        Map<Long, User> userMap = new HashMap<>();
-        for (User member : users) {
-            userMap.put(member.getId(), member);
-        }
+        // 기록이 없는 회원은 맨 뒤
+        List<UserRankProfile> ordered = new ArrayList<>(members);
+        ordered.sort(Comparator.comparingDouble(
+                (UserRankProfile member) -> scores.getOrDefault(member.userId(), Double.NEGATIVE_INFINITY)).reversed());
         
-        List<StudyMemberRankingResponse.RankEntry> rankings = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<MomentumRankingResponse.RankEntry> rankings = new ArrayList<>(ordered.size());
         int rank = 1;
-        
-        for (Object[] result : results) {
-            Long memberId = (Long) result[0];
-            String nickname = (String) result[1];
-            Long studyTime = (Long) result[2];
-            
-            // 사용자의 캐릭터 타입 가져오기
-            String characterType = null;
-            User member = userMap.get(memberId);
-            if (member != null) {
-                characterType = member.getCharacterType();
-            }
-            
-            rankings.add(StudyMemberRankingResponse.RankEntry.builder()
-                    .rank(rank++)
-                    .userId(memberId)
-                    .nickname(nickname)
-                    .studyTime(studyTime)
-                    .characterType(characterType)
-                    .formattedStudyTime(TimeUtils.formatMillisToTimeString(studyTime))
-                    .build());
+        for (UserRankProfile member : ordered) {
+            Double score = scores.get(member.userId());
+            rankings.add(toMomentumEntry(rank++, member, score != null ? score : Double.NEGATIVE_INFINITY, now));
         }
         
-        // 총 공부시간 계산
-        Long totalStudyTime = rankings.stream()
-                .mapToLong(StudyMemberRankingResponse.RankEntry::getStudyTime)
-                .sum();
-                
-        return StudyMemberRankingResponse.builder()
+        return MomentumRankingResponse.builder()
                 .studyId(studyId)
-                .studyName(study.getName())
-                .startDate(date)
-                .endDate(date)
+                .halfLifeDays(momentumLeaderboardService.getHalfLifeDays())
                 .rankings(rankings)
-                .totalStudyTime(totalStudyTime)
-                .formattedTotalStudyTime(TimeUtils.formatMillisToTimeString(totalStudyTime))
+                .build();
+    }
+    
+    private MomentumRankingResponse.RankEntry toMomentumEntry(int rank, UserRankProfile profile,
+                                                              double score, LocalDateTime now) {
+        return MomentumRankingResponse.RankEntry.builder()
+                .rank(rank)
+                .userId(profile.userId())
+                .nickname(profile.nickname())
+                .characterType(profile.characterType())
+                .momentum(momentumLeaderboardService.toDecayedSeconds(score, now))
                 .build();
     }
     
     @Transactional(readOnly = true)
-    public StudyMemberRankingResponse getStudyMemberWeeklyRanking(Long userId, Long studyId, 
-                                                               LocalDate startDate, LocalDate endDate) {
-        // 스터디 존재 확인
-        Study study = studyRepository.findById(studyId)
-                .orElseThrow(() -> new NotFoundException("스터디를 찾을 수 없습니다."));
-        
-        // 사용자가 스터디 멤버인지 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
-        
-        if (!studyMemberRepository.existsByStudyAndUser(study, user)) {
-            throw new ForbiddenException("스터디 멤버만 랭킹을 확인할 수 있습니다.");
+    public MyRankResponse getMyDailyRank(Long userId, LocalDate date, int neighbours) {
+        int range = Math.max(0, Math.min(neighbours, MAX_NEIGHBOURS));
+        long totalParticipants = dailyLeaderboardService.getParticipantCount(date);
+        Long myRank = dailyLeaderboardService.getRank(date, userId);
+        
+        // 오늘 기록이 없는 사용자는 순위 없이 반환
+        if (myRank == null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
+            
+            return MyRankResponse.builder()
+                    .date(date)
+                    .totalParticipants(totalParticipants)
+                    .me(DailyRankingResponse.RankEntry.builder()
+                            .userId(user.getId())
+                            .nickname(user.getNickname())
+                            .studyTime(0L)
+                            .characterType(user.getCharacterType())
+                            .build())
+                    .neighbours(new ArrayList<>())
+                    .build();
         }
         
-        List<Object[]> results = timerSessionRepository.findWeeklyRankingByDateRangeAndStudy(startDate, endDate, studyId);
+        long offset = Math.max(0, myRank - range);
+        List<LeaderboardEntry> entries = dailyLeaderboardService.getPage(date, offset, range * 2 + 1);
+        List<DailyRankingResponse.RankEntry> neighbourEntries = toDailyRankEntries(entries, offset);
         
-        // 사용자 ID 목록 수집
-        List<Long> userIds = new ArrayList<>();
-        for (Object[] result : results) {
-            Long memberId = (Long) result[0];
-            userIds.add(memberId);
+        DailyRankingResponse.RankEntry me = neighbourEntries.stream()
+                .filter(entry -> entry.getUserId().equals(userId))
+                .findFirst()
+                .orElse(null);
+        
+        return MyRankResponse.builder()
+                .date(date)
+                .totalParticipants(totalParticipants)
+                .me(me)
+                .neighbours(neighbourEntries)
+                .build();
+    }
+    
+    // 리더보드 구간의 사용자 표시 정보를 한 번의 프로젝션 쿼리로 채움
+    private List<DailyRankingResponse.RankEntry> toDailyRankEntries(List<LeaderboardEntry> entries, long offset) {
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
         }
         
-        // 한 번의 쿼리로 사용자 정보 가져오기
-        List<User> users = userRepository.findAllById(userIds);
-        Map<Long, User> userMap = new HashMap<>();
-        for (User member : users) {
-            userMap.put(member.getId(), member);
+        List<Long> userIds = new ArrayList<>(entries.size());
+        for (LeaderboardEntry entry : entries) {
+            userIds.add(entry.getMemberId());
         }
         
-        List<StudyMemberRankingResponse.RankEntry> rankings = new ArrayList<>();
-        int rank = 1;
+        return RankingAssembler.daily(entries, offset, userRepository.findRankProfilesByIdIn(userIds));
+    }
+    
+    @Transactional(readOnly = true)
+    public StudyRankingResponse getDailyStudyRanking(LocalDate date) {
+        return rankingCache.get(
+                RankingCacheKey.of(RankingSnapshot.Scope.STUDY_DAILY, GLOBAL_SCOPE_ID, date, date),
+                () -> RankingAssembler.studies(date, date, rankingSnapshotService.getRanking(
+                        RankingSnapshot.Scope.STUDY_DAILY, GLOBAL_SCOPE_ID, date, date,
+                        () -> studyDailyTotalRepository.findDailyStudyRanking(date))));
+    }
+    
+    @Transactional(readOnly = true)
+    public StudyRankingResponse getWeeklyStudyRanking(LocalDate startDate, LocalDate endDate) {
+        return rankingCache.get(
+                RankingCacheKey.of(RankingSnapshot.Scope.STUDY_WEEKLY, GLOBAL_SCOPE_ID, startDate, endDate),
+                () -> RankingAssembler.studies(startDate, endDate, rankingSnapshotService.getRanking(
+                        RankingSnapshot.Scope.STUDY_WEEKLY, GLOBAL_SCOPE_ID, startDate, endDate,
+                        () -> rangeRankingService.studies(startDate, endDate))));
+    }
+    
+    @Transactional(readOnly = true)
+    public StudyRankingResponse getMonthlyStudyRanking(int year, int month) {
+        LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
+        LocalDate lastDayOfMonth = firstDayOfMonth.withDayOfMonth(firstDayOfMonth.lengthOfMonth());
         
-        for (Object[] result : results) {
-            Long memberId = (Long) result[0];
-            String nickname = (String) result[1];
-            Long studyTime = (Long) result[2];
-            
-            // 사용자의 캐릭터 타입 가져오기
-            String characterType = null;
-            User member = userMap.get(memberId);
-            if (member != null) {
-                characterType = member.getCharacterType();
+        return rankingCache.get(
+                RankingCacheKey.of(RankingSnapshot.Scope.STUDY_MONTHLY, GLOBAL_SCOPE_ID, firstDayOfMonth, lastDayOfMonth),
+                () -> RankingAssembler.studies(firstDayOfMonth, lastDayOfMonth, rankingSnapshotService.getRanking(
+                        RankingSnapshot.Scope.STUDY_MONTHLY, GLOBAL_SCOPE_ID, firstDayOfMonth, lastDayOfMonth,
+                        () -> rangeRankingService.studies(firstDayOfMonth, lastDayOfMonth))));
+    }
+    
+    @Transactional(readOnly = true)
+    public StudyMemberRankingResponse getStudyMemberDailyRanking(Long userId, Long studyId, LocalDate date) {
+        // 멤버 확인은 캐시와 무관하게 항상 수행
+        Study study = findStudyForMember(userId, studyId);
+        
+        return rankingCache.get(
+                RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_DAILY, studyId, date, date),
+                () -> RankingAssembler.members(study, date, date, rankingSnapshotService.getRanking(
+                        RankingSnapshot.Scope.MEMBER_DAILY, studyId, date, date,
+                        () -> userDailyTotalRepository.findDailyRankingByDateAndStudy(date, studyId))));
+    }
+    
+    /**
+     * 오늘의 스터디 내 실시간 랭킹 (저장된 일일 랭킹 + 진행 중인 회원의 진행 시간)
+     * 진행 중인 타이머는 멤버 전체를 한 번에 조회한다. (공유 사본 사용 시 멤버마다 Redis 를 왕복하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public StudyMemberRankingResponse getLiveStudyMemberDailyRanking(Long userId, Long studyId) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        StudyMemberRankingResponse stored = getStudyMemberDailyRanking(userId, studyId, today);
+        
+        List<Long> memberIds = stored.getRankings().stream()
+                .map(StudyMemberRankingResponse.RankEntry::getUserId)
+                .toList();
+        Map<Long, Long> elapsed = new HashMap<>();
+        for (ActiveTimerRegistry.ActiveTimer timer : activeTimerRegistry.findAll(memberIds).values()) {
+            if (timer.sessionDate().equals(today)) {
+                elapsed.put(timer.userId(), timer.elapsedSeconds(now));
             }
-            
-            rankings.add(StudyMemberRankingResponse.RankEntry.builder()
-                    .rank(rank++)
-                    .userId(memberId)
-                    .nickname(nickname)
-                    .studyTime(studyTime)
-                    .characterType(characterType)
-                    .formattedStudyTime(TimeUtils.formatMillisToTimeString(studyTime))
-                    .build());
         }
+        return LiveRankingMerger.members(stored, elapsed);
+    }
+    
+    @Transactional(readOnly = true)
+    public StudyMemberRankingResponse getStudyMemberWeeklyRanking(Long userId, Long studyId, 
+                                                               LocalDate startDate, LocalDate endDate) {
+        Study study = findStudyForMember(userId, studyId);
         
-        // 총 공부시간 계산
-        Long totalStudyTime = rankings.stream()
-                .mapToLong(StudyMemberRankingResponse.RankEntry::getStudyTime)
-                .sum();
-                
-        return StudyMemberRankingResponse.builder()
-                .studyId(studyId)
-                .studyName(study.getName())
-                .startDate(startDate)
-                .endDate(endDate)
-                .rankings(rankings)
-                .totalStudyTime(totalStudyTime)
-                .formattedTotalStudyTime(TimeUtils.formatMillisToTimeString(totalStudyTime))
-                .build();
+        return rankingCache.get(
+                RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_WEEKLY, studyId, startDate, endDate),
+                () -> RankingAssembler.members(study, startDate, endDate, rankingSnapshotService.getRanking(
+                        RankingSnapshot.Scope.MEMBER_WEEKLY, studyId, startDate, endDate,
+                        () -> rangeRankingService.members(studyId, startDate, endDate))));
     }
     
     @Transactional(readOnly = true)
     public StudyMemberRankingResponse getStudyMemberMonthlyRanking(Long userId, Long studyId, int year, int month) {
-        // 스터디 존재 확인
-        Study study = studyRepository.findById(studyId)
-                .orElseThrow(() -> new NotFoundException("스터디를 찾을 수 없습니다."));
-        
-        // 사용자가 스터디 멤버인지 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
-        
-        if (!studyMemberRepository.existsByStudyAndUser(study, user)) {
-            throw new ForbiddenException("스터디 멤버만 랭킹을 확인할 수 있습니다.");
-        }
+        Study study = findStudyForMember(userId, studyId);
         
         LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
         LocalDate lastDayOfMonth = firstDayOfMonth.withDayOfMonth(firstDayOfMonth.lengthOfMonth());
         
-        List<Object[]> results = timerSessionRepository.findMonthlyRankingByYearMonthAndStudy(year, month, studyId);
-        
-        // 사용자 ID 목록 수집
-        List<Long> userIds = new ArrayList<>();
-        for (Object[] result : results) {
-            Long memberId = (Long) result[0];
-            userIds.add(memberId);
-        }
-        
-        // 한 번의 쿼리로 사용자 정보 가져오기
-        List<User> users = userRepository.findAllById(userIds);
-        Map<Long, User> userMap = new HashMap<>();
-        for (User member : users) {
-            userMap.put(member.getId(), member);
+        return rankingCache.get(
+                RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_MONTHLY, studyId, firstDayOfMonth, lastDayOfMonth),
+                () -> RankingAssembler.members(study, firstDayOfMonth, lastDayOfMonth, rankingSnapshotService.getRanking(
+                        RankingSnapshot.Scope.MEMBER_MONTHLY, studyId, firstDayOfMonth, lastDayOfMonth,
+                        () -> rangeRankingService.members(studyId, firstDayOfMonth, lastDayOfMonth))));
+    }
+    
+    /**
+     * 일일 스터디 랭킹에서 since 버전 이후 바뀐 항목
+     */
+    @Transactional(readOnly = true)
+    public RankingChangesResponse getDailyStudyRankingChanges(LocalDate date, long since) {
+        // 결과보다 버전을 먼저 읽어야 기록된 결과가 해당 버전보다 오래되지 않음
+        long version = rankingVersions.current(RankingSnapshot.Scope.STUDY_DAILY, GLOBAL_SCOPE_ID);
+        StudyRankingResponse ranking = getDailyStudyRanking(date);
+        
+        List<RankingChangesResponse.Entry> entries = new ArrayList<>(ranking.getRankings().size());
+        for (StudyRankingResponse.RankEntry entry : ranking.getRankings()) {
+            entries.add(RankingChangesResponse.Entry.builder()
+                    .id(entry.getStudyId())
+                    .name(entry.getStudyName())
+                    .rank(entry.getRank())
+                    .studyTime(entry.getStudyTime())
+                    .build());
         }
-        
-        List<StudyMemberRankingResponse.RankEntry> rankings = new ArrayList<>();
-        int rank = 1;
-        
-        for (Object[] result : results) {
-            Long memberId = (Long) result[0];
-            String nickname = (String) result[1];
-            Long studyTime = (Long) result[2];
-            
-            // 사용자의 캐릭터 타입 가져오기
-            String characterType = null;
-            User member = userMap.get(memberId);
-            if (member != null) {
-                characterType = member.getCharacterType();
-            }
-            
-            rankings.add(StudyMemberRankingResponse.RankEntry.builder()
-                    .rank(rank++)
-                    .userId(memberId)
-                    .nickname(nickname)
-                    .studyTime(studyTime)
-                    .characterType(characterType)
-                    .formattedStudyTime(TimeUtils.formatMillisToTimeString(studyTime))
+        return rankingChangeLog.changesSince("STUDY_DAILY:" + date, since, version, entries);
+    }
+    
+    /**
+     * 스터디 내 일일 랭킹에서 since 버전 이후 바뀐 항목
+     */
+    @Transactional(readOnly = true)
+    public RankingChangesResponse getStudyMemberDailyRankingChanges(Long userId, Long studyId, LocalDate date, long since) {
+        long version = rankingVersions.current(RankingSnapshot.Scope.MEMBER_DAILY, studyId);
+        StudyMemberRankingResponse ranking = getStudyMemberDailyRanking(userId, studyId, date);
+        
+        List<RankingChangesResponse.Entry> entries = new ArrayList<>(ranking.getRankings().size());
+        for (StudyMemberRankingResponse.RankEntry entry : ranking.getRankings()) {
+            entries.add(RankingChangesResponse.Entry.builder()
+                    .id(entry.getUserId())
+                    .name(entry.getNickname())
+                    .rank(entry.getRank())
+                    .studyTime(entry.getStudyTime())
                     .build());
         }
+        return rankingChangeLog.changesSince("MEMBER_DAILY:" + studyId + ":" + date, since, version, entries);
+    }
+    
+    // 스터디 존재 및 멤버 여부 확인
+    private Study findStudyForMember(Long userId, Long studyId) {
+        Study study = studyRepository.findById(studyId)
+                .orElseThrow(() -> new NotFoundException("스터디를 찾을 수 없습니다."));
         
-        // 총 공부시간 계산
-        Long totalStudyTime = rankings.stream()
-                .mapToLong(StudyMemberRankingResponse.RankEntry::getStudyTime)
-                .sum();
-                
-        return StudyMemberRankingResponse.builder()
-                .studyId(studyId)
-                .studyName(study.getName())
-                .startDate(firstDayOfMonth)
-                .endDate(lastDayOfMonth)
-                .rankings(rankings)
-                .totalStudyTime(totalStudyTime)
-                .formattedTotalStudyTime(TimeUtils.formatMillisToTimeString(totalStudyTime))
-                .build();
+        if (!studyMemberRepository.existsByStudyIdAndUserId(studyId, userId)) {
+            throw new ForbiddenException("스터디 멤버만 랭킹을 확인할 수 있습니다.");
+        }
+        return study;
     }
 }
@@ -0,0 +1,105 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.DailyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.MemberRankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.UserRankProfile;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardEntry;
+import com.toy.checkoutcheckout.domain.study.entity.Study;
+import com.toy.checkoutcheckout.utils.TimeUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정렬된 랭킹 행을 응답으로 변환
+ * 순위 부여와 합계 계산을 한 번의 순회로 처리한다.
+ */
+final class RankingAssembler {
+
+    private RankingAssembler() {
+    }
+
+    static StudyRankingResponse studies(LocalDate startDate, LocalDate endDate, List<StudyRankingRow> rows) {
+        List<StudyRankingResponse.RankEntry> rankings = new ArrayList<>(rows.size());
+        int rank = 1;
+        for (StudyRankingRow row : rows) {
+            rankings.add(StudyRankingResponse.RankEntry.builder()
+                    .rank(rank++)
+                    .studyId(row.studyId())
+                    .studyName(row.studyName())
+                    .studyTime(row.studyTime())
+                    .formattedStudyTime(TimeUtils.formatMillisToTimeString(row.studyTime()))
+                    .build());
+        }
+
+        return StudyRankingResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .rankings(rankings)
+                .build();
+    }
+
+    static StudyMemberRankingResponse members(Study study, LocalDate startDate, LocalDate endDate,
+                                              List<MemberRankingRow> rows) {
+        List<StudyMemberRankingResponse.RankEntry> rankings = new ArrayList<>(rows.size());
+        int rank = 1;
+        long totalStudyTime = 0;
+        for (MemberRankingRow row : rows) {
+            totalStudyTime += row.studyTime();
+            rankings.add(StudyMemberRankingResponse.RankEntry.builder()
+                    .rank(rank++)
+                    .userId(row.userId())
+                    .nickname(row.nickname())
+                    .studyTime(row.studyTime())
+                    .characterType(row.characterType())
+                    .formattedStudyTime(TimeUtils.formatMillisToTimeString(row.studyTime()))
+                    .build());
+        }
+
+        return StudyMemberRankingResponse.builder()
+                .studyId(study.getId())
+                .studyName(study.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .rankings(rankings)
+                .totalStudyTime(totalStudyTime)
+                .formattedTotalStudyTime(TimeUtils.formatMillisToTimeString(totalStudyTime))
+                .build();
+    }
+
+    /**
+     * 리더보드 구간을 응답 항목으로 변환 (순위는 구간 시작 위치 기준, 사라진 사용자는 건너뛰되 순위는 유지)
+     */
+    static List<DailyRankingResponse.RankEntry> daily(List<LeaderboardEntry> entries, long offset,
+                                                      List<UserRankProfile> profiles) {
+        Map<Long, UserRankProfile> profileMap = new HashMap<>(profiles.size() * 2);
+        for (UserRankProfile profile : profiles) {
+            profileMap.put(profile.userId(), profile);
+        }
+
+        List<DailyRankingResponse.RankEntry> rankings = new ArrayList<>(entries.size());
+        long rank = offset + 1;
+        for (LeaderboardEntry entry : entries) {
+            UserRankProfile profile = profileMap.get(entry.getMemberId());
+            int currentRank = (int) rank++;
+            if (profile == null) {
+                continue; // 탈퇴 등으로 사라진 사용자
+            }
+
+            rankings.add(DailyRankingResponse.RankEntry.builder()
+                    .rank(currentRank)
+                    .userId(profile.userId())
+                    .nickname(profile.nickname())
+                    .studyTime((long) entry.getScore())
+                    .characterType(profile.characterType())
+                    .build());
+        }
+        return rankings;
+    }
+}
@@ -0,0 +1,96 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.toy.checkoutcheckout.domain.rank.dto.RankingChangesResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 랭킹 버전별 결과 보관소 ("버전 N 이후 변경분" 조회용)
+ * 조회 시점의 결과를 버전과 함께 기록해 두고, 요청한 버전의 결과와 현재 결과를 비교한다.
+ * 랭킹마다 최근 ranking.changes.retained-versions 개 버전만 보관한다.
+ */
+@Component
+class RankingChangeLog {
+
+    private final Cache<String, Map<Long, Map<Long, RankingChangesResponse.Entry>>> histories;
+    private final int retainedVersions;
+
+    RankingChangeLog(@Value("${ranking.changes.max-rankings:10000}") long maxRankings,
+                     @Value("${ranking.changes.retained-versions:32}") int retainedVersions) {
+        this.histories = Caffeine.newBuilder()
+                .maximumSize(maxRankings)
+                .expireAfterAccess(Duration.ofDays(1))
+                .build();
+        this.retainedVersions = Math.max(1, retainedVersions);
+    }
+
+    /**
+     * 현재 결과(버전 version)를 기록하고 since 버전 이후 바뀐 항목을 반환
+     */
+    RankingChangesResponse changesSince(String ranking, long since, long version,
+                                        List<RankingChangesResponse.Entry> current) {
+        Map<Long, RankingChangesResponse.Entry> currentById = new LinkedHashMap<>(current.size() * 2);
+        for (RankingChangesResponse.Entry entry : current) {
+            currentById.put(entry.getId(), entry);
+        }
+
+        Map<Long, Map<Long, RankingChangesResponse.Entry>> history = histories.get(ranking, key -> newHistory());
+        Map<Long, RankingChangesResponse.Entry> previous;
+        synchronized (history) {
+            history.putIfAbsent(version, currentById);
+            previous = history.get(since);
+        }
+
+        if (previous == null) {
+            return RankingChangesResponse.builder()
+                    .sinceVersion(since)
+                    .version(version)
+                    .full(true)
+                    .changes(current)
+                    .removed(new ArrayList<>())
+                    .build();
+        }
+
+        List<RankingChangesResponse.Entry> changes = new ArrayList<>();
+        for (RankingChangesResponse.Entry entry : current) {
+            RankingChangesResponse.Entry before = previous.get(entry.getId());
+            if (before == null || before.getRank() != entry.getRank()
+                    || !Objects.equals(before.getStudyTime(), entry.getStudyTime())) {
+                changes.add(entry);
+            }
+        }
+        List<Long> removed = new ArrayList<>();
+        for (Long id : previous.keySet()) {
+            if (!currentById.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+
+        return RankingChangesResponse.builder()
+                .sinceVersion(since)
+                .version(version)
+                .full(false)
+                .changes(changes)
+                .removed(removed)
+                .build();
+    }
+
+    // 오래된 버전부터 제거되는 버전별 결과 기록
+    private Map<Long, Map<Long, RankingChangesResponse.Entry>> newHistory() {
+        return new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Map<Long, RankingChangesResponse.Entry>> eldest) {
+                return size() > retainedVersions;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 랭킹 스냅샷 인코딩
+ * [버전(1byte)] [항목 수(varint)] 이후 순위 순서대로 [id(varint)] [공부시간 초(varint)] 반복.
+ * 대부분의 id/공부시간이 2~3 바이트로 표현되어 항목당 평균 5바이트 내외가 된다.
+ */
+final class RankingSnapshotCodec {
+
+    private static final int VERSION = 1;
+
+    private RankingSnapshotCodec() {
+    }
+
+    /**
+     * @param rows 순위 순서의 {id, 공부시간(초)} 목록
+     */
+    static byte[] encode(List<long[]> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + rows.size() * 6);
+        out.write(VERSION);
+        writeVarLong(out, rows.size());
+        for (long[] row : rows) {
+            writeVarLong(out, row[0]);
+            writeVarLong(out, row[1]);
+        }
+        return out.toByteArray();
+    }
+
+    static List<long[]> decode(byte[] payload) {
+        int[] position = {0};
+        int version = payload[position[0]++];
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported ranking snapshot version: " + version);
+        }
+        int count = (int) readVarLong(payload, position);
+        List<long[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = readVarLong(payload, position);
+            long studyTime = readVarLong(payload, position);
+            rows.add(new long[]{id, studyTime});
+        }
+        return rows;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] payload, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = payload[position[0]++];
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,206 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.MemberRankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.RankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingRow;
+import com.toy.checkoutcheckout.domain.rank.dto.UserRankProfile;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.rank.repository.RankingPrecomputeRunRepository;
+import com.toy.checkoutcheckout.domain.rank.repository.RankingSnapshotRepository;
+import com.toy.checkoutcheckout.domain.study.entity.Study;
+import com.toy.checkoutcheckout.domain.study.event.StudyMembershipChangedEvent;
+import com.toy.checkoutcheckout.domain.study.repository.StudyRepository;
+import com.toy.checkoutcheckout.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 종료된 기간의 랭킹 스냅샷 저장소
+ * 마감된 기간(종료일까지 자정 정리와 사전 계산 실행이 시작된 기간)의 랭킹은 다시 바뀌지 않으므로
+ * 최초 조회 시(또는 자정 작업 직후) 한 번 계산해 저장하고 이후에는 스냅샷에서 바로 응답한다.
+ * 스터디 내 랭킹은 멤버 구성에 따라 달라지므로 멤버가 바뀌면 그 스터디의 스냅샷을 지운다.
+ */
+@Slf4j
+@Service
+public class RankingSnapshotService {
+
+    private static final Set<RankingSnapshot.Scope> MEMBER_SCOPES = EnumSet.of(
+            RankingSnapshot.Scope.MEMBER_DAILY,
+            RankingSnapshot.Scope.MEMBER_WEEKLY,
+            RankingSnapshot.Scope.MEMBER_MONTHLY);
+
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final RankingPrecomputeRunRepository rankingPrecomputeRunRepository;
+    private final UserRepository userRepository;
+    private final StudyRepository studyRepository;
+    private final TransactionTemplate writeTransaction;
+    // 마지막으로 확인한 마감일 (한 번 마감된 날짜는 다시 열리지 않으므로 그 이전 기간은 조회 없이 판단)
+    private final AtomicReference<LocalDate> latestClosedDate = new AtomicReference<>();
+
+    public RankingSnapshotService(RankingSnapshotRepository rankingSnapshotRepository,
+                                  RankingPrecomputeRunRepository rankingPrecomputeRunRepository,
+                                  UserRepository userRepository,
+                                  StudyRepository studyRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.rankingSnapshotRepository = rankingSnapshotRepository;
+        this.rankingPrecomputeRunRepository = rankingPrecomputeRunRepository;
+        this.userRepository = userRepository;
+        this.studyRepository = studyRepository;
+        // 읽기 전용 트랜잭션 안에서 호출되어도 저장할 수 있도록 별도 트랜잭션 사용
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 기간이 마감되어 랭킹이 더 이상 바뀌지 않는지 확인
+     * 사전 계산 실행 기록은 자정 정리로 활성 세션이 모두 닫힌 뒤에 생기므로 가장 최근 실행의 마감일까지를 마감으로 본다.
+     */
+    public boolean isClosed(LocalDate endDate) {
+        if (!endDate.isBefore(LocalDate.now())) {
+            return false;
+        }
+        LocalDate known = latestClosedDate.get();
+        if (known != null && !endDate.isAfter(known)) {
+            return true;
+        }
+
+        LocalDate latest = rankingPrecomputeRunRepository.findMaxClosedDate();
+        if (latest == null) {
+            return false;
+        }
+        latestClosedDate.accumulateAndGet(latest, (a, b) -> a == null || b.isAfter(a) ? b : a);
+        return !endDate.isAfter(latest);
+    }
+
+    /**
+     * 멤버 구성이 바뀐 스터디의 회원 랭킹 스냅샷 삭제
+     * 변경과 같은 트랜잭션에서 지우므로 커밋 이후(캐시 무효화 등)에는 이전 구성의 스냅샷이 남아 있지 않다.
+     * 스터디 삭제 시에는 StudyService 가 함께 지운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onMembershipChanged(StudyMembershipChangedEvent event) {
+        if (event.getType() == StudyMembershipChangedEvent.Type.STUDY_CREATED
+                || event.getType() == StudyMembershipChangedEvent.Type.STUDY_DELETED) {
+            return;
+        }
+        int deleted = rankingSnapshotRepository.deleteByScopesAndScopeId(MEMBER_SCOPES, event.getStudyId());
+        if (deleted > 0) {
+            log.debug("Dropped {} member ranking snapshots of study {}", deleted, event.getStudyId());
+        }
+    }
+
+    /**
+     * 마감된 기간이면 스냅샷에서(없으면 계산 후 저장), 아니면 loader 로 직접 랭킹을 조회
+     * 행 타입은 범위로 결정된다 (스터디 랭킹은 StudyRankingRow, 스터디 내 랭킹은 MemberRankingRow).
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends RankingRow> List<T> getRanking(RankingSnapshot.Scope scope, Long scopeId,
+                                                     LocalDate startDate, LocalDate endDate,
+                                                     Supplier<List<T>> loader) {
+        if (!isClosed(endDate)) {
+            return loader.get();
+        }
+
+        Optional<RankingSnapshot> snapshot = rankingSnapshotRepository
+                .findByScopeAndScopeIdAndStartDateAndEndDate(scope, scopeId, startDate, endDate);
+        if (snapshot.isPresent()) {
+            return (List<T>) decode(scope, snapshot.get());
+        }
+
+        List<T> rows = loader.get();
+        save(scope, scopeId, startDate, endDate, rows);
+        return rows;
+    }
+
+    /**
+     * 마감된 기간의 스냅샷을 미리 생성 (이미 있으면 건너뜀)
+     */
+    public void freeze(RankingSnapshot.Scope scope, Long scopeId,
+                       LocalDate startDate, LocalDate endDate,
+                       Supplier<? extends List<? extends RankingRow>> loader) {
+        if (!isClosed(endDate)
+                || rankingSnapshotRepository.existsByScopeAndScopeIdAndStartDateAndEndDate(scope, scopeId, startDate, endDate)) {
+            return;
+        }
+        save(scope, scopeId, startDate, endDate, loader.get());
+    }
+
+    private void save(RankingSnapshot.Scope scope, Long scopeId,
+                      LocalDate startDate, LocalDate endDate, List<? extends RankingRow> rows) {
+        List<long[]> encodedRows = new ArrayList<>(rows.size());
+        for (RankingRow row : rows) {
+            encodedRows.add(new long[]{row.id(), row.studyTime()});
+        }
+
+        try {
+            writeTransaction.executeWithoutResult(status -> rankingSnapshotRepository.save(RankingSnapshot.builder()
+                    .scope(scope)
+                    .scopeId(scopeId)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .entryCount(rows.size())
+                    .payload(RankingSnapshotCodec.encode(encodedRows))
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 스냅샷을 생성한 경우 먼저 저장된 것을 사용
+            log.debug("Ranking snapshot already exists: {} {} {}~{}", scope, scopeId, startDate, endDate);
+        }
+    }
+
+    // 표시 정보는 조회 시점 기준으로 한 번의 쿼리로 채움 (삭제된 대상은 제외)
+    private List<? extends RankingRow> decode(RankingSnapshot.Scope scope, RankingSnapshot snapshot) {
+        List<long[]> rows = RankingSnapshotCodec.decode(snapshot.getPayload());
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (long[] row : rows) {
+            ids.add(row[0]);
+        }
+
+        if (scope.isStudyRanking()) {
+            Map<Long, String> names = new HashMap<>();
+            for (Study study : studyRepository.findAllById(ids)) {
+                names.put(study.getId(), study.getName());
+            }
+            List<StudyRankingRow> result = new ArrayList<>(rows.size());
+            for (long[] row : rows) {
+                String name = names.get(row[0]);
+                if (name != null) {
+                    result.add(new StudyRankingRow(row[0], name, row[1]));
+                }
+            }
+            return result;
+        }
+
+        Map<Long, UserRankProfile> profiles = new HashMap<>();
+        for (UserRankProfile profile : userRepository.findRankProfilesByIdIn(ids)) {
+            profiles.put(profile.userId(), profile);
+        }
+        List<MemberRankingRow> result = new ArrayList<>(rows.size());
+        for (long[] row : rows) {
+            UserRankProfile profile = profiles.get(row[0]);
+            if (profile != null) {
+                result.add(new MemberRankingRow(row[0], profile.nickname(), profile.characterType(), row[1]));
+            }
+        }
+        return result;
+    }
+}
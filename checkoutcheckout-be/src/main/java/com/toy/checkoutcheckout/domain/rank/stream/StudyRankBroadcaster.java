@@ -0,0 +1,461 @@
+package com.toy.checkoutcheckout.domain.rank.stream;
+
+import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankDelta;
+import com.toy.checkoutcheckout.domain.study.event.StudyMembershipChangedEvent;
+import com.toy.checkoutcheckout.domain.study.repository.StudyMemberRepository;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStartedEvent;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.timer.service.ActiveTimerRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 스터디 내 일일 랭킹 SSE 브로드캐스터
+ * - 스터디마다 채널 하나가 오늘의 순위표를 메모리에 유지하고, 타이머 시작/종료 시 바뀐 항목만 전송
+ * - 구독자마다 크기가 제한된 전송 큐를 두고 공용 스레드 풀이 비움 (구독자당 스레드 없음)
+ * - 큐가 가득 찬 느린 클라이언트는 연결을 끊음 (재연결 시 snapshot 부터 다시 받음)
+ * - 소켓 쓰기는 크기가 제한된 전송 스레드 풀에서 제한 시간 안에 끝나야 하며, 넘기거나 풀이 가득 차면 그 구독자를 끊음
+ *   (멈춘 쓰기는 컨테이너의 쓰기 타임아웃까지 전송 스레드 하나를 잡고 있으므로 스레드 수는 rank.stream.send-threads 로 제한)
+ * - 진행 중 표시는 활성 타이머 색인으로 채우고 날짜가 바뀔 때도 색인에서 다시 채움
+ */
+@Slf4j
+@Component
+public class StudyRankBroadcaster {
+
+    private final StudyMemberRepository studyMemberRepository;
+    private final ActiveTimerRegistry activeTimerRegistry;
+    private final ExecutorService dispatcher;
+    private final ThreadPoolExecutor sender; // 실제 소켓 쓰기용 (대기열 없이 가득 차면 거절)
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutMillis;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    public StudyRankBroadcaster(StudyMemberRepository studyMemberRepository,
+                                ActiveTimerRegistry activeTimerRegistry,
+                                @Value("${rank.stream.dispatch-threads:2}") int dispatchThreads,
+                                @Value("${rank.stream.buffer-size:64}") int bufferSize,
+                                @Value("${rank.stream.timeout-minutes:30}") long timeoutMinutes,
+                                @Value("${rank.stream.send-timeout-ms:1000}") long sendTimeoutMillis,
+                                @Value("${rank.stream.send-threads:16}") int sendThreads) {
+        this.studyMemberRepository = studyMemberRepository;
+        this.activeTimerRegistry = activeTimerRegistry;
+        this.dispatcher = Executors.newFixedThreadPool(Math.max(1, dispatchThreads));
+        this.bufferSize = Math.max(1, bufferSize);
+        this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+        this.sendTimeoutMillis = Math.max(1L, sendTimeoutMillis);
+        int senders = Math.max(1, sendThreads);
+        this.sender = new ThreadPoolExecutor(senders, senders, 60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+        this.sender.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 구독 등록. 멤버 확인이 끝난 오늘 랭킹을 받아 첫 이벤트(snapshot)로 보내고 채널 순위표를 준비한다.
+     */
+    public SseEmitter subscribe(Long userId, StudyMemberRankingResponse today) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(today.getStudyId(), userId, emitter);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // 색인 조회(Redis)는 채널 잠금 밖에서
+        Set<Long> activeUsers = activeTimerRegistry.findBySessionDate(today.getStartDate()).keySet();
+
+        // 채널 생성/제거가 구독 등록과 엇갈리지 않도록 키 단위 원자적 갱신
+        channels.compute(today.getStudyId(), (studyId, existing) -> {
+            Channel channel = existing != null ? existing : new Channel(studyId);
+            synchronized (channel) {
+                channel.seed(today, activeUsers);
+            }
+            channel.subscribers.add(subscriber);
+            return channel;
+        });
+        enqueue(subscriber, SseEmitter.event().name("snapshot").data(today, MediaType.APPLICATION_JSON).build());
+        return emitter;
+    }
+
+    // 테스트에서 느린 클라이언트를 흉내 내기 위해 분리
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStarted(TimerStartedEvent event) {
+        for (Channel channel : channelsOf(event.getUserId())) {
+            publish(channel, event.getSessionDate(), event.getUserId(), StudyRankDelta.Type.STARTED, 0L, true);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStopped(TimerStoppedEvent event) {
+        for (Channel channel : channelsOf(event.getUserId())) {
+            publish(channel, event.getSessionDate(), event.getUserId(), StudyRankDelta.Type.STOPPED,
+                    event.getDuration(), false);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(StudyMembershipChangedEvent event) {
+        Channel channel = channels.get(event.getStudyId());
+        if (channel == null) {
+            return;
+        }
+
+        switch (event.getType()) {
+            case JOINED -> publish(channel, null, event.getUserId(), StudyRankDelta.Type.JOINED, 0L, false);
+            case LEFT, KICKED -> {
+                publish(channel, null, event.getUserId(), StudyRankDelta.Type.LEFT, 0L, false);
+                // 더 이상 멤버가 아닌 사용자의 구독 종료
+                for (Subscriber subscriber : channel.subscribers) {
+                    if (subscriber.userId.equals(event.getUserId())) {
+                        closeLater(subscriber);
+                    }
+                }
+            }
+            case STUDY_DELETED -> {
+                channels.remove(event.getStudyId(), channel);
+                channel.subscribers.forEach(this::closeLater);
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rank.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (channels.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event().comment("heartbeat").build();
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    public int subscriberCount(Long studyId) {
+        Channel channel = channels.get(studyId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.completed = true;
+        channels.computeIfPresent(subscriber.studyId, (studyId, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private List<Channel> channelsOf(Long userId) {
+        if (channels.isEmpty()) {
+            return List.of(); // 구독자가 없으면 DB 조회도 하지 않음
+        }
+        List<Channel> result = new ArrayList<>();
+        for (Long studyId : studyMemberRepository.findStudyIdsByUserId(userId)) {
+            Channel channel = channels.get(studyId);
+            if (channel != null) {
+                result.add(channel);
+            }
+        }
+        return result;
+    }
+
+    private void publish(Channel channel, LocalDate date, Long userId, StudyRankDelta.Type type,
+                         long addedSeconds, boolean active) {
+        // 날짜가 바뀌는 이벤트면 새 날짜의 진행 중 사용자를 잠금 밖에서 미리 조회
+        LocalDate channelDate = channel.date;
+        Set<Long> activeOnDate = date != null && channelDate != null && date.isAfter(channelDate)
+                ? activeTimerRegistry.findBySessionDate(date).keySet()
+                : Set.of();
+
+        // 적용 순서와 전송 순서가 같도록 채널 잠금 안에서 큐에 넣음 (큐 삽입은 블로킹되지 않음)
+        synchronized (channel) {
+            if (channel.subscribers.isEmpty()) {
+                return;
+            }
+            StudyRankDelta delta = channel.apply(date, userId, type, addedSeconds, active, activeOnDate);
+            if (delta == null) {
+                return;
+            }
+
+            // 이벤트는 한 번만 만들어 모든 구독자가 공유
+            Set<ResponseBodyEmitter.DataWithMediaType> event =
+                    SseEmitter.event().name("delta").data(delta, MediaType.APPLICATION_JSON).build();
+            for (Subscriber subscriber : channel.subscribers) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (subscriber.closing) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            log.info("Dropping slow rank stream subscriber: userId={}", subscriber.userId);
+            closeLater(subscriber);
+            return;
+        }
+        drain(subscriber);
+    }
+
+    private void closeLater(Subscriber subscriber) {
+        subscriber.closing = true;
+        drain(subscriber);
+    }
+
+    // 구독자별로 동시에 하나의 작업만 큐를 비우도록 보장
+    private void drain(Subscriber subscriber) {
+        if (subscriber.completed || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            try {
+                if (subscriber.closing) {
+                    subscriber.close(null);
+                    return;
+                }
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while ((event = subscriber.queue.poll()) != null) {
+                    send(subscriber, event);
+                }
+            } catch (TimeoutException e) {
+                log.info("Dropping slow rank stream subscriber: userId={}", subscriber.userId);
+                subscriber.stalled = true;
+                subscriber.close(e);
+            } catch (RejectedExecutionException e) {
+                // 전송 스레드가 모두 멈춘 쓰기에 묶여 있음
+                log.warn("Dropping rank stream subscriber, all {} send threads busy: userId={}",
+                        sender.getMaximumPoolSize(), subscriber.userId);
+                subscriber.close(e);
+            } catch (IOException | IllegalStateException e) {
+                subscriber.close(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // 종료 중
+            } finally {
+                subscriber.draining.set(false);
+                if (!subscriber.queue.isEmpty() || subscriber.closing) {
+                    drain(subscriber);
+                }
+            }
+        });
+    }
+
+    // 제한 시간 안에 쓰지 못하면 TimeoutException (멈춘 쓰기 자체는 컨테이너 타임아웃까지 전송 스레드에 남음)
+    private void send(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event)
+            throws IOException, TimeoutException, InterruptedException {
+        Future<?> sending = sender.submit(() -> {
+            subscriber.emitter.send(event);
+            return null;
+        });
+        try {
+            sending.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            sending.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof IllegalStateException state) {
+                throw state;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private class Subscriber {
+        private final Long studyId;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closing;
+        private volatile boolean completed;
+        private volatile boolean stalled; // 끝나지 않은 쓰기가 emitter 잠금을 쥐고 있을 수 있음
+
+        private Subscriber(Long studyId, Long userId, SseEmitter emitter) {
+            this.studyId = studyId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void close(Exception error) {
+            closing = true;
+            queue.clear();
+            unsubscribe(this);
+            if (!stalled) {
+                complete(error); // 이 구독자의 쓰기는 drain 안에서만 일어나므로 잠금 경합 없음
+                return;
+            }
+            // 멈춘 쓰기가 끝나야 잠금을 얻으므로 전송 스레드에서 (자리가 없으면 컨테이너의 쓰기/비동기 타임아웃이 정리)
+            try {
+                sender.execute(() -> complete(error));
+            } catch (RejectedExecutionException e) {
+                log.debug("Leaving stalled rank stream to container timeout: userId={}", userId);
+            }
+        }
+
+        private void complete(Exception error) {
+            if (error == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(error);
+            }
+        }
+    }
+
+    /**
+     * 스터디 하나의 오늘 순위표와 구독자 목록. 순위표 접근은 채널 단위로 동기화한다.
+     */
+    private class Channel {
+        private final Long studyId;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Map<Long, Long> studyTimes = new LinkedHashMap<>();
+        private final Set<Long> activeUsers = new HashSet<>();
+        private volatile LocalDate date;
+
+        private Channel(Long studyId) {
+            this.studyId = studyId;
+        }
+
+        private void seed(StudyMemberRankingResponse today, Set<Long> activeOnDate) {
+            if (today.getStartDate().equals(date)) {
+                return; // 이미 같은 날의 순위표를 유지 중
+            }
+            date = today.getStartDate();
+            studyTimes.clear();
+            for (StudyMemberRankingResponse.RankEntry entry : today.getRankings()) {
+                studyTimes.put(entry.getUserId(), entry.getStudyTime());
+            }
+            resetActive(activeOnDate);
+        }
+
+        // 진행 중 표시를 색인 기준으로 다시 채움 (멤버만)
+        private void resetActive(Set<Long> activeOnDate) {
+            activeUsers.clear();
+            for (Long userId : studyTimes.keySet()) {
+                if (activeOnDate.contains(userId)) {
+                    activeUsers.add(userId);
+                }
+            }
+        }
+
+        private StudyRankDelta apply(LocalDate eventDate, Long userId, StudyRankDelta.Type type,
+                                     long addedSeconds, boolean active, Set<Long> activeOnDate) {
+            if (eventDate != null && date != null && eventDate.isBefore(date)) {
+                return null; // 지난 날짜의 기록은 오늘 순위에 영향 없음
+            }
+
+            if (eventDate != null && date != null && eventDate.isAfter(date)) {
+                // 날짜가 바뀌면 모두 0 초에서 다시 시작
+                date = eventDate;
+                studyTimes.replaceAll((id, seconds) -> 0L);
+                resetActive(activeOnDate);
+            }
+
+            Map<Long, Integer> before = ranks();
+            switch (type) {
+                case LEFT -> {
+                    studyTimes.remove(userId);
+                    activeUsers.remove(userId);
+                }
+                case JOINED -> studyTimes.putIfAbsent(userId, 0L);
+                default -> {
+                    studyTimes.merge(userId, addedSeconds, Long::sum);
+                    if (active) {
+                        activeUsers.add(userId);
+                    } else {
+                        activeUsers.remove(userId);
+                    }
+                }
+            }
+            Map<Long, Integer> after = ranks();
+
+            List<StudyRankDelta.Change> changes = new ArrayList<>();
+            Set<Long> ids = new HashSet<>(before.keySet());
+            ids.addAll(after.keySet());
+            for (Long id : ids) {
+                Integer oldRank = before.get(id);
+                Integer newRank = after.get(id);
+                if (id.equals(userId) || !Objects.equals(oldRank, newRank)) {
+                    changes.add(StudyRankDelta.Change.builder()
+                            .userId(id)
+                            .rank(newRank == null ? 0 : newRank)
+                            .studyTime(studyTimes.getOrDefault(id, 0L))
+                            .active(activeUsers.contains(id))
+                            .build());
+                }
+            }
+            changes.sort(Comparator.comparingInt(change -> change.getRank() == 0 ? Integer.MAX_VALUE : change.getRank()));
+
+            return StudyRankDelta.builder()
+                    .studyId(studyId)
+                    .date(date)
+                    .userId(userId)
+                    .type(type)
+                    .changes(changes)
+                    .build();
+        }
+
+        // 공부시간 내림차순 순위 (스터디 정원이 작으므로 매번 정렬)
+        private Map<Long, Integer> ranks() {
+            List<Map.Entry<Long, Long>> sorted = new ArrayList<>(studyTimes.entrySet());
+            sorted.sort(Map.Entry.<Long, Long>comparingByValue().reversed());
+            Map<Long, Integer> ranks = new HashMap<>();
+            int rank = 1;
+            for (Map.Entry<Long, Long> entry : sorted) {
+                ranks.put(entry.getKey(), rank++);
+            }
+            return ranks;
+        }
+    }
+}
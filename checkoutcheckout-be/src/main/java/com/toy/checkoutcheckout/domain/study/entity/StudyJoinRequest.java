@@ -11,7 +11,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "study_join_requests",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"study_id", "user_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"study_id", "user_id"}),
+       indexes = {
+               @Index(name = "idx_study_join_requests_study_status", columnList = "study_id, status"),
+               @Index(name = "idx_study_join_requests_user_status", columnList = "user_id, status")
+       })
 @Getter
 @Builder
 @NoArgsConstructor
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "study_members", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"study_id", "user_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"study_id", "user_id"}),
+       indexes = @Index(name = "idx_study_members_user_study", columnList = "user_id, study_id"))
 @Getter
 @Builder
 @NoArgsConstructor
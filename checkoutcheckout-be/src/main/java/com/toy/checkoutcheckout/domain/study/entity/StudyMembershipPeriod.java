@@ -0,0 +1,44 @@
+package com.toy.checkoutcheckout.domain.study.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스터디 멤버였던 기간 (가입 ~ 탈퇴/강퇴, 현재 멤버는 leftAt 이 null)
+ * study_members 는 탈퇴 시 삭제되므로, 스터디 롤업 백필이 실시간 반영과 같은 기간의 기록만 합산하기 위해 남겨 둔다.
+ */
+@Entity
+@Table(name = "study_membership_periods",
+       indexes = @Index(name = "idx_study_membership_periods_user_study", columnList = "user_id, study_id"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyMembershipPeriod {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "study_id", nullable = false)
+    private Long studyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime joinedAt;
+
+    private LocalDateTime leftAt;
+}
@@ -0,0 +1,20 @@
+package com.toy.checkoutcheckout.domain.study.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스터디 멤버 구성이 바뀌었을 때 발행되는 이벤트 (가입/탈퇴/강퇴/승인/스터디 생성·삭제)
+ */
+@Getter
+@AllArgsConstructor
+public class StudyMembershipChangedEvent {
+
+    private final Long studyId;
+    private final Long userId;
+    private final Type type;
+
+    public enum Type {
+        JOINED, LEFT, KICKED, STUDY_CREATED, STUDY_DELETED
+    }
+}
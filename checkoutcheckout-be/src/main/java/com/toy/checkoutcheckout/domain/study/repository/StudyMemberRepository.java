@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +30,15 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
     List<StudyMember> findAdminsByStudy(@Param("study") Study study);
     
     boolean existsByStudyAndUser(Study study, User user);
+    
+    @Query("SELECT COUNT(sm) > 0 FROM StudyMember sm WHERE sm.study.id = :studyId AND sm.user.id = :userId")
+    boolean existsByStudyIdAndUserId(@Param("studyId") Long studyId, @Param("userId") Long userId);
+    
+    @Query("SELECT sm.study.id FROM StudyMember sm WHERE sm.user.id = :userId")
+    List<Long> findStudyIdsByUserId(@Param("userId") Long userId);
+    
+    // 주어진 시각 이전에 가입한 스터디 ID (스터디 집계 반영 대상, ID 오름차순)
+    @Query("SELECT sm.study.id FROM StudyMember sm WHERE sm.user.id = :userId AND sm.joinedAt < :before " +
+           "ORDER BY sm.study.id")
+    List<Long> findStudyIdsJoinedBefore(@Param("userId") Long userId, @Param("before") LocalDateTime before);
 }
@@ -0,0 +1,42 @@
+package com.toy.checkoutcheckout.domain.study.repository;
+
+import com.toy.checkoutcheckout.domain.study.entity.StudyMembershipPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface StudyMembershipPeriodRepository extends JpaRepository<StudyMembershipPeriod, Long> {
+
+    // 열린 기간이 없는 현재 멤버의 기간을 가입 시각부터 시작 (가입 직후, 또는 기간 기록 이전부터의 멤버)
+    @Modifying
+    @Query(value = "INSERT INTO study_membership_periods (study_id, user_id, joined_at) " +
+                   "SELECT sm.study_id, sm.user_id, sm.joined_at FROM study_members sm " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM study_membership_periods p " +
+                   "WHERE p.study_id = sm.study_id AND p.user_id = sm.user_id AND p.left_at IS NULL)",
+           nativeQuery = true)
+    int openMissingPeriods();
+
+    @Modifying
+    @Query(value = "INSERT INTO study_membership_periods (study_id, user_id, joined_at) " +
+                   "SELECT sm.study_id, sm.user_id, sm.joined_at FROM study_members sm " +
+                   "WHERE sm.study_id = :studyId AND sm.user_id = :userId " +
+                   "AND NOT EXISTS (SELECT 1 FROM study_membership_periods p " +
+                   "WHERE p.study_id = sm.study_id AND p.user_id = sm.user_id AND p.left_at IS NULL)",
+           nativeQuery = true)
+    int openPeriod(@Param("studyId") Long studyId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE StudyMembershipPeriod p SET p.leftAt = :leftAt " +
+           "WHERE p.studyId = :studyId AND p.userId = :userId AND p.leftAt IS NULL")
+    int closePeriod(@Param("studyId") Long studyId, @Param("userId") Long userId, @Param("leftAt") LocalDateTime leftAt);
+
+    // 스터디 삭제 시 기간 삭제 (스터디 집계도 함께 삭제됨)
+    @Modifying
+    @Query("DELETE FROM StudyMembershipPeriod p WHERE p.studyId = :studyId")
+    int deleteByStudyId(@Param("studyId") Long studyId);
+}
@@ -0,0 +1,51 @@
+package com.toy.checkoutcheckout.domain.study.service;
+
+import com.toy.checkoutcheckout.domain.study.event.StudyMembershipChangedEvent;
+import com.toy.checkoutcheckout.domain.study.repository.StudyMembershipPeriodRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스터디 멤버 기간 기록 (study_membership_periods)
+ * 가입/탈퇴와 같은 트랜잭션에서 기간을 열고 닫으며, 기동 시 기간이 없는 현재 멤버의 기간을 가입 시각부터 채운다.
+ */
+@Slf4j
+@Service
+public class StudyMembershipHistoryService implements InitializingBean {
+
+    private final StudyMembershipPeriodRepository studyMembershipPeriodRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudyMembershipHistoryService(StudyMembershipPeriodRepository studyMembershipPeriodRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.studyMembershipPeriodRepository = studyMembershipPeriodRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Integer opened = transactionTemplate.execute(status -> studyMembershipPeriodRepository.openMissingPeriods());
+        if (opened != null && opened > 0) {
+            log.info("Opened {} study membership periods for existing members", opened);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onMembershipChanged(StudyMembershipChangedEvent event) {
+        switch (event.getType()) {
+            case JOINED, STUDY_CREATED -> studyMembershipPeriodRepository.openPeriod(event.getStudyId(), event.getUserId());
+            case LEFT, KICKED -> studyMembershipPeriodRepository.closePeriod(
+                    event.getStudyId(), event.getUserId(), LocalDateTime.now());
+            case STUDY_DELETED -> studyMembershipPeriodRepository.deleteByStudyId(event.getStudyId());
+        }
+    }
+}
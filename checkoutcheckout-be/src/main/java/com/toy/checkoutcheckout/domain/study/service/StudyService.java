@@ -1,22 +1,29 @@
 package com.toy.checkoutcheckout.domain.study.service;
 
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.rank.repository.RankHistoryRepository;
+import com.toy.checkoutcheckout.domain.rank.repository.RankingSnapshotRepository;
 import com.toy.checkoutcheckout.domain.study.dto.*;
 import com.toy.checkoutcheckout.domain.study.entity.Study;
 import com.toy.checkoutcheckout.domain.study.entity.StudyJoinRequest;
 import com.toy.checkoutcheckout.domain.study.entity.StudyMember;
+import com.toy.checkoutcheckout.domain.study.event.StudyMembershipChangedEvent;
 import com.toy.checkoutcheckout.domain.study.repository.StudyJoinRequestRepository;
 import com.toy.checkoutcheckout.domain.study.repository.StudyMemberRepository;
 import com.toy.checkoutcheckout.domain.study.repository.StudyRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.StudyDailyTotalRepository;
 import com.toy.checkoutcheckout.domain.user.entity.User;
 import com.toy.checkoutcheckout.domain.user.repository.UserRepository;
 import com.toy.checkoutcheckout.global.error.BadRequestException;
 import com.toy.checkoutcheckout.global.error.ForbiddenException;
 import com.toy.checkoutcheckout.global.error.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,7 +35,11 @@ public class StudyService {
     private final StudyMemberRepository studyMemberRepository;
     private final StudyJoinRequestRepository studyJoinRequestRepository;
     private final UserRepository userRepository;
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final RankHistoryRepository rankHistoryRepository;
+    private final StudyDailyTotalRepository studyDailyTotalRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StudyResponse createStudy(Long userId, StudyRequest request) {
@@ -60,6 +71,7 @@ public class StudyService {
                 .build();
 
         studyMemberRepository.save(ownerMember);
+        publishMembershipChanged(savedStudy.getId(), userId, StudyMembershipChangedEvent.Type.STUDY_CREATED);
 
         return StudyResponse.from(savedStudy, userId, 1, true);
     }
@@ -173,8 +185,21 @@ public class StudyService {
         studyMemberRepository.deleteAll(
                 studyMemberRepository.findByStudy(study)
         );
+        
+        // 스터디 내 랭킹 스냅샷 삭제
+        rankingSnapshotRepository.deleteByScopesAndScopeId(EnumSet.of(
+                RankingSnapshot.Scope.MEMBER_DAILY,
+                RankingSnapshot.Scope.MEMBER_WEEKLY,
+                RankingSnapshot.Scope.MEMBER_MONTHLY), studyId);
+        
+        // 스터디 내 순위 기록 삭제
+        rankHistoryRepository.deleteByScopeId(studyId);
+        
+        // 스터디 일일 집계 삭제
+        studyDailyTotalRepository.deleteByStudyId(studyId);
 
         studyRepository.delete(study);
+        publishMembershipChanged(studyId, userId, StudyMembershipChangedEvent.Type.STUDY_DELETED);
     }
 
     @Transactional
@@ -226,6 +251,7 @@ public class StudyService {
                     .build();
 
             studyMemberRepository.save(member);
+            publishMembershipChanged(studyId, userId, StudyMembershipChangedEvent.Type.JOINED);
         }
     }
 
@@ -247,6 +273,7 @@ public class StudyService {
                 .orElseThrow(() -> new NotFoundException("스터디 멤버가 아닙니다."));
 
         studyMemberRepository.delete(member);
+        publishMembershipChanged(studyId, userId, StudyMembershipChangedEvent.Type.LEFT);
     }
 
     @Transactional
@@ -282,6 +309,7 @@ public class StudyService {
         }
 
         studyMemberRepository.delete(targetMember);
+        publishMembershipChanged(studyId, targetUserId, StudyMembershipChangedEvent.Type.KICKED);
     }
 
     @Transactional
@@ -387,6 +415,7 @@ public class StudyService {
                 .build();
 
         studyMemberRepository.save(member);
+        publishMembershipChanged(studyId, joinRequest.getUser().getId(), StudyMembershipChangedEvent.Type.JOINED);
     }
 
     @Transactional
@@ -416,4 +445,9 @@ public class StudyService {
         // 요청 거절
         joinRequest.reject();
     }
+
+    // 랭킹 캐시 등 멤버 구성에 의존하는 데이터 갱신 (리스너는 커밋 이후 실행)
+    private void publishMembershipChanged(Long studyId, Long userId, StudyMembershipChangedEvent.Type type) {
+        eventPublisher.publishEvent(new StudyMembershipChangedEvent(studyId, userId, type));
+    }
 }
@@ -1,19 +1,29 @@
 package com.toy.checkoutcheckout.domain.timer.controller;
 
 import com.toy.checkoutcheckout.domain.timer.dto.DailyStudyTimeResponse;
+import com.toy.checkoutcheckout.domain.timer.dto.RecentSessionsResponse;
+import com.toy.checkoutcheckout.domain.timer.dto.StudyHeatmapResponse;
+import com.toy.checkoutcheckout.domain.timer.dto.StudyTimeSeriesResponse;
 import com.toy.checkoutcheckout.domain.timer.dto.TimerSessionResponse;
 import com.toy.checkoutcheckout.domain.timer.dto.TimerStatusResponse;
+import com.toy.checkoutcheckout.domain.timer.journal.TimerJournalService;
+import com.toy.checkoutcheckout.domain.timer.service.StudyActivityService;
+import com.toy.checkoutcheckout.domain.timer.service.TimerExportService;
 import com.toy.checkoutcheckout.domain.timer.service.TimerService;
 import com.toy.checkoutcheckout.global.auth.CurrentUser;
 import com.toy.checkoutcheckout.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/timer")
@@ -21,22 +31,31 @@ import java.util.List;
 public class TimerController {
 
     private final TimerService timerService;
+    private final TimerExportService timerExportService;
+    private final StudyActivityService studyActivityService;
+    private final ObjectProvider<TimerJournalService> timerJournalService; // timer.journal.enabled 일 때만 존재
 
     @PostMapping("/start")
     public ResponseEntity<ApiResponse<TimerSessionResponse>> startTimer(@AuthenticationPrincipal CurrentUser currentUser) {
-        TimerSessionResponse response = timerService.startTimer(currentUser.getEmail());
+        TimerJournalService journal = timerJournalService.getIfAvailable();
+        TimerSessionResponse response = journal != null
+                ? journal.start(currentUser.getUserId())
+                : timerService.startTimer(currentUser.getEmail());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @PostMapping("/stop")
     public ResponseEntity<ApiResponse<TimerSessionResponse>> stopTimer(@AuthenticationPrincipal CurrentUser currentUser) {
-        TimerSessionResponse response = timerService.stopTimer(currentUser.getEmail());
+        TimerJournalService journal = timerJournalService.getIfAvailable();
+        TimerSessionResponse response = journal != null
+                ? journal.stop(currentUser.getUserId())
+                : timerService.stopTimer(currentUser.getEmail());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/status")
     public ResponseEntity<ApiResponse<TimerStatusResponse>> getTimerStatus(@AuthenticationPrincipal CurrentUser currentUser) {
-        TimerStatusResponse response = timerService.getTimerStatus(currentUser.getEmail());
+        TimerStatusResponse response = timerService.getTimerStatus(currentUser.getUserId());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -52,9 +71,58 @@ public class TimerController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // Accept 가 열 형식 미디어 타입이면 날짜별 목록 대신 시작일 + 날짜 순 초 배열로 응답
+    @GetMapping(value = "/history", produces = StudyTimeSeriesResponse.MEDIA_TYPE)
+    public ResponseEntity<ApiResponse<StudyTimeSeriesResponse>> getStudyTimeSeries(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @RequestParam(defaultValue = "#{T(java.time.LocalDate).now().minusDays(30)}")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(defaultValue = "#{T(java.time.LocalDate).now()}")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        StudyTimeSeriesResponse response = timerService.getStudyTimeSeries(currentUser.getEmail(), startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 최근 365일 공부 잔디와 연속 공부 일수
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<StudyHeatmapResponse>> getHeatmap(@AuthenticationPrincipal CurrentUser currentUser) {
+        StudyHeatmapResponse response = studyActivityService.getHeatmap(currentUser.getUserId(), LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 세션 기록 전체 내보내기 (CSV / NDJSON, 선택적으로 gzip), DB 커서에서 읽는 대로 바로 응답에 기록
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSessions(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        TimerExportService.Format exportFormat = TimerExportService.Format.from(format);
+        timerExportService.validateRange(startDate, endDate);
+        Long userId = currentUser.getUserId();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("timer-sessions." + exportFormat.extension() + (gzip ? ".gz" : ""))
+                        .build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> timerExportService.export(userId, startDate, endDate, exportFormat, gzip, out));
+    }
+
     @GetMapping("/recent")
-    public ResponseEntity<ApiResponse<List<TimerSessionResponse>>> getRecentSessions(@AuthenticationPrincipal CurrentUser currentUser) {
-        List<TimerSessionResponse> sessions = timerService.getRecentSessions(currentUser.getEmail());
-        return ResponseEntity.ok(ApiResponse.success(sessions));
+    public ResponseEntity<ApiResponse<RecentSessionsResponse>> getRecentSessions(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        RecentSessionsResponse response = timerService.getRecentSessions(currentUser.getEmail(), cursor, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
@@ -6,9 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -27,13 +26,16 @@ public class DailyStudyTimeResponse {
     
     private List<DailyRecord> records;
     
-    public static DailyStudyTimeResponse from(Map<LocalDate, Long> dailyStudyTimes) {
-        List<DailyRecord> records = dailyStudyTimes.entrySet().stream()
-                .map(entry -> DailyRecord.builder()
-                        .date(entry.getKey())
-                        .duration(entry.getValue())
-                        .build())
-                .collect(Collectors.toList());
+    // 열 형식 기록을 날짜 오름차순 목록으로 펼침
+    public static DailyStudyTimeResponse from(StudyTimeSeriesResponse series) {
+        long[] seconds = series.getSeconds();
+        List<DailyRecord> records = new ArrayList<>(seconds.length);
+        for (int i = 0; i < seconds.length; i++) {
+            records.add(DailyRecord.builder()
+                    .date(series.getStartDate().plusDays((long) i * series.getStepDays()))
+                    .duration(seconds[i])
+                    .build());
+        }
                 
         return DailyStudyTimeResponse.builder()
                 .records(records)
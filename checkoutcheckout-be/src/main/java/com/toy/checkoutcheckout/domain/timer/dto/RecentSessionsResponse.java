@@ -0,0 +1,18 @@
+package com.toy.checkoutcheckout.domain.timer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentSessionsResponse {
+
+    private List<TimerSessionResponse> sessions; // 시작 시각 내림차순
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,22 @@
+package com.toy.checkoutcheckout.domain.timer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyHeatmapResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String levels; // startDate 부터 하루 한 글자 '0'~'4' (공부 강도)
+    private int activeDays; // 기간 중 공부한 날 수
+    private int currentStreak; // 오늘(오늘 기록이 없으면 어제)까지 연속 공부 일수
+    private int longestStreak; // 전체 기록 중 최장 연속 공부 일수
+}
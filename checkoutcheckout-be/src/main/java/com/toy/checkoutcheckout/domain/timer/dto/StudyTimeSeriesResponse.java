@@ -0,0 +1,27 @@
+package com.toy.checkoutcheckout.domain.timer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 공부 시간 기록의 열 형식 표현
+ * seconds[i] 는 startDate + i * stepDays 날짜의 공부 시간(초)이며, 기록이 없는 날도 0 으로 채워져 있다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyTimeSeriesResponse {
+
+    public static final String MEDIA_TYPE = "application/vnd.checkoutcheckout.series+json";
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int stepDays;
+    private long[] seconds;
+    private long totalSeconds;
+}
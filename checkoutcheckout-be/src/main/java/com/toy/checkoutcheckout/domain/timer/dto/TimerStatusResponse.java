@@ -18,6 +18,20 @@ public class TimerStatusResponse {
     private LocalDateTime startTime;
     private Long currentDuration;  // 초 단위로 현재까지 경과한 시간
     
+    public static TimerStatusResponse active(LocalDateTime startTime, long currentDuration) {
+        return TimerStatusResponse.builder()
+                .isActive(true)
+                .startTime(startTime)
+                .currentDuration(currentDuration)
+                .build();
+    }
+    
+    public static TimerStatusResponse inactive() {
+        return TimerStatusResponse.builder()
+                .isActive(false)
+                .build();
+    }
+    
     public static TimerStatusResponse from(TimerSession timerSession) {
         if (timerSession == null) {
             return TimerStatusResponse.builder()
@@ -0,0 +1,25 @@
+package com.toy.checkoutcheckout.domain.timer.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일일 롤업 재집계와 실시간 반영 사이의 잠금 행 (RollupFenceService)
+ * 행의 내용은 쓰지 않고 잠금 대상으로만 사용한다.
+ */
+@Entity
+@Table(name = "rollup_fences")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupFence {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+}
@@ -0,0 +1,114 @@
+package com.toy.checkoutcheckout.domain.timer.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+
+/**
+ * 사용자의 연간 공부 기록 (사용자, 연도당 한 행)
+ * - days: 그 해의 날짜(1~366)마다 공부 여부 1비트 (비트 i = i+1 번째 날, 리틀 엔디언으로 {@link BitSet} 과 같은 배치)
+ * - levels: 날짜마다 공부 강도 0~4 를 4비트씩 (하루 합계 시간을 {@link #LEVEL_THRESHOLDS} 로 나눈 단계)
+ * 하루 값은 그 날의 합계로 다시 계산해 덮어쓰므로 같은 날짜를 여러 번 기록해도 결과가 같다.
+ */
+@Entity
+@Table(name = "study_activities",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "year"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyActivity {
+
+    private static final int DAYS = 366;
+    private static final int DAY_BYTES = (DAYS + 7) / 8;
+    private static final int LEVEL_BYTES = (DAYS + 1) / 2;
+    // 단계 1~4 의 하한 (초): 공부 기록 있음, 30분, 1시간, 3시간
+    private static final long[] LEVEL_THRESHOLDS = {1L, 1800L, 3600L, 10800L};
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false, length = DAY_BYTES)
+    private byte[] days;
+
+    @Column(nullable = false, length = LEVEL_BYTES)
+    private byte[] levels;
+
+    public static StudyActivity empty(Long userId, int year) {
+        return StudyActivity.builder()
+                .userId(userId)
+                .year(year)
+                .days(new byte[DAY_BYTES])
+                .levels(new byte[LEVEL_BYTES])
+                .build();
+    }
+
+    /**
+     * 하루 합계 공부 시간(초)의 강도 단계 (0 = 기록 없음)
+     */
+    public static int level(long seconds) {
+        int level = 0;
+        while (level < LEVEL_THRESHOLDS.length && seconds >= LEVEL_THRESHOLDS[level]) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * date 의 하루 합계 공부 시간으로 공부 여부와 강도를 갱신
+     */
+    public void record(LocalDate date, long totalSeconds) {
+        int index = index(date);
+        int level = level(totalSeconds);
+
+        if (level > 0) {
+            days[index >> 3] |= (byte) (1 << (index & 7));
+        } else {
+            days[index >> 3] &= (byte) ~(1 << (index & 7));
+        }
+
+        int shift = (index & 1) * 4;
+        levels[index >> 1] = (byte) ((levels[index >> 1] & ~(0xF << shift)) | (level << shift));
+    }
+
+    public boolean studiedOn(LocalDate date) {
+        int index = index(date);
+        return (days[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+    public int levelOn(LocalDate date) {
+        int index = index(date);
+        return (levels[index >> 1] >> ((index & 1) * 4)) & 0xF;
+    }
+
+    /**
+     * 공부한 날의 비트 집합 (비트 i = 그 해의 i+1 번째 날)
+     */
+    public BitSet dayBits() {
+        return BitSet.valueOf(days);
+    }
+
+    public int lengthOfYear() {
+        return Year.of(year).length();
+    }
+
+    private int index(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("Date " + date + " is outside study activity year " + year);
+        }
+        return date.getDayOfYear() - 1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.toy.checkoutcheckout.domain.timer.entity;
+
+import com.toy.checkoutcheckout.domain.study.entity.Study;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 스터디별 일일 공부시간 합계
+ * 타이머 종료 시 사용자가 속한 모든 스터디에 같은 트랜잭션에서 증분 갱신된다.
+ * 멤버의 기록은 가입한 날부터 반영되며, 탈퇴해도 이미 반영된 기록은 스터디에 남는다.
+ * 사용자 롤업과 마찬가지로 누적값으로 임의 기간의 합계를 구한다.
+ */
+@Entity
+@Table(name = "study_daily_totals",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"study_id", "session_date"}),
+       indexes = @Index(name = "idx_study_daily_totals_date_study_total", columnList = "session_date, study_id, total_duration"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyDailyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "study_id", nullable = false)
+    private Study study;
+
+    @Column(name = "session_date", nullable = false)
+    private LocalDate sessionDate;
+
+    @Column(name = "total_duration", nullable = false)
+    private Long totalDuration; // 초 단위
+
+    @Column(name = "cumulative_duration", nullable = false)
+    private Long cumulativeDuration; // 첫 기록부터 이 날짜까지의 누적 (초 단위)
+}
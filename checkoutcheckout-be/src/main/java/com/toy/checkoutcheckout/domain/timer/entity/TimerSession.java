@@ -10,9 +10,18 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "timer_sessions")
+@Table(name = "timer_sessions",
+       indexes = {
+               @Index(name = "idx_timer_sessions_user_date_duration", columnList = "user_id, session_date, duration"),
+               @Index(name = "idx_timer_sessions_user_active", columnList = "user_id, is_active"),
+               @Index(name = "idx_timer_sessions_user_start_id", columnList = "user_id, start_time, id"),
+               @Index(name = "idx_timer_sessions_session_date", columnList = "session_date"),
+               @Index(name = "idx_timer_sessions_active_id", columnList = "is_active, id")
+       })
 @Getter
 @Builder
 @NoArgsConstructor
@@ -40,21 +49,63 @@ public class TimerSession {
     @Column(nullable = false)
     private boolean isActive; // 현재 활성화된 세션인지 여부
 
+    @Column(name = "active_user_id", unique = true)
+    private Long activeUserId; // 활성 동안 user_id, 종료되면 null (사용자당 활성 세션 하나를 DB 에서 보장)
+
+    @Column(name = "journal_seq", unique = true)
+    private Long journalSeq; // 타이머 저널로 시작된 세션의 시작 기록 순번 (재실행 시 중복 저장 방지)
+
     @PrePersist
     public void prePersist() {
         if (this.startTime == null) {
             this.startTime = LocalDateTime.now();
         }
         this.sessionDate = this.startTime.toLocalDate();
+        if (this.endTime != null) {
+            return; // 이미 종료된 구간 (자정 분할 등)
+        }
         this.isActive = true;
+        this.activeUserId = this.user.getId();
         this.duration = 0L; // 초기 duration 값을 0으로 설정
     }
 
-    public void stopTimer() {
-        LocalDateTime now = LocalDateTime.now();
-        this.endTime = now;
-        this.duration = ChronoUnit.SECONDS.between(this.startTime, now);
+    /**
+     * closeTime 에 세션을 종료하면서 자정을 넘긴 부분은 날짜별 종료된 세션으로 분리
+     * 이 세션은 시작일 자정까지로 끝나고, 이후 날짜의 구간은 새 세션(저장 전)으로 반환된다.
+     */
+    public List<TimerSession> stopAtSplittingDays(LocalDateTime closeTime) {
+        List<TimerSession> following = new ArrayList<>();
+        LocalDateTime nextMidnight = this.startTime.toLocalDate().plusDays(1).atStartOfDay();
+        if (!closeTime.isAfter(nextMidnight)) {
+            close(closeTime);
+            return following;
+        }
+
+        close(nextMidnight);
+        LocalDateTime segmentStart = nextMidnight;
+        while (segmentStart.isBefore(closeTime)) {
+            LocalDateTime segmentEnd = segmentStart.plusDays(1);
+            if (segmentEnd.isAfter(closeTime)) {
+                segmentEnd = closeTime;
+            }
+            following.add(TimerSession.builder()
+                    .user(this.user)
+                    .startTime(segmentStart)
+                    .endTime(segmentEnd)
+                    .duration(ChronoUnit.SECONDS.between(segmentStart, segmentEnd))
+                    .sessionDate(segmentStart.toLocalDate())
+                    .isActive(false)
+                    .build());
+            segmentStart = segmentEnd;
+        }
+        return following;
+    }
+
+    private void close(LocalDateTime endTime) {
+        this.endTime = endTime;
+        this.duration = Math.max(0L, ChronoUnit.SECONDS.between(this.startTime, endTime));
         this.isActive = false;
+        this.activeUserId = null;
     }
 
     private Long calculateDuration() {
@@ -0,0 +1,47 @@
+package com.toy.checkoutcheckout.domain.timer.entity;
+
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 공부시간 합계 (timer_sessions 집계 롤업)
+ * 타이머 종료 시 같은 트랜잭션에서 증분 갱신된다.
+ * 누적값(cumulative_duration)을 함께 두어 임의 기간 [s, e] 의 합계를 P(e) - P(s-1) 로 구한다.
+ * (P(d) 는 d 이전 마지막 기록의 누적값, 기록이 없는 날은 직전 값과 같으므로 행을 만들지 않음)
+ */
+@Entity
+@Table(name = "user_daily_totals",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "session_date"}),
+       indexes = {
+               @Index(name = "idx_user_daily_totals_user_date_total", columnList = "user_id, session_date, total_duration"),
+               @Index(name = "idx_user_daily_totals_date_user_total", columnList = "session_date, user_id, total_duration")
+       })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "session_date", nullable = false)
+    private LocalDate sessionDate;
+
+    @Column(name = "total_duration", nullable = false)
+    private Long totalDuration; // 초 단위
+
+    @Column(name = "cumulative_duration", nullable = false)
+    private Long cumulativeDuration; // 첫 기록부터 이 날짜까지의 누적 (초 단위)
+}
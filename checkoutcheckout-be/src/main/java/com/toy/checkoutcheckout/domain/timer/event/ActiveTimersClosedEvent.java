@@ -0,0 +1,17 @@
+package com.toy.checkoutcheckout.domain.timer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 자정 스케줄러가 활성 세션을 모두 종료한 뒤 발행되는 이벤트
+ * closedDate 까지의 기록은 더 이상 바뀌지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ActiveTimersClosedEvent {
+
+    private final LocalDate closedDate;
+}
@@ -0,0 +1,36 @@
+package com.toy.checkoutcheckout.domain.timer.event;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 타이머 세션이 시작되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class TimerStartedEvent {
+
+    private final Long userId;
+    private final Long sessionId;
+    private final LocalDate sessionDate;
+    private final LocalDateTime startTime;
+    private final boolean journaled; // 타이머 저널에서 나중에 저장된 세션 (요청 시점에 이미 활성 타이머 색인에 반영됨)
+
+    public static TimerStartedEvent from(TimerSession session) {
+        return new TimerStartedEvent(
+                session.getUser().getId(),
+                session.getId(),
+                session.getSessionDate(),
+                session.getStartTime(),
+                false
+        );
+    }
+
+    public static TimerStartedEvent journaled(Long userId, Long sessionId, LocalDateTime startTime) {
+        return new TimerStartedEvent(userId, sessionId, startTime.toLocalDate(), startTime, true);
+    }
+}
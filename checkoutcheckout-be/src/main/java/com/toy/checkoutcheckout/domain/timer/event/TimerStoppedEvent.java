@@ -0,0 +1,35 @@
+package com.toy.checkoutcheckout.domain.timer.event;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 타이머 세션이 종료되었을 때 발행되는 이벤트
+ * 종료된 세션의 공부시간을 랭킹 등 파생 데이터에 반영하기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class TimerStoppedEvent {
+
+    private final Long userId;
+    private final Long sessionId;
+    private final LocalDate sessionDate;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final long duration; // 초 단위
+
+    public static TimerStoppedEvent from(TimerSession session) {
+        return new TimerStoppedEvent(
+                session.getUser().getId(),
+                session.getId(),
+                session.getSessionDate(),
+                session.getStartTime(),
+                session.getEndTime(),
+                session.getDuration() != null ? session.getDuration() : 0L
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.toy.checkoutcheckout.domain.timer.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 타이머 시작/종료 기록을 덧붙이는 파일 로그와 반영 위치(체크포인트)
+ * - 덧붙이기는 고정 폭 기록 한 번의 write 이므로 프로세스가 죽어도 OS 버퍼까지 쓴 기록은 남는다. (fsync 설정 시 디스크까지)
+ * - 끝부분의 쓰다 만/손상된 기록은 열 때 잘라낸다.
+ * - 모든 기록이 DB 에 반영되면 파일을 비우고, 순번은 체크포인트 이후로 계속 이어진다.
+ */
+public class TimerJournal implements AutoCloseable {
+
+    private static final String LOG_FILE = "timer-journal.log";
+    private static final String CHECKPOINT_FILE = "timer-journal.checkpoint";
+
+    private final Path logPath;
+    private final Path checkpointPath;
+    private final boolean fsync;
+    private final FileChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(TimerJournalRecord.SIZE);
+    private final List<TimerJournalRecord> unpersisted;
+    private long lastSeq;
+    private long checkpoint;
+
+    public TimerJournal(Path directory, boolean fsync) throws IOException {
+        Files.createDirectories(directory);
+        this.logPath = directory.resolve(LOG_FILE);
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        this.fsync = fsync;
+        this.checkpoint = readCheckpoint();
+        this.channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.unpersisted = recover();
+    }
+
+    /**
+     * 열 때 읽은 기록 중 체크포인트 이후(아직 DB 에 반영되지 않았을 수 있는) 기록
+     */
+    public List<TimerJournalRecord> unpersisted() {
+        return unpersisted;
+    }
+
+    public synchronized TimerJournalRecord append(TimerJournalRecord.Type type, long userId, LocalDateTime time,
+                                                  long startSeq, long sessionId) {
+        TimerJournalRecord record = new TimerJournalRecord(type, lastSeq + 1, userId, time, startSeq, sessionId);
+        writeBuffer.clear();
+        record.writeTo(writeBuffer);
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append timer journal record", e);
+        }
+        lastSeq = record.seq();
+        return record;
+    }
+
+    /**
+     * seq 까지 DB 에 반영되었음을 기록하고, 그 뒤로 덧붙여진 기록이 없으면 파일을 비움
+     */
+    public synchronized void checkpoint(long seq) throws IOException {
+        if (seq <= checkpoint) {
+            return;
+        }
+        Path temp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.write(temp, ByteBuffer.allocate(Long.BYTES).putLong(seq).array());
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint = seq;
+
+        if (seq == lastSeq) {
+            channel.truncate(0);
+            channel.position(0);
+        }
+    }
+
+    public synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private List<TimerJournalRecord> recover() throws IOException {
+        List<TimerJournalRecord> records = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size(), Integer.MAX_VALUE));
+        channel.read(buffer, 0);
+        buffer.flip();
+
+        long validBytes = 0;
+        long maxSeq = checkpoint;
+        TimerJournalRecord record;
+        while ((record = TimerJournalRecord.readFrom(buffer)) != null) {
+            validBytes += TimerJournalRecord.SIZE;
+            maxSeq = Math.max(maxSeq, record.seq());
+            if (record.seq() > checkpoint) {
+                records.add(record);
+            }
+        }
+
+        channel.truncate(validBytes);
+        channel.position(validBytes);
+        lastSeq = maxSeq;
+        return records;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0L;
+        }
+        byte[] bytes = Files.readAllBytes(checkpointPath);
+        return bytes.length == Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : 0L;
+    }
+}
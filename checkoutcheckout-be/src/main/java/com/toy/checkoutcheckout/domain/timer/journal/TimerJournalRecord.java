@@ -0,0 +1,60 @@
+package com.toy.checkoutcheckout.domain.timer.journal;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+/**
+ * 타이머 저널의 한 기록 (고정 45바이트)
+ * [종류 1][순번 8][사용자 ID 8][시각(ms) 8][시작 기록 순번 8][세션 ID 8][CRC32 4]
+ * 종료 기록은 대상 세션을 시작 기록 순번(저널로 시작한 경우) 또는 세션 ID 로 반드시 가리키며, 둘 다 0 인 기록은 반영하지 않는다.
+ */
+public record TimerJournalRecord(Type type, long seq, long userId, LocalDateTime time, long startSeq, long sessionId) {
+
+    static final int SIZE = 1 + 8 * 5 + 4;
+
+    public enum Type {
+        START, STOP
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.put((byte) type.ordinal());
+        buffer.putLong(seq);
+        buffer.putLong(userId);
+        buffer.putLong(time.toInstant(ZoneOffset.UTC).toEpochMilli());
+        buffer.putLong(startSeq);
+        buffer.putLong(sessionId);
+        buffer.putInt(checksum(buffer, start, SIZE - 4));
+    }
+
+    /**
+     * 손상되었거나(체크섬 불일치) 쓰다 만 기록이면 null
+     */
+    static TimerJournalRecord readFrom(ByteBuffer buffer) {
+        if (buffer.remaining() < SIZE) {
+            return null;
+        }
+        int start = buffer.position();
+        int expected = checksum(buffer, start, SIZE - 4);
+        int typeIndex = buffer.get();
+        long seq = buffer.getLong();
+        long userId = buffer.getLong();
+        long millis = buffer.getLong();
+        long startSeq = buffer.getLong();
+        long sessionId = buffer.getLong();
+        if (buffer.getInt() != expected || typeIndex < 0 || typeIndex >= Type.values().length) {
+            return null;
+        }
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+        return new TimerJournalRecord(Type.values()[typeIndex], seq, userId, time, startSeq, sessionId);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(offset).limit(offset + length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.toy.checkoutcheckout.domain.timer.journal;
+
+import com.toy.checkoutcheckout.domain.timer.dto.TimerSessionResponse;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.service.ActiveTimerRegistry;
+import com.toy.checkoutcheckout.domain.timer.service.ActiveTimerRegistry.ActiveTimer;
+import com.toy.checkoutcheckout.global.error.TimerBusinessException;
+import com.toy.checkoutcheckout.global.lock.UserLocks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타이머 저널을 사용하는 시작/종료 (timer.journal.enabled=true)
+ * - 활성 타이머 색인으로 상태를 확인하고 저널에 덧붙인 뒤 바로 응답, DB 반영은 {@link TimerJournalWriter} 가 묶어서 처리
+ * - 저장 전 타이머는 세션 ID 가 없으므로 종료 기록은 시작 기록 순번으로 대상 세션을 가리킴
+ * - 다른 인스턴스에서 시작해 아직 저장되지 않은 타이머는 가리킬 수 없으므로 저장될 때까지 종료를 거절
+ * - {@link com.toy.checkoutcheckout.domain.timer.service.TimerService} 와 같은 사용자별 잠금 안에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timer.journal.enabled", havingValue = "true")
+public class TimerJournalService {
+
+    private final TimerJournalWriter writer;
+    private final ActiveTimerRegistry registry;
+    private final TimerSessionRepository timerSessionRepository;
+    private final UserLocks userLocks;
+    private final Map<Long, PendingStart> pendingStarts = new ConcurrentHashMap<>();
+
+    public TimerSessionResponse start(Long userId) {
+        return userLocks.withLock(userId, () -> doStart(userId));
+    }
+
+    public TimerSessionResponse stop(Long userId) {
+        return userLocks.withLock(userId, () -> doStop(userId));
+    }
+
+    private TimerSessionResponse doStart(Long userId) {
+        // 저널은 밀리초까지 기록하므로 색인의 시작 시각도 맞춰 둠
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        if (!registry.registerPending(userId, now)) {
+            throw TimerBusinessException.TIMER_ALREADY_ACTIVE;
+        }
+
+        TimerJournalRecord record;
+        try {
+            record = writer.append(TimerJournalRecord.Type.START, userId, now, 0L, 0L);
+        } catch (RuntimeException e) {
+            registry.remove(new ActiveTimer(userId, null, now.toLocalDate(), now));
+            throw e;
+        }
+        pendingStarts.put(userId, new PendingStart(record.seq(), now));
+
+        return TimerSessionResponse.builder()
+                .startTime(now)
+                .duration(0L)
+                .build();
+    }
+
+    private TimerSessionResponse doStop(Long userId) {
+        ActiveTimer timer = registry.find(userId).orElseThrow(() -> TimerBusinessException.NO_ACTIVE_TIMER);
+
+        // 이 인스턴스에서 저널로 시작한 타이머면 시작 기록 순번으로, 아니면 세션 ID 로 가리킴
+        PendingStart pending = pendingStarts.get(userId);
+        long startSeq = pending != null && pending.startTime().equals(timer.startTime()) ? pending.seq() : 0L;
+        long sessionId = timer.sessionId() != null ? timer.sessionId() : 0L;
+        if (startSeq == 0L && sessionId == 0L) {
+            sessionId = findPersistedSessionId(timer);
+        }
+
+        if (!registry.remove(timer)) {
+            throw TimerBusinessException.NO_ACTIVE_TIMER; // 동시에 다른 요청이 종료함
+        }
+        if (pending != null) {
+            pendingStarts.remove(userId, pending);
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        try {
+            writer.append(TimerJournalRecord.Type.STOP, userId, now, startSeq, sessionId);
+        } catch (RuntimeException e) {
+            registry.restore(timer);
+            if (pending != null) {
+                pendingStarts.putIfAbsent(userId, pending);
+            }
+            throw e;
+        }
+
+        return TimerSessionResponse.builder()
+                .id(timer.sessionId())
+                .startTime(timer.startTime())
+                .endTime(now)
+                .duration(timer.elapsedSeconds(now))
+                .build();
+    }
+
+    // 색인에 세션 ID 가 아직 없는 타이머의 저장된 세션을 시작 시각으로 찾음 (DB 는 초 단위로 반올림될 수 있음)
+    private long findPersistedSessionId(ActiveTimer timer) {
+        for (Object[] row : timerSessionRepository.findActiveSessionRows(timer.userId())) {
+            LocalDateTime startTime = (LocalDateTime) row[1];
+            if (Duration.between(startTime, timer.startTime()).abs().toMillis() < 1000L) {
+                return (Long) row[0];
+            }
+        }
+        throw TimerBusinessException.START_PENDING;
+    }
+
+    private record PendingStart(long seq, LocalDateTime startTime) {
+    }
+}
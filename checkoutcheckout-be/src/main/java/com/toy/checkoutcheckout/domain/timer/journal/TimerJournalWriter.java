@@ -0,0 +1,380 @@
+package com.toy.checkoutcheckout.domain.timer.journal;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStartedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.service.TimerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이머 저널 기록을 모아 timer_sessions 에 반영하는 백그라운드 작성기
+ * - 요청 스레드는 저널에 덧붙인 뒤 바로 응답하고, 작성기가 쌓인 기록을 한 트랜잭션에서 JDBC 배치로 저장 (그룹 커밋)
+ * - 같은 사용자의 기록은 순서대로 반영되도록 묶음을 사용자별 n 번째 기록끼리의 구간으로 나누어 시작(INSERT) 후 종료
+ * - 반영이 끝나면 체크포인트를 남기고, 재시작 시 체크포인트 이후 기록을 다시 반영 (journal_seq 와 활성 조건으로 중복 반영 없음)
+ * - 종료는 {@link TimerService#closeSession} 으로 처리해 사용자 종료와 같이 자정 분할과 날짜별 롤업 반영 규칙을 따름
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "timer.journal.enabled", havingValue = "true")
+public class TimerJournalWriter {
+
+    private static final String METRIC_PREFIX = "timer.journal.";
+    private static final long MAX_RETRY_MILLIS = 30_000L;
+
+    private static final String INSERT_START =
+            "INSERT INTO timer_sessions (user_id, active_user_id, start_time, session_date, is_active, duration, journal_seq) " +
+            "VALUES (:userId, :userId, :startTime, :sessionDate, TRUE, 0, :seq)";
+
+    private final TimerJournal journal;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TimerSessionRepository timerSessionRepository;
+    private final TimerService timerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final BlockingQueue<TimerJournalRecord> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread thread;
+
+    public TimerJournalWriter(NamedParameterJdbcTemplate jdbcTemplate,
+                              TimerSessionRepository timerSessionRepository,
+                              TimerService timerService,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${timer.journal.path:./data/timer-journal}") String path,
+                              @Value("${timer.journal.fsync:false}") boolean fsync,
+                              @Value("${timer.journal.batch-size:500}") int batchSize,
+                              @Value("${timer.journal.linger-ms:5}") long lingerMillis) throws IOException {
+        this.journal = new TimerJournal(Path.of(path), fsync);
+        this.jdbcTemplate = jdbcTemplate;
+        this.timerSessionRepository = timerSessionRepository;
+        this.timerService = timerService;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+
+        // 이전 실행에서 반영되지 못한 기록이 새 기록보다 먼저 반영되도록 큐 앞에 둠
+        queue.addAll(journal.unpersisted());
+        meterRegistry.gauge(METRIC_PREFIX + "pending", queue, BlockingQueue::size);
+    }
+
+    /**
+     * 기록을 저널에 덧붙이고 반영 대기열에 넣음 (같은 순서로)
+     */
+    public TimerJournalRecord append(TimerJournalRecord.Type type, long userId, LocalDateTime time,
+                                     long startSeq, long sessionId) {
+        synchronized (journal) {
+            TimerJournalRecord record = journal.append(type, userId, time, startSeq, sessionId);
+            queue.add(record);
+            return record;
+        }
+    }
+
+    /**
+     * 활성 타이머 색인이 DB 를 읽기 전에 남은 기록을 먼저 반영한 뒤 작성기 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        int replayed = queue.size();
+        if (replayed > 0) {
+            log.info("Replaying {} timer journal records", replayed);
+            drain();
+        }
+
+        running = true;
+        thread = new Thread(this::run, "timer-journal-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // 반영하지 못한 기록은 저널에 남아 다음 시작 시 반영됨
+        journal.close();
+    }
+
+    /**
+     * 지금까지 쌓인 기록을 모두 반영 (실패하면 예외)
+     */
+    public void drain() {
+        List<TimerJournalRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        List<TimerJournalRecord> batch = new ArrayList<>(batchSize);
+        long retryMillis = 0L;
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    TimerJournalRecord first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    if (lingerMillis > 0) {
+                        Thread.sleep(lingerMillis); // 같은 커밋에 묶을 기록을 잠시 기다림
+                    }
+                    queue.drainTo(batch, batchSize - 1);
+                }
+
+                flush(batch);
+                batch.clear();
+                retryMillis = 0L;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // 같은 묶음을 다시 시도 (순서를 지키기 위해 이후 기록은 기다림)
+                retryMillis = Math.min(Math.max(retryMillis * 2, 500L), MAX_RETRY_MILLIS);
+                log.error("Failed to persist {} timer journal records, retrying in {}ms", batch.size(), retryMillis, e);
+                try {
+                    Thread.sleep(retryMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private void flush(List<TimerJournalRecord> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            journal.checkpoint(batch.get(batch.size() - 1).seq());
+        } catch (IOException e) {
+            // DB 반영은 끝났으므로 재시작 시 다시 반영되어도 중복되지 않음
+            log.warn("Failed to write timer journal checkpoint: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(METRIC_PREFIX + "flush", "outcome", outcome));
+        }
+        meterRegistry.counter(METRIC_PREFIX + "records").increment(batch.size());
+    }
+
+    // 이벤트는 반영 순서대로 발행 (리스너는 커밋 후 실행)
+    private void persist(List<TimerJournalRecord> batch) {
+        for (List<TimerJournalRecord> wave : waves(batch)) {
+            List<TimerJournalRecord> starts = new ArrayList<>();
+            List<TimerJournalRecord> stops = new ArrayList<>();
+            for (TimerJournalRecord record : wave) {
+                (record.type() == TimerJournalRecord.Type.START ? starts : stops).add(record);
+            }
+            for (TimerStartedEvent event : insertStarts(starts)) {
+                eventPublisher.publishEvent(event);
+            }
+            closeSessions(stops);
+        }
+    }
+
+    // 사용자별 n 번째 기록끼리 묶어, 한 구간 안에서는 사용자마다 기록이 하나뿐이도록 나눔
+    private static List<List<TimerJournalRecord>> waves(List<TimerJournalRecord> batch) {
+        List<List<TimerJournalRecord>> waves = new ArrayList<>();
+        Map<Long, Integer> seen = new HashMap<>();
+        for (TimerJournalRecord record : batch) {
+            int index = seen.merge(record.userId(), 1, Integer::sum) - 1;
+            if (index == waves.size()) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(index).add(record);
+        }
+        return waves;
+    }
+
+    private List<TimerStartedEvent> insertStarts(List<TimerJournalRecord> starts) {
+        if (starts.isEmpty()) {
+            return List.of();
+        }
+
+        // 재실행 시 이미 저장된 시작 기록은 건너뜀
+        Map<Long, TimerJournalRecord> bySeq = new LinkedHashMap<>();
+        for (TimerJournalRecord record : starts) {
+            bySeq.put(record.seq(), record);
+        }
+        jdbcTemplate.queryForList("SELECT journal_seq FROM timer_sessions WHERE journal_seq IN (:seqs)",
+                        new MapSqlParameterSource("seqs", bySeq.keySet()), Long.class)
+                .forEach(bySeq::remove);
+        if (bySeq.isEmpty()) {
+            return List.of();
+        }
+
+        // 다른 경로로 이미 활성 세션이 생긴 사용자의 시작은 버림 (active_user_id 제약 위반으로 묶음 전체가 실패하지 않도록)
+        Set<Long> userIds = new HashSet<>();
+        bySeq.values().forEach(record -> userIds.add(record.userId()));
+        Set<Long> activeUsers = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT active_user_id FROM timer_sessions WHERE active_user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds), Long.class));
+        if (bySeq.values().removeIf(record -> activeUsers.contains(record.userId()))) {
+            log.warn("Dropped journaled timer starts for users with an active session: {}", activeUsers);
+        }
+        if (bySeq.isEmpty()) {
+            return List.of();
+        }
+
+        List<SqlParameterSource> params = new ArrayList<>(bySeq.size());
+        for (TimerJournalRecord record : bySeq.values()) {
+            params.add(new MapSqlParameterSource()
+                    .addValue("userId", record.userId())
+                    .addValue("startTime", Timestamp.valueOf(record.time()))
+                    .addValue("sessionDate", record.time().toLocalDate())
+                    .addValue("seq", record.seq()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_START, params.toArray(SqlParameterSource[]::new));
+
+        List<TimerStartedEvent> events = new ArrayList<>(bySeq.size());
+        jdbcTemplate.query("SELECT id, journal_seq FROM timer_sessions WHERE journal_seq IN (:seqs)",
+                new MapSqlParameterSource("seqs", bySeq.keySet()), rs -> {
+                    TimerJournalRecord record = bySeq.get(rs.getLong("journal_seq"));
+                    events.add(TimerStartedEvent.journaled(record.userId(), rs.getLong("id"), record.time()));
+                });
+        return events;
+    }
+
+    private void closeSessions(List<TimerJournalRecord> stops) {
+        if (stops.isEmpty()) {
+            return;
+        }
+
+        // 대상 세션: 시작 기록 순번 > 세션 ID 순으로 찾음
+        // 둘 다 없는 기록은 사용자의 활성 세션으로 대신하면 그 사이 새로 시작한 세션을 닫을 수 있으므로 건너뜀
+        Set<Long> startSeqs = new HashSet<>();
+        Set<Long> sessionIds = new HashSet<>();
+        for (TimerJournalRecord record : stops) {
+            if (record.startSeq() > 0) {
+                startSeqs.add(record.startSeq());
+            } else if (record.sessionId() > 0) {
+                sessionIds.add(record.sessionId());
+            } else {
+                log.warn("Skipping timer journal stop record {} without target session (user {})",
+                        record.seq(), record.userId());
+            }
+        }
+        if (startSeqs.isEmpty() && sessionIds.isEmpty()) {
+            return;
+        }
+
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource lookup = new MapSqlParameterSource();
+        if (!startSeqs.isEmpty()) {
+            conditions.add("journal_seq IN (:startSeqs)");
+            lookup.addValue("startSeqs", startSeqs);
+        }
+        if (!sessionIds.isEmpty()) {
+            conditions.add("id IN (:sessionIds)");
+            lookup.addValue("sessionIds", sessionIds);
+        }
+
+        Map<Long, Long> idBySeq = new HashMap<>();
+        Map<Long, Long> userById = new HashMap<>();
+        jdbcTemplate.query("SELECT id, user_id, journal_seq FROM timer_sessions WHERE " +
+                String.join(" OR ", conditions), lookup, rs -> {
+                    long id = rs.getLong("id");
+                    userById.put(id, rs.getLong("user_id"));
+                    long journalSeq = rs.getLong("journal_seq");
+                    if (!rs.wasNull()) {
+                        idBySeq.put(journalSeq, id);
+                    }
+                });
+
+        Map<Long, TimerJournalRecord> byId = new LinkedHashMap<>();
+        for (TimerJournalRecord record : stops) {
+            Long id = record.startSeq() > 0 ? idBySeq.get(record.startSeq())
+                    : record.sessionId() > 0 && userById.containsKey(record.sessionId()) ? record.sessionId()
+                    : null;
+            if (id != null && userById.get(id) == record.userId()) {
+                byId.put(id, record);
+            }
+        }
+        if (byId.isEmpty()) {
+            return;
+        }
+
+        for (TimerSession session : timerSessionRepository.findAllByIdForUpdate(byId.keySet())) {
+            TimerSession target = session.isActive() ? session : continuationOf(session);
+            if (target == null) {
+                continue; // 이미 종료된 세션 (재실행, 사용자 종료 등)
+            }
+            LocalDateTime endTime = byId.get(session.getId()).time();
+            timerService.closeSession(target, endTime.isBefore(target.getStartTime()) ? target.getStartTime() : endTime);
+        }
+        // 다음 구간의 시작(JDBC)이 같은 사용자의 활성 세션 해제를 보도록 반영
+        timerSessionRepository.flush();
+    }
+
+    // 자정 정리가 자정에 끊고 이어서 시작한 활성 세션 (여러 번 이어졌으면 마지막 세션)
+    private TimerSession continuationOf(TimerSession session) {
+        TimerSession current = session;
+        while (current.getEndTime() != null && current.getEndTime().toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            List<TimerSession> next = timerSessionRepository.findByUserIdAndStartTimeForUpdate(
+                    current.getUser().getId(), current.getEndTime());
+            TimerSession active = next.stream().filter(TimerSession::isActive).findFirst().orElse(null);
+            if (active != null) {
+                return active;
+            }
+            TimerSession midnightClosed = next.stream()
+                    .filter(candidate -> candidate.getEndTime() != null && candidate.getEndTime().isAfter(candidate.getStartTime()))
+                    .filter(candidate -> candidate.getEndTime().toLocalTime().equals(LocalTime.MIDNIGHT))
+                    .findFirst().orElse(null);
+            if (midnightClosed == null) {
+                return null;
+            }
+            current = midnightClosed;
+        }
+        return null;
+    }
+
+    // 테스트에서 반영 전 상태를 확인하기 위한 대기열 크기
+    int pending() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,23 @@
+package com.toy.checkoutcheckout.domain.timer.repository;
+
+import com.toy.checkoutcheckout.domain.timer.entity.RollupFence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RollupFenceRepository extends JpaRepository<RollupFence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT f FROM RollupFence f WHERE f.name = :name")
+    Optional<RollupFence> findForShare(@Param("name") String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM RollupFence f WHERE f.name = :name")
+    Optional<RollupFence> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,24 @@
+package com.toy.checkoutcheckout.domain.timer.repository;
+
+import com.toy.checkoutcheckout.domain.timer.entity.StudyActivity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StudyActivityRepository extends JpaRepository<StudyActivity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM StudyActivity a WHERE a.userId = :userId AND a.year = :year")
+    Optional<StudyActivity> findForUpdate(@Param("userId") Long userId, @Param("year") int year);
+
+    Optional<StudyActivity> findByUserIdAndYear(Long userId, Integer year);
+
+    List<StudyActivity> findByUserIdOrderByYearAsc(Long userId);
+}
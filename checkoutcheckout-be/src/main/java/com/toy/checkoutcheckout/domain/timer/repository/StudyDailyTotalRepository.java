@@ -0,0 +1,72 @@
+package com.toy.checkoutcheckout.domain.timer.repository;
+
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingRow;
+import com.toy.checkoutcheckout.domain.timer.entity.StudyDailyTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface StudyDailyTotalRepository extends JpaRepository<StudyDailyTotal, Long> {
+
+    // 롤업 반영: 행이 없으면 만들고, 있으면(동시에 먼저 만들어진 경우 포함) 공부시간을 더함
+    // 새 행의 누적값은 cumulative 로 넣고, 이미 있던 행은 누적값에도 같은 시간을 더함
+    @Modifying
+    @Query(value = "INSERT INTO study_daily_totals (study_id, session_date, total_duration, cumulative_duration) " +
+                   "VALUES (:studyId, :date, :seconds, :cumulative) " +
+                   "ON DUPLICATE KEY UPDATE total_duration = total_duration + :seconds, " +
+                   "cumulative_duration = cumulative_duration + :seconds",
+           nativeQuery = true)
+    int upsertDuration(@Param("studyId") Long studyId, @Param("date") LocalDate date,
+                       @Param("seconds") long seconds, @Param("cumulative") long cumulative);
+
+    // 해당 날짜 기록의 누적값 (행을 잠가 같은 날짜에 늦게 반영되는 기록과 순서를 맞춤)
+    @Query(value = "SELECT cumulative_duration FROM study_daily_totals WHERE study_id = :studyId AND session_date = :date FOR UPDATE",
+           nativeQuery = true)
+    Long findCumulativeForUpdate(@Param("studyId") Long studyId, @Param("date") LocalDate date);
+
+    // 일일 스터디 랭킹 (스터디당 최대 한 행)
+    @Query("SELECT new com.toy.checkoutcheckout.domain.rank.dto.StudyRankingRow(s.id, s.name, COALESCE(d.totalDuration, 0L)) " +
+           "FROM Study s " +
+           "LEFT JOIN StudyDailyTotal d ON s.id = d.study.id AND d.sessionDate = :date " +
+           "ORDER BY COALESCE(d.totalDuration, 0L) DESC")
+    List<StudyRankingRow> findDailyStudyRanking(@Param("date") LocalDate date);
+
+    // 기간 [startDate, endDate] 스터디별 공부시간 (누적값의 차이, 정렬되지 않음)
+    @Query("SELECT new com.toy.checkoutcheckout.domain.rank.dto.StudyRankingRow(s.id, s.name, " +
+           "COALESCE((SELECT e.cumulativeDuration FROM StudyDailyTotal e WHERE e.study.id = s.id AND e.sessionDate = " +
+           "(SELECT MAX(e2.sessionDate) FROM StudyDailyTotal e2 WHERE e2.study.id = s.id AND e2.sessionDate <= :endDate)), 0L) - " +
+           "COALESCE((SELECT b.cumulativeDuration FROM StudyDailyTotal b WHERE b.study.id = s.id AND b.sessionDate = " +
+           "(SELECT MAX(b2.sessionDate) FROM StudyDailyTotal b2 WHERE b2.study.id = s.id AND b2.sessionDate < :startDate)), 0L)) " +
+           "FROM Study s")
+    List<StudyRankingRow> findRangeTotals(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 날짜 이전(미포함) 마지막 기록일 (새 행의 누적값 기준)
+    @Query("SELECT MAX(d.sessionDate) FROM StudyDailyTotal d WHERE d.study.id = :studyId AND d.sessionDate < :date")
+    LocalDate findLatestDateBefore(@Param("studyId") Long studyId, @Param("date") LocalDate date);
+
+    // 늦게 반영된 기록을 이후 날짜의 누적값에 더함
+    @Modifying
+    @Query("UPDATE StudyDailyTotal d SET d.cumulativeDuration = d.cumulativeDuration + :seconds " +
+           "WHERE d.study.id = :studyId AND d.sessionDate > :date")
+    int addToCumulativeAfter(@Param("studyId") Long studyId, @Param("date") LocalDate date, @Param("seconds") long seconds);
+
+    // 누적값이 채워지지 않은 행이 있는지 (컬럼 추가 직후 확인용)
+    @Query("SELECT COUNT(d) > 0 FROM StudyDailyTotal d WHERE d.cumulativeDuration < d.totalDuration")
+    boolean existsWithoutCumulative();
+
+    // 스터디 삭제 시 집계 삭제
+    @Modifying
+    @Query("DELETE FROM StudyDailyTotal d WHERE d.study.id = :studyId")
+    int deleteByStudyId(@Param("studyId") Long studyId);
+
+    // 백필: 기간 내 집계 삭제
+    @Modifying
+    @Query("DELETE FROM StudyDailyTotal d WHERE d.sessionDate BETWEEN :startDate AND :endDate")
+    int deleteByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -2,99 +2,83 @@ package com.toy.checkoutcheckout.domain.timer.repository;
 
 import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
 import com.toy.checkoutcheckout.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 타이머 세션 원본 기록
+ * 날짜별 합계 집계는 user_daily_totals 롤업({@link UserDailyTotalRepository})을 사용한다.
+ */
 @Repository
 public interface TimerSessionRepository extends JpaRepository<TimerSession, Long> {
     
     Optional<TimerSession> findByUserAndIsActiveTrue(User user);
     
-    List<TimerSession> findByUserOrderByStartTimeDesc(User user);
+    // 사용자의 활성 세션을 잠가 조회 (종료가 자정 정리와 겹쳐도 한쪽만 반영되도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimerSession t WHERE t.user.id = :userId AND t.isActive = true")
+    Optional<TimerSession> findActiveByUserIdForUpdate(@Param("userId") Long userId);
     
-    @Query("SELECT t FROM TimerSession t WHERE t.user = :user AND t.sessionDate BETWEEN :startDate AND :endDate ORDER BY t.sessionDate ASC")
-    List<TimerSession> findByUserAndDateRange(@Param("user") User user, 
-                                              @Param("startDate") LocalDate startDate, 
-                                              @Param("endDate") LocalDate endDate);
+    // 사용자가 startTime 에 시작한 세션을 잠가 조회 (자정 정리가 이어서 시작한 세션 확인용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimerSession t WHERE t.user.id = :userId AND t.startTime = :startTime")
+    List<TimerSession> findByUserIdAndStartTimeForUpdate(@Param("userId") Long userId,
+                                                         @Param("startTime") LocalDateTime startTime);
     
-    @Query("SELECT t.sessionDate, SUM(t.duration) FROM TimerSession t " +
-           "WHERE t.user = :user AND t.sessionDate BETWEEN :startDate AND :endDate " +
-           "GROUP BY t.sessionDate ORDER BY t.sessionDate ASC")
-    List<Object[]> findDailyStudyTimeByUserAndDateRange(@Param("user") User user, 
-                                                     @Param("startDate") LocalDate startDate, 
-                                                     @Param("endDate") LocalDate endDate);
+    // 사용자의 활성 세션 (ID, 시작 시각) (다른 인스턴스에서 저널로 시작한 타이머의 세션 ID 확인용)
+    @Query("SELECT t.id, t.startTime FROM TimerSession t WHERE t.user.id = :userId AND t.isActive = true")
+    List<Object[]> findActiveSessionRows(@Param("userId") Long userId);
+
     
-    @Query("SELECT u.id, u.nickname, COALESCE(SUM(t.duration), 0) as totalDuration " +
-           "FROM User u " +
-           "LEFT JOIN TimerSession t ON u.id = t.user.id AND t.sessionDate = :date " +
-           "GROUP BY u.id, u.nickname " +
-           "ORDER BY totalDuration DESC, u.nickname ASC")
-    List<Object[]> findDailyRankingByDate(@Param("date") LocalDate date);
+    // 모든 활성 세션의 (사용자 ID, 세션 ID, 세션 날짜, 시작 시각) (활성 타이머 색인 적재/대조용)
+    @Query("SELECT t.user.id, t.id, t.sessionDate, t.startTime FROM TimerSession t WHERE t.isActive = true")
+    List<Object[]> findActiveTimerRows();
     
-    // 스터디 회원들의 일일 랭킹
-    @Query("SELECT u.id, u.nickname, COALESCE(SUM(t.duration), 0) as totalDuration " +
-           "FROM StudyMember sm " +
-           "JOIN User u ON sm.user.id = u.id " +
-           "LEFT JOIN TimerSession t ON u.id = t.user.id AND t.sessionDate = :date " +
-           "WHERE sm.study.id = :studyId " +
-           "GROUP BY u.id, u.nickname " +
-           "ORDER BY totalDuration DESC")
-    List<Object[]> findDailyRankingByDateAndStudy(@Param("date") LocalDate date, @Param("studyId") Long studyId);
+    // cutoff 이전에 시작된 활성 세션 ID 를 afterId 다음부터 순서대로 (자정 정리용, is_active 인덱스 사용)
+    @Query("SELECT t.id FROM TimerSession t " +
+           "WHERE t.isActive = true AND t.startTime < :cutoff AND t.id > :afterId ORDER BY t.id ASC")
+    List<Long> findActiveIdsStartedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
     
-    // 스터디 회원들의 주간 랭킹
-    @Query("SELECT u.id, u.nickname, COALESCE(SUM(t.duration), 0) as totalDuration " +
-           "FROM StudyMember sm " +
-           "JOIN User u ON sm.user.id = u.id " +
-           "LEFT JOIN TimerSession t ON u.id = t.user.id AND t.sessionDate BETWEEN :startDate AND :endDate " +
-           "WHERE sm.study.id = :studyId " +
-           "GROUP BY u.id, u.nickname " +
-           "ORDER BY totalDuration DESC")
-    List<Object[]> findWeeklyRankingByDateRangeAndStudy(@Param("startDate") LocalDate startDate, 
-                                                     @Param("endDate") LocalDate endDate, 
-                                                     @Param("studyId") Long studyId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimerSession t WHERE t.id IN :ids")
+    List<TimerSession> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
     
-    // 스터디 회원들의 월간 랭킹
-    @Query("SELECT u.id, u.nickname, COALESCE(SUM(t.duration), 0) as totalDuration " +
-           "FROM StudyMember sm " +
-           "JOIN User u ON sm.user.id = u.id " +
-           "LEFT JOIN TimerSession t ON u.id = t.user.id AND YEAR(t.sessionDate) = :year AND MONTH(t.sessionDate) = :month " +
-           "WHERE sm.study.id = :studyId " +
-           "GROUP BY u.id, u.nickname " +
-           "ORDER BY totalDuration DESC")
-    List<Object[]> findMonthlyRankingByYearMonthAndStudy(@Param("year") int year, 
-                                                      @Param("month") int month, 
-                                                      @Param("studyId") Long studyId);
+    List<TimerSession> findByUserOrderByStartTimeDesc(User user);
     
-    // 전체 스터디 랭킹 (스터디별 누적 시간)
-    @Query("SELECT s.id, s.name, COALESCE(SUM(t.duration), 0) as totalDuration " +
-           "FROM Study s " +
-           "LEFT JOIN StudyMember sm ON s.id = sm.study.id " +
-           "LEFT JOIN TimerSession t ON sm.user.id = t.user.id AND t.sessionDate = :date " +
-           "GROUP BY s.id, s.name " +
-           "ORDER BY totalDuration DESC")
-    List<Object[]> findDailyStudyRanking(@Param("date") LocalDate date);
+    // 최근 세션 첫 페이지 (user_id, start_time, id 인덱스를 역순으로 읽음)
+    @Query("SELECT t FROM TimerSession t WHERE t.user.id = :userId ORDER BY t.startTime DESC, t.id DESC")
+    List<TimerSession> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    // 최근 세션 다음 페이지 ((startTime, id) 가 커서보다 작은 세션부터)
+    @Query("SELECT t FROM TimerSession t WHERE t.user.id = :userId " +
+           "AND (t.startTime < :startTime OR (t.startTime = :startTime AND t.id < :id)) " +
+           "ORDER BY t.startTime DESC, t.id DESC")
+    List<TimerSession> findRecentByUserIdBefore(@Param("userId") Long userId,
+                                                @Param("startTime") LocalDateTime startTime,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+    
+    @Query("SELECT t FROM TimerSession t WHERE t.user = :user AND t.sessionDate BETWEEN :startDate AND :endDate ORDER BY t.sessionDate ASC")
+    List<TimerSession> findByUserAndDateRange(@Param("user") User user, 
+                                              @Param("startDate") LocalDate startDate, 
+                                              @Param("endDate") LocalDate endDate);
     
-    // 주간 스터디 랭킹
-    @Query("SELECT s.id, s.name, COALESCE(SUM(t.duration), 0) as totalDuration " +
-           "FROM Study s " +
-           "LEFT JOIN StudyMember sm ON s.id = sm.study.id " +
-           "LEFT JOIN TimerSession t ON sm.user.id = t.user.id AND t.sessionDate BETWEEN :startDate AND :endDate " +
-           "GROUP BY s.id, s.name " +
-           "ORDER BY totalDuration DESC")
-    List<Object[]> findWeeklyStudyRanking(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Query("SELECT MIN(t.sessionDate) FROM TimerSession t")
+    LocalDate findMinSessionDate();
     
-    // 월간 스터디 랭킹
-    @Query("SELECT s.id, s.name, COALESCE(SUM(t.duration), 0) as totalDuration " +
-           "FROM Study s " +
-           "LEFT JOIN StudyMember sm ON s.id = sm.study.id " +
-           "LEFT JOIN TimerSession t ON sm.user.id = t.user.id AND YEAR(t.sessionDate) = :year AND MONTH(t.sessionDate) = :month " +
-           "GROUP BY s.id, s.name " +
-           "ORDER BY totalDuration DESC")
-    List<Object[]> findMonthlyStudyRanking(@Param("year") int year, @Param("month") int month);
+    @Query("SELECT MAX(t.sessionDate) FROM TimerSession t")
+    LocalDate findMaxSessionDate();
 }
@@ -0,0 +1,122 @@
+package com.toy.checkoutcheckout.domain.timer.repository;
+
+import com.toy.checkoutcheckout.domain.rank.dto.MemberRankingRow;
+import com.toy.checkoutcheckout.domain.timer.entity.UserDailyTotal;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserDailyTotalRepository extends JpaRepository<UserDailyTotal, Long> {
+
+    // 롤업 반영: 행이 없으면 만들고, 있으면(동시에 먼저 만들어진 경우 포함) 공부시간을 더함
+    // 새 행의 누적값은 cumulative 로 넣고, 이미 있던 행은 누적값에도 같은 시간을 더함
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_totals (user_id, session_date, total_duration, cumulative_duration) " +
+                   "VALUES (:userId, :date, :seconds, :cumulative) " +
+                   "ON DUPLICATE KEY UPDATE total_duration = total_duration + :seconds, " +
+                   "cumulative_duration = cumulative_duration + :seconds",
+           nativeQuery = true)
+    int upsertDuration(@Param("userId") Long userId, @Param("date") LocalDate date,
+                       @Param("seconds") long seconds, @Param("cumulative") long cumulative);
+
+    // 해당 날짜 기록의 누적값 (행을 잠가 같은 날짜에 늦게 반영되는 기록과 순서를 맞춤)
+    @Query(value = "SELECT cumulative_duration FROM user_daily_totals WHERE user_id = :userId AND session_date = :date FOR UPDATE",
+           nativeQuery = true)
+    Long findCumulativeForUpdate(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // 사용자의 날짜별 커밋된 합계 (리더보드 반영용, 기록이 없으면 null)
+    @Query("SELECT d.totalDuration FROM UserDailyTotal d WHERE d.user.id = :userId AND d.sessionDate = :date")
+    Long findTotalDuration(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // 날짜별 사용자 공부시간 합계 (리더보드 재구성용, 기록이 있는 사용자만)
+    @Query("SELECT d.user.id, d.totalDuration FROM UserDailyTotal d WHERE d.sessionDate = :date")
+    List<Object[]> findUserTotalsByDate(@Param("date") LocalDate date);
+
+    // 날짜 이후의 사용자별 일일 합계 (모멘텀 리더보드 재구성용)
+    @Query("SELECT d.user.id, d.sessionDate, d.totalDuration FROM UserDailyTotal d WHERE d.sessionDate >= :startDate")
+    List<Object[]> findUserTotalsSince(@Param("startDate") LocalDate startDate);
+
+    // 한 사용자의 날짜 이후 일일 합계 (모멘텀 점수 갱신용)
+    @Query("SELECT d.sessionDate, d.totalDuration FROM UserDailyTotal d WHERE d.user.id = :userId AND d.sessionDate >= :startDate")
+    List<Object[]> findTotalsByUserSince(@Param("userId") Long userId, @Param("startDate") LocalDate startDate);
+
+    // 기간 내 사용자별 (사용자 ID, 공부시간 합계) (백분위 스케치 재구성용, 기록이 있는 사용자만)
+    @Query("SELECT d.user.id, SUM(d.totalDuration) FROM UserDailyTotal d " +
+           "WHERE d.sessionDate BETWEEN :startDate AND :endDate GROUP BY d.user.id")
+    List<Object[]> findUserTotalRowsByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 한 사용자의 기간 내 공부시간 합계
+    @Query("SELECT COALESCE(SUM(d.totalDuration), 0L) FROM UserDailyTotal d " +
+           "WHERE d.user.id = :userId AND d.sessionDate BETWEEN :startDate AND :endDate")
+    long sumByUserIdAndDateRange(@Param("userId") Long userId,
+                                 @Param("startDate") LocalDate startDate,
+                                 @Param("endDate") LocalDate endDate);
+
+    // 한 사용자의 기간 내 날짜별 공부시간 (연간 공부 기록 재구성용)
+    @Query("SELECT d.sessionDate, d.totalDuration FROM UserDailyTotal d " +
+           "WHERE d.user.id = :userId AND d.sessionDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findDailyTotalsByUserId(@Param("userId") Long userId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MIN(d.sessionDate) FROM UserDailyTotal d WHERE d.user.id = :userId")
+    LocalDate findFirstDateByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT d.sessionDate, d.totalDuration FROM UserDailyTotal d " +
+           "WHERE d.user = :user AND d.sessionDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY d.sessionDate ASC")
+    List<Object[]> findDailyStudyTimeByUserAndDateRange(@Param("user") User user,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    // 스터디 회원들의 일일 랭킹
+    @Query("SELECT new com.toy.checkoutcheckout.domain.rank.dto.MemberRankingRow(" +
+           "u.id, u.nickname, u.characterType, COALESCE(SUM(d.totalDuration), 0L)) " +
+           "FROM StudyMember sm " +
+           "JOIN User u ON sm.user.id = u.id " +
+           "LEFT JOIN UserDailyTotal d ON u.id = d.user.id AND d.sessionDate = :date " +
+           "WHERE sm.study.id = :studyId " +
+           "GROUP BY u.id, u.nickname, u.characterType " +
+           "ORDER BY COALESCE(SUM(d.totalDuration), 0L) DESC")
+    List<MemberRankingRow> findDailyRankingByDateAndStudy(@Param("date") LocalDate date, @Param("studyId") Long studyId);
+
+    // 스터디 회원들의 기간 [startDate, endDate] 공부시간 (누적값의 차이, 정렬되지 않음)
+    // 회원마다 (user_id, session_date) 인덱스 탐색 두 번이므로 기간 길이와 무관
+    @Query("SELECT new com.toy.checkoutcheckout.domain.rank.dto.MemberRankingRow(u.id, u.nickname, u.characterType, " +
+           "COALESCE((SELECT e.cumulativeDuration FROM UserDailyTotal e WHERE e.user.id = u.id AND e.sessionDate = " +
+           "(SELECT MAX(e2.sessionDate) FROM UserDailyTotal e2 WHERE e2.user.id = u.id AND e2.sessionDate <= :endDate)), 0L) - " +
+           "COALESCE((SELECT b.cumulativeDuration FROM UserDailyTotal b WHERE b.user.id = u.id AND b.sessionDate = " +
+           "(SELECT MAX(b2.sessionDate) FROM UserDailyTotal b2 WHERE b2.user.id = u.id AND b2.sessionDate < :startDate)), 0L)) " +
+           "FROM StudyMember sm " +
+           "JOIN User u ON sm.user.id = u.id " +
+           "WHERE sm.study.id = :studyId")
+    List<MemberRankingRow> findRangeTotalsByStudy(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate,
+                                                  @Param("studyId") Long studyId);
+
+    // 날짜 이전(미포함) 마지막 기록일 (새 행의 누적값 기준)
+    @Query("SELECT MAX(d.sessionDate) FROM UserDailyTotal d WHERE d.user.id = :userId AND d.sessionDate < :date")
+    LocalDate findLatestDateBefore(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // 늦게 반영된 기록(자정을 넘긴 세션 등)을 이후 날짜의 누적값에 더함
+    @Modifying
+    @Query("UPDATE UserDailyTotal d SET d.cumulativeDuration = d.cumulativeDuration + :seconds " +
+           "WHERE d.user.id = :userId AND d.sessionDate > :date")
+    int addToCumulativeAfter(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("seconds") long seconds);
+
+    // 누적값이 채워지지 않은 행이 있는지 (컬럼 추가 직후 확인용)
+    @Query("SELECT COUNT(d) > 0 FROM UserDailyTotal d WHERE d.cumulativeDuration < d.totalDuration")
+    boolean existsWithoutCumulative();
+
+    // 백필: 기간 내 롤업 삭제
+    @Modifying
+    @Query("DELETE FROM UserDailyTotal d WHERE d.sessionDate BETWEEN :startDate AND :endDate")
+    int deleteByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -1,46 +1,170 @@
 package com.toy.checkoutcheckout.domain.timer.scheduler;
 
 import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.event.ActiveTimersClosedEvent;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStartedEvent;
 import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
-import lombok.RequiredArgsConstructor;
+import com.toy.checkoutcheckout.domain.timer.service.TimerService;
+import com.toy.checkoutcheckout.global.lease.ClusterSingleton;
+import com.toy.checkoutcheckout.global.lease.LeaseContext;
+import com.toy.checkoutcheckout.global.lease.LeaseLostException;
+import com.toy.checkoutcheckout.global.lease.LeaseManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 매일 자정에 전날까지 시작된 활성 타이머 세션을 자정 기준으로 나눔
+ * - 활성 세션만 인덱스로 ID 순 묶음 조회하고, 묶음마다 별도 트랜잭션으로 종료/집계
+ * - 세션은 정확히 자정에 종료하고(여러 날에 걸쳤으면 날짜별 세션으로 분리), 같은 사용자의 새 활성 세션을 자정부터 이어서 시작
+ * - 모든 묶음을 처리한 경우에만 전날 기록 확정 이벤트를 발행 (실패한 묶음이 남으면 다음 실행에서 이어서 처리)
+ * - 실행별 종료/분리 세션 수와 소요 시간은 timer.midnight.* 지표로 노출
+ * - 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행하고, 묶음마다 리스(펜싱 토큰)를 아직 보유 중인지 확인
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TimerScheduler {
 
+    private static final String METRIC_PREFIX = "timer.midnight.";
+
     private final TimerSessionRepository timerSessionRepository;
+    private final TimerService timerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final LeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TimerScheduler(TimerSessionRepository timerSessionRepository,
+                          TimerService timerService,
+                          ApplicationEventPublisher eventPublisher,
+                          MeterRegistry meterRegistry,
+                          LeaseManager leaseManager,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${timer.midnight.chunk-size:500}") int chunkSize) {
+        this.timerSessionRepository = timerSessionRepository;
+        this.timerService = timerService;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
 
     /**
      * 매일 자정(00:00)에 실행되는 스케줄러
-     * 미종료된 활성 타이머 세션을 강제 종료하고 다음 날로 넘기지 않음
+     * 전날 기록은 자정에 끊고, 진행 중인 타이머는 오늘 날짜의 세션으로 이어감
      */
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
-    @Transactional
+    @ClusterSingleton(value = "timer-midnight-closer", leaseFor = "PT30M", holdAtLeast = "PT10M")
     public void closeActiveTimersAtMidnight() {
+        closeActiveTimers(LocalDate.now().atStartOfDay());
+    }
+
+    /**
+     * midnight 이전에 시작된 활성 세션을 모두 자정에 종료(이후는 새 세션으로 이어감)하고 전날 기록이 확정되었음을 알림
+     * @return 종료한 세션 수
+     */
+    public int closeActiveTimers(LocalDateTime midnight) {
         log.info("Executing timer session cleanup at midnight");
-        
-        // 활성화된 모든 타이머 세션 조회
-        List<TimerSession> activeSessions = timerSessionRepository.findAll().stream()
-                .filter(TimerSession::isActive)
-                .toList();
-        
-        log.info("Found {} active timer sessions to close", activeSessions.size());
-        
-        LocalDateTime now = LocalDateTime.now();
-        
-        // 각 세션을 종료 처리
-        for (TimerSession session : activeSessions) {
-            session.stopTimer();
-            timerSessionRepository.save(session);
-            log.info("Closed timer session: {}", session.getId());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        long afterId = 0L;
+        int closed = 0;
+        int split = 0;
+        int failedChunks = 0;
+        boolean leaseLost = false;
+        while (true) {
+            List<Long> ids = timerSessionRepository.findActiveIdsStartedBefore(
+                    midnight, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+
+            try {
+                int[] result = transactionTemplate.execute(status -> closeChunk(ids, midnight));
+                closed += result[0];
+                split += result[1];
+            } catch (LeaseLostException e) {
+                // 리스를 넘겨받은 인스턴스가 이어서 처리
+                leaseLost = true;
+                log.warn("Stopping midnight cleanup: {}", e.getMessage());
+                break;
+            } catch (RuntimeException e) {
+                // 남은 세션은 활성 상태로 남아 다음 실행(또는 사용자 종료) 때 처리됨
+                failedChunks++;
+                log.error("Failed to close timer sessions {}..{}", ids.get(0), afterId, e);
+            }
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        String outcome = leaseLost ? "lease_lost" : failedChunks == 0 ? "success" : "failure";
+        long elapsedNanos = sample.stop(meterRegistry.timer(METRIC_PREFIX + "run", "outcome", outcome));
+        meterRegistry.counter(METRIC_PREFIX + "closed").increment(closed);
+        meterRegistry.counter(METRIC_PREFIX + "split").increment(split);
+        log.info("Closed {} timer sessions ({} split across days, {} failed chunks) in {}ms",
+                closed, split, failedChunks, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        if (leaseLost) {
+            return closed;
+        }
+        if (failedChunks > 0) {
+            // 활성 세션이 남은 날을 확정하면 이후 반영분이 스냅샷에 들어가지 않으므로 열어 둠
+            log.warn("Leaving {} open: {} chunks failed", midnight.toLocalDate().minusDays(1), failedChunks);
+            return closed;
+        }
+
+        // 어제까지의 기록이 확정되었음을 알림 (랭킹 스냅샷 생성 등)
+        eventPublisher.publishEvent(new ActiveTimersClosedEvent(midnight.toLocalDate().minusDays(1)));
+        return closed;
+    }
+
+    // 묶음의 세션을 잠가 다시 읽고 자정에 종료 (조회 이후 사용자가 먼저 종료한 세션은 건너뜀)
+    private int[] closeChunk(List<Long> ids, LocalDateTime midnight) {
+        // 리스가 다른 인스턴스로 넘어갔으면 이 묶음을 반영하지 않음 (커밋 전까지 리스 행을 잠금)
+        LeaseContext.current().ifPresent(leaseManager::assertHeld);
+
+        int closed = 0;
+        int split = 0;
+        List<TimerSession> continued = new ArrayList<>();
+        for (TimerSession session : timerSessionRepository.findAllByIdForUpdate(ids)) {
+            if (!session.isActive()) {
+                continue;
+            }
+
+            boolean multiDay = session.getStartTime().toLocalDate().plusDays(1).isBefore(midnight.toLocalDate());
+            timerService.closeSession(session, midnight);
+            continued.add(TimerSession.builder()
+                    .user(session.getUser())
+                    .startTime(midnight)
+                    .build());
+            closed++;
+            if (multiDay) {
+                split++;
+            }
+        }
+
+        // 종료(active_user_id 해제)를 먼저 반영해야 같은 사용자의 새 활성 세션을 넣을 수 있음
+        timerSessionRepository.flush();
+        for (TimerSession session : timerSessionRepository.saveAll(continued)) {
+            eventPublisher.publishEvent(TimerStartedEvent.from(session));
         }
+        return new int[]{closed, split};
     }
 }
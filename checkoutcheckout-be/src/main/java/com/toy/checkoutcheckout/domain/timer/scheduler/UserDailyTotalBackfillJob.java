@@ -0,0 +1,271 @@
+package com.toy.checkoutcheckout.domain.timer.scheduler;
+
+import com.toy.checkoutcheckout.domain.timer.repository.StudyDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.service.RollupFenceService;
+import com.toy.checkoutcheckout.global.lease.ClusterSingleton;
+import com.toy.checkoutcheckout.global.lease.Lease;
+import com.toy.checkoutcheckout.global.lease.LeaseContext;
+import com.toy.checkoutcheckout.global.lease.LeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * user_daily_totals / study_daily_totals 롤업 백필 작업
+ * 세션 기록 기간을 월 단위로 나누어 병렬로 재집계한다. 각 구간은 독립된 트랜잭션에서
+ * 삭제 후 다시 적재되므로 실패한 구간만 다시 실행해도 된다.
+ * 스터디 집계는 세션을 멤버 기간(study_membership_periods)과 맞춰 실시간 반영과 같은 규칙으로 재구성한다
+ * (가입 이후 종료된 가입일 이후의 세션, 탈퇴한 멤버는 탈퇴 전에 종료된 세션까지).
+ * 모든 구간이 끝나면 시작일 이후 행의 누적값(cumulative_duration)을 사용자/스터디 묶음별로 다시 계산한다.
+ * 리스를 획득한 한 인스턴스에서만 실행되며, 재집계하는 월의 실시간 반영은 RollupFenceService 로 잠시 멈춘다.
+ */
+@Slf4j
+@Component
+public class UserDailyTotalBackfillJob {
+
+    private static final int CUMULATIVE_BATCH_SIZE = 1000;
+    private static final int CUMULATIVE_OWNERS_PER_CHUNK = 500;
+
+    private final TimerSessionRepository timerSessionRepository;
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final StudyDailyTotalRepository studyDailyTotalRepository;
+    private final RollupFenceService rollupFenceService;
+    private final LeaseManager leaseManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+
+    public UserDailyTotalBackfillJob(TimerSessionRepository timerSessionRepository,
+                                     UserDailyTotalRepository userDailyTotalRepository,
+                                     StudyDailyTotalRepository studyDailyTotalRepository,
+                                     RollupFenceService rollupFenceService,
+                                     LeaseManager leaseManager,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${rollup.backfill.parallelism:4}") int parallelism) {
+        this.timerSessionRepository = timerSessionRepository;
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.studyDailyTotalRepository = studyDailyTotalRepository;
+        this.rollupFenceService = rollupFenceService;
+        this.leaseManager = leaseManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 롤업 테이블이 비어 있는데 세션 기록이 있으면 (최초 배포 직후) 백필 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @ClusterSingleton("rollup-backfill")
+    public void backfillIfEmpty() {
+        if (userDailyTotalRepository.count() == 0 && timerSessionRepository.count() > 0) {
+            log.info("user_daily_totals is empty, starting backfill");
+            backfillAll();
+        } else if (studyDailyTotalRepository.count() == 0 && userDailyTotalRepository.count() > 0) {
+            log.info("study_daily_totals is empty, starting backfill");
+            backfillAll();
+        } else if (userDailyTotalRepository.existsWithoutCumulative()
+                || studyDailyTotalRepository.existsWithoutCumulative()) {
+            // 누적값 컬럼이 추가된 직후에는 기존 행이 0 으로 채워져 있음
+            log.info("Daily totals are missing cumulative values, rebuilding");
+            LocalDate first = timerSessionRepository.findMinSessionDate();
+            if (first != null) {
+                rebuildCumulative(first);
+            }
+        }
+    }
+
+    /**
+     * 전체 세션 기록 기간에 대해 롤업 재구성
+     */
+    public void backfillAll() {
+        LocalDate first = timerSessionRepository.findMinSessionDate();
+        LocalDate last = timerSessionRepository.findMaxSessionDate();
+        if (first == null || last == null) {
+            return;
+        }
+        backfill(first, last);
+    }
+
+    /**
+     * 기간 [startDate, endDate] 의 롤업을 월 단위 구간으로 나누어 병렬 재구성
+     */
+    public void backfill(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate[]> partitions = new ArrayList<>();
+        LocalDate cursor = startDate;
+        while (!cursor.isAfter(endDate)) {
+            LocalDate monthEnd = cursor.withDayOfMonth(cursor.lengthOfMonth());
+            LocalDate partitionEnd = monthEnd.isAfter(endDate) ? endDate : monthEnd;
+            partitions.add(new LocalDate[]{cursor, partitionEnd});
+            cursor = partitionEnd.plusDays(1);
+        }
+
+        // 재집계할 월을 표시한 뒤부터 그 월의 반영은 해당 구간의 적재가 끝날 때까지 대기
+        transactionTemplate.executeWithoutResult(status -> rollupFenceService.fenceMonths(startDate, endDate));
+
+        Optional<Lease> lease = LeaseContext.current();
+        long started = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, partitions.size())));
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (LocalDate[] partition : partitions) {
+                results.add(executor.submit(() -> backfillPartition(partition[0], partition[1], lease)));
+            }
+
+            int rows = 0;
+            int failed = 0;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    rows += results.get(i).get();
+                } catch (Exception e) {
+                    failed++;
+                    log.error("Backfill failed for {} ~ {}", partitions.get(i)[0], partitions.get(i)[1], e);
+                }
+            }
+
+            // 구간 경계를 넘는 누적값은 모든 구간이 적재된 뒤에 순서대로 계산
+            int cumulativeRows = rebuildCumulative(startDate);
+
+            log.info("Backfilled daily totals {} ~ {}: {} rows, {} partitions ({} failed), {} cumulative rows in {}ms",
+                    startDate, endDate, rows, partitions.size(), failed, cumulativeRows,
+                    System.currentTimeMillis() - started);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * fromDate 이후 행의 누적값을 직전 기록의 누적값부터 이어서 다시 계산
+     * 사용자/스터디 묶음마다 짧은 트랜잭션으로 나누며, 각 트랜잭션 동안만 실시간 반영을 멈춘다.
+     */
+    public int rebuildCumulative(LocalDate fromDate) {
+        Optional<Lease> lease = LeaseContext.current();
+        return rebuildCumulative("user_daily_totals", "user_id", fromDate, lease)
+                + rebuildCumulative("study_daily_totals", "study_id", fromDate, lease);
+    }
+
+    private int rebuildCumulative(String table, String ownerColumn, LocalDate fromDate, Optional<Lease> lease) {
+        List<Long> owners = jdbcTemplate.queryForList("SELECT DISTINCT " + ownerColumn + " FROM " + table +
+                " WHERE session_date >= ? ORDER BY " + ownerColumn, Long.class, fromDate);
+
+        int rows = 0;
+        for (int from = 0; from < owners.size(); from += CUMULATIVE_OWNERS_PER_CHUNK) {
+            long firstOwner = owners.get(from);
+            long lastOwner = owners.get(Math.min(from + CUMULATIVE_OWNERS_PER_CHUNK, owners.size()) - 1);
+            Integer chunkRows = transactionTemplate.execute(status -> {
+                rollupFenceService.enterCumulativeRebuild();
+                lease.ifPresent(leaseManager::assertHeld);
+                return rebuildCumulative(table, ownerColumn, fromDate, firstOwner, lastOwner);
+            });
+            rows += chunkRows != null ? chunkRows : 0;
+        }
+        return rows;
+    }
+
+    private int rebuildCumulative(String table, String ownerColumn, LocalDate fromDate, long firstOwner, long lastOwner) {
+        Map<Long, Long> running = new HashMap<>();
+        jdbcTemplate.query("SELECT d." + ownerColumn + ", d.cumulative_duration FROM " + table + " d " +
+                        "WHERE d." + ownerColumn + " BETWEEN ? AND ? " +
+                        "AND d.session_date = (SELECT MAX(p.session_date) FROM " + table + " p " +
+                        "WHERE p." + ownerColumn + " = d." + ownerColumn + " AND p.session_date < ?)",
+                (RowCallbackHandler) rs -> running.put(rs.getLong(1), rs.getLong(2)), firstOwner, lastOwner, fromDate);
+
+        String update = "UPDATE " + table + " SET cumulative_duration = ? WHERE id = ?";
+        List<Object[]> batch = new ArrayList<>(CUMULATIVE_BATCH_SIZE);
+        int[] updated = {0};
+        jdbcTemplate.query("SELECT d.id, d." + ownerColumn + ", d.total_duration FROM " + table + " d " +
+                        "WHERE d." + ownerColumn + " BETWEEN ? AND ? AND d.session_date >= ? " +
+                        "ORDER BY d." + ownerColumn + ", d.session_date",
+                (RowCallbackHandler) rs -> {
+                    long cumulative = running.merge(rs.getLong(2), rs.getLong(3), Long::sum);
+                    batch.add(new Object[]{cumulative, rs.getLong(1)});
+                    if (batch.size() == CUMULATIVE_BATCH_SIZE) {
+                        updated[0] += flush(update, batch);
+                    }
+                }, firstOwner, lastOwner, fromDate);
+        return updated[0] + flush(update, batch);
+    }
+
+    private int flush(String update, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(update, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private int backfillPartition(LocalDate startDate, LocalDate endDate, Optional<Lease> lease) {
+        Integer rows = transactionTemplate.execute(status -> {
+            rollupFenceService.enterMonthRebuild(startDate);
+            lease.ifPresent(leaseManager::assertHeld);
+
+            userDailyTotalRepository.deleteByDateRange(startDate, endDate);
+            int userRows = insertAggregatedFromSessions(startDate, endDate);
+
+            studyDailyTotalRepository.deleteByDateRange(startDate, endDate);
+            return userRows + insertStudyAggregatedFromSessions(startDate, endDate);
+        });
+        return rows != null ? rows : 0;
+    }
+
+    // 세션은 잠그지 않고 읽음 (INSERT ... SELECT 는 읽은 세션 행을 공유 잠금하여 종료 중인 타이머와 교착될 수 있음)
+    // 누적값은 0 으로 적재되며 이후 다시 계산해야 함
+    private int insertAggregatedFromSessions(LocalDate startDate, LocalDate endDate) {
+        String insert = "INSERT INTO user_daily_totals (user_id, session_date, total_duration, cumulative_duration) " +
+                "VALUES (?, ?, ?, 0)";
+        List<Object[]> batch = new ArrayList<>(CUMULATIVE_BATCH_SIZE);
+        int[] inserted = {0};
+        jdbcTemplate.query("SELECT t.user_id, t.session_date, SUM(t.duration) FROM timer_sessions t " +
+                        "WHERE t.is_active = false AND t.session_date BETWEEN ? AND ? " +
+                        "GROUP BY t.user_id, t.session_date",
+                (RowCallbackHandler) rs -> {
+                    batch.add(new Object[]{rs.getLong(1), rs.getDate(2), rs.getLong(3)});
+                    if (batch.size() == CUMULATIVE_BATCH_SIZE) {
+                        inserted[0] += flush(insert, batch);
+                    }
+                }, startDate, endDate);
+        return inserted[0] + flush(insert, batch);
+    }
+
+    // 세션을 종료 시각에 멤버였던 스터디에 합산 (StudyDailyTotalService.credit 과 같은 규칙, 세션 날짜가 가입일 이후인 기록만)
+    private int insertStudyAggregatedFromSessions(LocalDate startDate, LocalDate endDate) {
+        String insert = "INSERT INTO study_daily_totals (study_id, session_date, total_duration, cumulative_duration) " +
+                "VALUES (?, ?, ?, 0)";
+        List<Object[]> batch = new ArrayList<>(CUMULATIVE_BATCH_SIZE);
+        int[] inserted = {0};
+        jdbcTemplate.query("SELECT p.study_id, t.session_date, SUM(t.duration) FROM timer_sessions t " +
+                        "JOIN study_membership_periods p ON p.user_id = t.user_id " +
+                        "WHERE t.is_active = false AND t.duration > 0 AND t.session_date BETWEEN ? AND ? " +
+                        "AND t.end_time >= p.joined_at AND t.session_date >= CAST(p.joined_at AS DATE) " +
+                        "AND (p.left_at IS NULL OR t.end_time < p.left_at) " +
+                        "GROUP BY p.study_id, t.session_date",
+                (RowCallbackHandler) rs -> {
+                    batch.add(new Object[]{rs.getLong(1), rs.getDate(2), rs.getLong(3)});
+                    if (batch.size() == CUMULATIVE_BATCH_SIZE) {
+                        inserted[0] += flush(insert, batch);
+                    }
+                }, startDate, endDate);
+        return inserted[0] + flush(insert, batch);
+    }
+}
@@ -0,0 +1,28 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 여러 노드가 공유하는 활성 타이머 사본 (timer.registry.mirror 설정 시 사용)
+ * 한 노드에서 시작/종료한 타이머를 다른 노드의 상태 조회가 볼 수 있도록 한다.
+ */
+public interface ActiveTimerMirror {
+
+    void put(ActiveTimerRegistry.ActiveTimer timer);
+
+    /**
+     * 해당 세션이 등록되어 있을 때만 제거 (그 사이 새로 시작된 세션은 유지), 제거했으면 true
+     */
+    boolean remove(Long userId, Long sessionId);
+
+    Optional<ActiveTimerRegistry.ActiveTimer> find(Long userId);
+
+    /**
+     * 주어진 사용자들의 활성 타이머를 한 번에 조회 (사용자 ID 기준, 없는 사용자는 제외)
+     */
+    Map<Long, ActiveTimerRegistry.ActiveTimer> findAll(Collection<Long> userIds);
+
+    Collection<ActiveTimerRegistry.ActiveTimer> findAll();
+}
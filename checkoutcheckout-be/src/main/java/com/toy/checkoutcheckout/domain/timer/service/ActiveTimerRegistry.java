@@ -0,0 +1,310 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.event.TimerStartedEvent;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 진행 중인 타이머의 메모리 색인 (사용자 ID -> 활성 세션)
+ * 시작 시 DB 의 활성 세션으로 채우고, 이후에는 타이머 시작/종료 커밋 이벤트로 갱신한다.
+ * - 타이머 상태 조회와 중복 시작 확인, 실시간 랭킹이 사용자마다 DB 를 조회하지 않도록 한다.
+ * - timer.registry.mirror 가 설정되면 변경을 공유 사본(Redis)에도 기록하고 조회는 사본을 우선 사용
+ * - 주기적으로 DB 와 대조해 어긋난 항목을 바로잡음 (진행 중인 커밋과 구분하기 위해 연속 두 번 같은 차이가 보일 때만 수정)
+ */
+@Slf4j
+@Component
+public class ActiveTimerRegistry {
+
+    private static final Long NONE = -1L;
+
+    private final TimerSessionRepository timerSessionRepository;
+    private final ActiveTimerMirror mirror; // 설정하지 않으면 null
+    private final Map<Long, ActiveTimer> timers = new ConcurrentHashMap<>();
+    private final Set<Long> starting = ConcurrentHashMap.newKeySet(); // 시작 트랜잭션이 진행 중인 사용자
+    private final Map<Long, Long> localSuspects = new HashMap<>();
+    private final Map<Long, Long> mirrorSuspects = new HashMap<>();
+
+    public ActiveTimerRegistry(TimerSessionRepository timerSessionRepository,
+                               ObjectProvider<ActiveTimerMirror> mirror) {
+        this.timerSessionRepository = timerSessionRepository;
+        this.mirror = mirror.getIfAvailable();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        timers.clear();
+        timers.putAll(loadFromDatabase());
+        log.info("Loaded {} active timers", timers.size());
+    }
+
+    /**
+     * 타이머 시작 트랜잭션에서 호출, 이미 진행 중이거나 시작 중인 타이머가 있으면 false
+     * 표시는 커밋 후 시작 이벤트가 반영될 때(롤백이면 트랜잭션 종료 시) 해제된다.
+     */
+    public boolean claimStart(Long userId) {
+        if (find(userId).isPresent() || !starting.add(userId)) {
+            return false;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            starting.remove(userId);
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    starting.remove(userId);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 타이머 저널로 시작한 타이머를 세션 ID 없이(저장 전) 등록, 이미 진행 중이거나 시작 중이면 false
+     */
+    public boolean registerPending(Long userId, LocalDateTime startTime) {
+        if (find(userId).isPresent() || starting.contains(userId)) {
+            return false;
+        }
+        ActiveTimer timer = new ActiveTimer(userId, null, startTime.toLocalDate(), startTime);
+        if (timers.putIfAbsent(userId, timer) != null) {
+            return false;
+        }
+        writeMirror("put", () -> mirror.put(timer));
+        return true;
+    }
+
+    /**
+     * 타이머 저널로 종료한 타이머를 바로 제거 (그 사이 다른 타이머로 바뀌었거나 다른 요청이 먼저 제거했으면 false)
+     * 다른 노드에서 시작한 타이머는 공유 사본에만 있으므로 어느 한 쪽에서 제거했으면 true
+     */
+    public boolean remove(ActiveTimer timer) {
+        boolean removed = timers.remove(timer.userId(), timer);
+        if (mirror != null) {
+            try {
+                removed = mirror.remove(timer.userId(), timer.sessionId()) || removed;
+            } catch (RuntimeException e) {
+                log.warn("Active timer mirror remove failed: {}", e.getMessage());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 저널 기록에 실패한 종료를 되돌림
+     */
+    public void restore(ActiveTimer timer) {
+        if (timers.putIfAbsent(timer.userId(), timer) == null) {
+            writeMirror("put", () -> mirror.put(timer));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStarted(TimerStartedEvent event) {
+        ActiveTimer timer = new ActiveTimer(
+                event.getUserId(), event.getSessionId(), event.getSessionDate(), event.getStartTime());
+        if (event.isJournaled()) {
+            // 요청 시점에 등록된 저장 전 타이머에 세션 ID 만 채움 (이미 종료되었거나 새로 시작했으면 그대로 둠)
+            ActiveTimer updated = timers.computeIfPresent(event.getUserId(), (userId, current) ->
+                    current.sessionId() == null && current.startTime().equals(event.getStartTime()) ? timer : current);
+            if (timer.equals(updated)) {
+                writeMirror("put", () -> mirror.put(timer));
+            }
+            return;
+        }
+        timers.put(event.getUserId(), timer);
+        starting.remove(event.getUserId());
+        writeMirror("put", () -> mirror.put(timer));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStopped(TimerStoppedEvent event) {
+        // 이미 새 세션이 등록된 경우 지우지 않음
+        timers.computeIfPresent(event.getUserId(),
+                (userId, timer) -> event.getSessionId().equals(timer.sessionId()) ? null : timer);
+        writeMirror("remove", () -> mirror.remove(event.getUserId(), event.getSessionId()));
+    }
+
+    public Optional<ActiveTimer> find(Long userId) {
+        if (mirror != null) {
+            try {
+                return mirror.find(userId);
+            } catch (RuntimeException e) {
+                log.warn("Active timer mirror lookup failed, using local registry: {}", e.getMessage());
+            }
+        }
+        return Optional.ofNullable(timers.get(userId));
+    }
+
+    /**
+     * 주어진 사용자들의 활성 타이머 (사용자 ID 기준, 공유 사본은 한 번만 조회)
+     */
+    public Map<Long, ActiveTimer> findAll(Collection<Long> userIds) {
+        if (mirror != null) {
+            try {
+                return mirror.findAll(userIds);
+            } catch (RuntimeException e) {
+                log.warn("Active timer mirror lookup failed, using local registry: {}", e.getMessage());
+            }
+        }
+        Map<Long, ActiveTimer> result = new HashMap<>();
+        for (Long userId : userIds) {
+            ActiveTimer timer = timers.get(userId);
+            if (timer != null) {
+                result.put(userId, timer);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 세션 날짜가 date 인 활성 타이머 (사용자 ID 기준)
+     */
+    public Map<Long, ActiveTimer> findBySessionDate(LocalDate date) {
+        Map<Long, ActiveTimer> result = new HashMap<>();
+        for (ActiveTimer timer : all()) {
+            if (timer.sessionDate().equals(date)) {
+                result.put(timer.userId(), timer);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /**
+     * DB 의 활성 세션과 대조해 메모리 색인(과 공유 사본)의 차이를 바로잡음
+     * @return 수정한 항목 수
+     */
+    @Scheduled(initialDelayString = "${timer.registry.reconcile-ms:60000}",
+               fixedDelayString = "${timer.registry.reconcile-ms:60000}")
+    public synchronized int reconcile() {
+        Map<Long, ActiveTimer> expected = loadFromDatabase();
+
+        int repaired = repair(new HashMap<>(timers), expected, localSuspects,
+                timer -> timers.put(timer.userId(), timer),
+                (userId, sessionId) -> timers.computeIfPresent(userId,
+                        (id, timer) -> Objects.equals(timer.sessionId(), sessionId) ? null : timer));
+
+        if (mirror != null) {
+            try {
+                Map<Long, ActiveTimer> mirrored = new HashMap<>();
+                for (ActiveTimer timer : mirror.findAll()) {
+                    mirrored.put(timer.userId(), timer);
+                }
+                repaired += repair(mirrored, expected, mirrorSuspects, mirror::put, mirror::remove);
+            } catch (RuntimeException e) {
+                log.warn("Active timer mirror reconciliation failed: {}", e.getMessage());
+            }
+        }
+
+        if (repaired > 0) {
+            log.warn("Repaired {} drifted active timer entries", repaired);
+        }
+        return repaired;
+    }
+
+    // 이전 대조에서도 같은 차이(기대 세션)가 보였던 사용자만 수정하고, 새로 보인 차이는 다음 대조까지 보류
+    private int repair(Map<Long, ActiveTimer> current, Map<Long, ActiveTimer> expected, Map<Long, Long> suspects,
+                       Consumer<ActiveTimer> put, BiConsumer<Long, Long> remove) {
+        Set<Long> userIds = new HashSet<>(current.keySet());
+        userIds.addAll(expected.keySet());
+
+        Map<Long, Long> drift = new HashMap<>();
+        int repaired = 0;
+        for (Long userId : userIds) {
+            ActiveTimer want = expected.get(userId);
+            ActiveTimer have = current.get(userId);
+            Long wantSession = want != null ? want.sessionId() : NONE;
+            Long haveSession = have != null ? have.sessionId() : NONE; // 저장 전(저널) 타이머는 null
+            if (wantSession.equals(haveSession)) {
+                continue;
+            }
+
+            if (!wantSession.equals(suspects.get(userId))) {
+                drift.put(userId, wantSession);
+                continue;
+            }
+            if (want != null) {
+                put.accept(want);
+            } else {
+                remove.accept(userId, haveSession);
+            }
+            repaired++;
+        }
+
+        suspects.clear();
+        suspects.putAll(drift);
+        return repaired;
+    }
+
+    private Collection<ActiveTimer> all() {
+        if (mirror != null) {
+            try {
+                return mirror.findAll();
+            } catch (RuntimeException e) {
+                log.warn("Active timer mirror lookup failed, using local registry: {}", e.getMessage());
+            }
+        }
+        return timers.values();
+    }
+
+    private Map<Long, ActiveTimer> loadFromDatabase() {
+        Map<Long, ActiveTimer> result = new HashMap<>();
+        for (Object[] row : timerSessionRepository.findActiveTimerRows()) {
+            Long userId = (Long) row[0];
+            result.put(userId, new ActiveTimer(userId, (Long) row[1], (LocalDate) row[2], (LocalDateTime) row[3]));
+        }
+        return result;
+    }
+
+    // 공유 사본 갱신 실패는 다음 대조에서 복구되므로 요청을 실패시키지 않음
+    private void writeMirror(String operation, Runnable write) {
+        if (mirror == null) {
+            return;
+        }
+        try {
+            write.run();
+        } catch (RuntimeException e) {
+            log.warn("Active timer mirror {} failed: {}", operation, e.getMessage());
+        }
+    }
+
+    public record ActiveTimer(Long userId, Long sessionId, LocalDate sessionDate, LocalDateTime startTime) {
+
+        /**
+         * now 기준 진행된 시간 (초 단위)
+         */
+        public long elapsedSeconds(LocalDateTime now) {
+            return Math.max(0L, Duration.between(startTime, now).getSeconds());
+        }
+    }
+}
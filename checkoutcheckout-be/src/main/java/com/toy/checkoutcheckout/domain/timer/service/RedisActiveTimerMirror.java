@@ -0,0 +1,99 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 해시(사용자 ID -> "세션 ID|세션 날짜|시작 시각") 기반 활성 타이머 사본
+ * 저장 전(타이머 저널) 타이머는 세션 ID 자리를 비워 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timer.registry.mirror", havingValue = "redis")
+public class RedisActiveTimerMirror implements ActiveTimerMirror {
+
+    private static final String KEY = "timer:active";
+    private static final String SEPARATOR = "|";
+
+    // 값이 같은 세션일 때만 삭제
+    private static final DefaultRedisScript<Long> REMOVE_IF_SESSION = new DefaultRedisScript<>(
+            "local v = redis.call('HGET', KEYS[1], ARGV[1]) "
+                    + "if v and string.sub(v, 1, string.len(ARGV[2])) == ARGV[2] then "
+                    + "return redis.call('HDEL', KEYS[1], ARGV[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void put(ActiveTimerRegistry.ActiveTimer timer) {
+        redisTemplate.opsForHash().put(KEY, String.valueOf(timer.userId()), encode(timer));
+    }
+
+    @Override
+    public boolean remove(Long userId, Long sessionId) {
+        Long removed = redisTemplate.execute(REMOVE_IF_SESSION, List.of(KEY),
+                String.valueOf(userId), sessionIdText(sessionId) + SEPARATOR);
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public Optional<ActiveTimerRegistry.ActiveTimer> find(Long userId) {
+        Object value = redisTemplate.opsForHash().get(KEY, String.valueOf(userId));
+        return value != null ? Optional.of(decode(userId, value.toString())) : Optional.empty();
+    }
+
+    @Override
+    public Map<Long, ActiveTimerRegistry.ActiveTimer> findAll(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        Map<Long, ActiveTimerRegistry.ActiveTimer> timers = new HashMap<>();
+        if (ids.isEmpty()) {
+            return timers;
+        }
+        // HMGET 한 번으로 조회 (값은 요청한 순서대로, 없으면 null)
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY,
+                ids.stream().<Object>map(String::valueOf).toList());
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                timers.put(ids.get(i), decode(ids.get(i), value.toString()));
+            }
+        }
+        return timers;
+    }
+
+    @Override
+    public Collection<ActiveTimerRegistry.ActiveTimer> findAll() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY);
+        List<ActiveTimerRegistry.ActiveTimer> timers = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            timers.add(decode(Long.valueOf(entry.getKey().toString()), entry.getValue().toString()));
+        }
+        return timers;
+    }
+
+    private static String encode(ActiveTimerRegistry.ActiveTimer timer) {
+        return sessionIdText(timer.sessionId()) + SEPARATOR + timer.sessionDate() + SEPARATOR + timer.startTime();
+    }
+
+    private static String sessionIdText(Long sessionId) {
+        return sessionId != null ? String.valueOf(sessionId) : "";
+    }
+
+    private static ActiveTimerRegistry.ActiveTimer decode(Long userId, String value) {
+        String[] parts = value.split("\\|");
+        return new ActiveTimerRegistry.ActiveTimer(userId, parts[0].isEmpty() ? null : Long.valueOf(parts[0]),
+                LocalDate.parse(parts[1]), LocalDateTime.parse(parts[2]));
+    }
+}
@@ -0,0 +1,96 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.entity.RollupFence;
+import com.toy.checkoutcheckout.domain.timer.repository.RollupFenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 일일 롤업 재집계(백필)와 실시간 반영(타이머 종료) 사이의 펜스
+ * rollup_fences 행을 실시간 반영은 공유 잠금으로, 재집계는 배타 잠금으로 읽는다.
+ * - 전체 행: 모든 반영이 공유 잠금으로 지나가며, 재집계할 월 행을 만들거나 누적값을 다시 계산할 때 배타 잠금
+ * - 월 행: 재집계 중인 월에만 있으며, 그 월의 구간을 적재하는 동안 같은 월의 반영만 기다림
+ * 재집계는 진행 중인 반영이 커밋된 뒤 읽고, 이후 반영은 재집계가 커밋된 뒤 그 결과에 더하므로
+ * 어떤 종료도 빠지거나 두 번 반영되지 않는다. 전체 행은 기동 중(요청을 받기 전) 만들어 둔다.
+ */
+@Slf4j
+@Service
+public class RollupFenceService implements InitializingBean {
+
+    private static final String GLOBAL = "daily-totals";
+
+    private final RollupFenceRepository rollupFenceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RollupFenceService(RollupFenceRepository rollupFenceRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.rollupFenceRepository = rollupFenceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!rollupFenceRepository.existsById(GLOBAL)) {
+                    rollupFenceRepository.saveAndFlush(new RollupFence(GLOBAL));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 만든 경우
+            log.debug("Rollup fence {} was created concurrently", GLOBAL);
+        }
+    }
+
+    /**
+     * 롤업 반영 전 (date 가 속한 월을 재집계 중이면 끝날 때까지 기다림)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enterCredit(LocalDate date) {
+        rollupFenceRepository.findForShare(GLOBAL);
+        rollupFenceRepository.findForShare(month(date));
+    }
+
+    /**
+     * 재집계할 월들을 표시 (진행 중인 반영이 모두 커밋된 뒤 표시되므로 이후 반영은 월 행을 거침)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void fenceMonths(LocalDate startDate, LocalDate endDate) {
+        rollupFenceRepository.findForUpdate(GLOBAL);
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            String name = GLOBAL + ":" + month;
+            if (!rollupFenceRepository.existsById(name)) {
+                rollupFenceRepository.save(new RollupFence(name));
+            }
+        }
+    }
+
+    /**
+     * date 가 속한 월의 구간 재집계 (그 월의 반영만 멈춤, fenceMonths 이후 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enterMonthRebuild(LocalDate date) {
+        rollupFenceRepository.findForUpdate(month(date));
+    }
+
+    /**
+     * 누적값 재계산 (이후 날짜 누적값을 건드리는 모든 반영을 멈추므로 짧은 트랜잭션으로 나누어 사용)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enterCumulativeRebuild() {
+        rollupFenceRepository.findForUpdate(GLOBAL);
+    }
+
+    private String month(LocalDate date) {
+        return GLOBAL + ":" + YearMonth.from(date);
+    }
+}
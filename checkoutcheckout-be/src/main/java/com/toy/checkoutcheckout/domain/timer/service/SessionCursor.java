@@ -0,0 +1,45 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.global.error.BadRequestException;
+import com.toy.checkoutcheckout.global.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최근 세션 페이지 커서 (이전 페이지 마지막 세션의 시작 시각과 ID 를 감싼 불투명 토큰)
+ * 다음 페이지는 (startTime, id) 가 이 값보다 작은 세션부터 시작하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회된다.
+ */
+record SessionCursor(LocalDateTime startTime, long id) {
+
+    private static final String PREFIX = "s:";
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + startTime + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 없으면 null (첫 페이지)
+     */
+    static SessionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (!decoded.startsWith(PREFIX) || separator < 0) {
+                throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+            }
+            LocalDateTime startTime = LocalDateTime.parse(decoded.substring(PREFIX.length(), separator));
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            return new SessionCursor(startTime, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.dto.StudyHeatmapResponse;
+import com.toy.checkoutcheckout.domain.timer.entity.StudyActivity;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.StudyActivityRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 연간 공부 기록 (잔디 히트맵, 연속 공부 일수)
+ * - 타이머 종료가 커밋되면 그 날의 합계를 다시 읽어 study_activities 의 해당 날짜 비트/강도를 갱신
+ * - 행이 없는 연도는 user_daily_totals 로 채워 만들므로 배포 이전 기록과 놓친 이벤트도 반영됨
+ * - 히트맵/연속 일수 조회는 사용자의 연도별 행만 읽고 세션 기록은 읽지 않음
+ */
+@Slf4j
+@Service
+public class StudyActivityService {
+
+    private static final int HEATMAP_DAYS = 365;
+
+    private final StudyActivityRepository studyActivityRepository;
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudyActivityService(StudyActivityRepository studyActivityRepository,
+                                UserDailyTotalRepository userDailyTotalRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.studyActivityRepository = studyActivityRepository;
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 타이머 종료가 커밋된 후 해당 날짜 기록 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimerStopped(TimerStoppedEvent event) {
+        if (event.getDuration() <= 0) {
+            return;
+        }
+        try {
+            record(event.getUserId(), event.getSessionDate());
+        } catch (RuntimeException e) {
+            // 다음 종료나 해당 연도 재구성 때 합계로 다시 계산됨
+            log.warn("Failed to update study activity for user {} on {}: {}",
+                    event.getUserId(), event.getSessionDate(), e.getMessage());
+        }
+    }
+
+    /**
+     * date 의 공부 여부와 강도를 그 날의 합계로 다시 계산
+     */
+    public void record(Long userId, LocalDate date) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordLocked(userId, date));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 연도 행을 동시에 처음 만든 경우, 이미 생긴 행을 잠가 다시 반영
+            transactionTemplate.executeWithoutResult(status -> recordLocked(userId, date));
+        }
+    }
+
+    private void recordLocked(Long userId, LocalDate date) {
+        StudyActivity activity = studyActivityRepository.findForUpdate(userId, date.getYear())
+                .orElseGet(() -> studyActivityRepository.saveAndFlush(rebuild(userId, date.getYear())));
+        activity.record(date, userDailyTotalRepository.sumByUserIdAndDateRange(userId, date, date));
+    }
+
+    /**
+     * 오늘까지 365일의 날짜별 강도와 연속 공부 일수
+     */
+    public StudyHeatmapResponse getHeatmap(Long userId, LocalDate today) {
+        Map<Integer, StudyActivity> activities = new HashMap<>();
+        for (StudyActivity activity : studyActivityRepository.findByUserIdOrderByYearAsc(userId)) {
+            activities.put(activity.getYear(), activity);
+        }
+
+        // 첫 기록 연도부터 행이 없는 연도는 롤업으로 채움 (보통 연초에 한 번)
+        LocalDate first = userDailyTotalRepository.findFirstDateByUserId(userId);
+        int firstYear = first != null ? Math.min(first.getYear(), today.getYear()) : today.getYear();
+        for (int year = firstYear; year <= today.getYear(); year++) {
+            if (!activities.containsKey(year)) {
+                activities.put(year, create(userId, year));
+            }
+        }
+
+        LocalDate startDate = today.minusDays(HEATMAP_DAYS - 1);
+        StringBuilder levels = new StringBuilder(HEATMAP_DAYS);
+        int activeDays = 0;
+        for (LocalDate date = startDate; !date.isAfter(today); date = date.plusDays(1)) {
+            StudyActivity activity = activities.get(date.getYear());
+            int level = activity != null ? activity.levelOn(date) : 0;
+            levels.append((char) ('0' + level));
+            if (level > 0) {
+                activeDays++;
+            }
+        }
+
+        StudyStreaks.Result streaks = StudyStreaks.compute(activities, firstYear, today);
+        return StudyHeatmapResponse.builder()
+                .startDate(startDate)
+                .endDate(today)
+                .levels(levels.toString())
+                .activeDays(activeDays)
+                .currentStreak(streaks.current())
+                .longestStreak(streaks.longest())
+                .build();
+    }
+
+    private StudyActivity create(Long userId, int year) {
+        try {
+            return transactionTemplate.execute(status -> studyActivityRepository.saveAndFlush(rebuild(userId, year)));
+        } catch (DataIntegrityViolationException e) {
+            // 타이머 종료 반영이 먼저 만든 경우
+            return studyActivityRepository.findByUserIdAndYear(userId, year).orElseThrow(() -> e);
+        }
+    }
+
+    // 해당 연도의 롤업으로 새 행 구성 (저장 전)
+    private StudyActivity rebuild(Long userId, int year) {
+        StudyActivity activity = StudyActivity.empty(userId, year);
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        for (Object[] row : userDailyTotalRepository.findDailyTotalsByUserId(
+                userId, startDate, startDate.withDayOfYear(startDate.lengthOfYear()))) {
+            activity.record((LocalDate) row[0], (Long) row[1]);
+        }
+        return activity;
+    }
+}
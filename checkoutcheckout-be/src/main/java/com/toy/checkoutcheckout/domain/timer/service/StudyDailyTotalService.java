@@ -0,0 +1,56 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.study.repository.StudyMemberRepository;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.StudyDailyTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 스터디별 일일 공부시간 집계 갱신
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyDailyTotalService {
+
+    private final StudyDailyTotalRepository studyDailyTotalRepository;
+    private final RollupFenceService rollupFenceService;
+    private final StudyMemberRepository studyMemberRepository;
+
+    /**
+     * 종료된 세션의 공부시간을 사용자가 세션 날짜 기준으로 가입해 있던 스터디들에 더한다.
+     * 세션 날짜 이후의 누적값에도 같이 더한다.
+     * 가입한 날의 세션부터 반영하며, 데드락을 피하기 위해 스터디 ID 순서로 잠근다.
+     * 여러 멤버가 같은 날짜의 첫 기록을 동시에 반영해도 한 행으로 합쳐진다 (INSERT ... ON DUPLICATE KEY UPDATE).
+     * 타이머 종료와 같은 트랜잭션에서 호출되어야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(TimerSession session) {
+        long duration = session.getDuration() != null ? session.getDuration() : 0L;
+        if (duration <= 0) {
+            return;
+        }
+
+        LocalDate date = session.getSessionDate();
+        rollupFenceService.enterCredit(date);
+        for (Long studyId : studyMemberRepository.findStudyIdsJoinedBefore(
+                session.getUser().getId(), date.plusDays(1).atStartOfDay())) {
+            studyDailyTotalRepository.upsertDuration(studyId, date, duration, cumulativeBefore(studyId, date) + duration);
+            studyDailyTotalRepository.addToCumulativeAfter(studyId, date, duration);
+        }
+    }
+
+    // 직전 기록의 누적값 (그 행을 잠가 같은 날짜에 늦게 반영되는 기록과 순서를 맞춤)
+    private long cumulativeBefore(Long studyId, LocalDate date) {
+        LocalDate previous = studyDailyTotalRepository.findLatestDateBefore(studyId, date);
+        if (previous == null) {
+            return 0L;
+        }
+        Long cumulative = studyDailyTotalRepository.findCumulativeForUpdate(studyId, previous);
+        return cumulative != null ? cumulative : 0L;
+    }
+}
@@ -0,0 +1,84 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.entity.StudyActivity;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * 연도별 공부 비트 집합으로 연속 공부 일수 계산
+ * nextSetBit / nextClearBit / previousClearBit 가 64일 단위 워드 연산으로 다음 경계까지 건너뛰므로
+ * 날짜를 하나씩 보지 않고 연속 구간 수에 비례해 계산된다. 연도 경계를 넘는 구간은 이어서 센다.
+ */
+final class StudyStreaks {
+
+    private StudyStreaks() {
+    }
+
+    /**
+     * @param current 오늘(오늘 기록이 아직 없으면 어제)까지 이어진 연속 일수
+     * @param longest 기록 전체에서 가장 긴 연속 일수
+     */
+    record Result(int current, int longest) {
+    }
+
+    /**
+     * firstYear 부터 today 까지의 연속 공부 일수 (activities 에 없는 연도는 공부 기록 없음)
+     */
+    static Result compute(Map<Integer, StudyActivity> activities, int firstYear, LocalDate today) {
+        int longest = 0;
+        int carry = 0; // 직전 연도 말일까지 이어진 구간 길이
+        for (int year = firstYear; year <= today.getYear(); year++) {
+            BitSet days = bits(activities, year);
+            int length = year == today.getYear() ? today.getDayOfYear() : Year.of(year).length();
+
+            int leading = Math.min(days.nextClearBit(0), length);
+            if (leading == length) {
+                carry += length;
+                longest = Math.max(longest, carry);
+                continue;
+            }
+            longest = Math.max(longest, carry + leading);
+
+            carry = 0;
+            for (int start = days.nextSetBit(leading); start >= 0 && start < length; start = days.nextSetBit(start)) {
+                int end = Math.min(days.nextClearBit(start), length);
+                if (end == length) {
+                    carry = end - start; // 다음 연도로 이어질 수 있음
+                    break;
+                }
+                longest = Math.max(longest, end - start);
+                start = end;
+            }
+            longest = Math.max(longest, carry);
+        }
+
+        return new Result(current(activities, firstYear, today), longest);
+    }
+
+    // 오늘(없으면 어제)부터 거꾸로 첫 공부하지 않은 날까지
+    private static int current(Map<Integer, StudyActivity> activities, int firstYear, LocalDate today) {
+        LocalDate end = bits(activities, today.getYear()).get(today.getDayOfYear() - 1) ? today : today.minusDays(1);
+        int year = end.getYear();
+        int index = end.getDayOfYear() - 1;
+        int streak = 0;
+        while (year >= firstYear) {
+            BitSet days = bits(activities, year);
+            int gap = days.previousClearBit(index);
+            streak += index - gap;
+            if (gap >= 0) {
+                break;
+            }
+            year--;
+            index = Year.of(year).length() - 1;
+        }
+        return streak;
+    }
+
+    private static BitSet bits(Map<Integer, StudyActivity> activities, int year) {
+        StudyActivity activity = activities.get(year);
+        return activity != null ? activity.dayBits() : new BitSet();
+    }
+}
@@ -0,0 +1,185 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.global.error.BadRequestException;
+import com.toy.checkoutcheckout.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 타이머 세션 기록 내보내기 (CSV / NDJSON)
+ * - 전진 전용 커서로 fetch-size 만큼씩 읽어 한 행씩 바로 출력하므로 기록 수와 관계없이 메모리 사용량이 일정
+ * - MySQL 에서는 접속 URL 에 useCursorFetch=true 가 있어야 fetch-size 단위로 서버 커서를 사용
+ * - 기간은 시작 시각 기준 (user_id, start_time, id 인덱스 순서 그대로 출력)
+ */
+@Slf4j
+@Service
+public class TimerExportService {
+
+    private static final String CSV_HEADER = "id,start_time,end_time,session_date,duration_seconds,active";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TimerExportService(DataSource dataSource,
+                              @Value("${timer.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 요청 스레드에서 기간을 검증 (스트리밍이 시작된 뒤에는 오류 응답을 보낼 수 없으므로)
+     */
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE, "시작일은 종료일보다 늦을 수 없습니다.");
+        }
+    }
+
+    /**
+     * userId 의 세션 중 시작일이 [startDate, endDate] 인 세션을 out 에 기록 (null 이면 해당 방향 제한 없음)
+     * @return 기록한 세션 수
+     */
+    public long export(Long userId, LocalDate startDate, LocalDate endDate, Format format, boolean gzip,
+                       OutputStream out) throws IOException {
+        validateRange(startDate, endDate);
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, start_time, end_time, session_date, duration, is_active FROM timer_sessions WHERE user_id = ?");
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        if (startDate != null) {
+            sql.append(" AND start_time >= ?");
+            params.add(Timestamp.valueOf(startDate.atStartOfDay()));
+        }
+        if (endDate != null) {
+            sql.append(" AND start_time < ?");
+            params.add(Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()));
+        }
+        sql.append(" ORDER BY start_time, id");
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 8192);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] rows = new long[1];
+        long started = System.currentTimeMillis();
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, rs -> {
+                try {
+                    writeRow(writer, format, rs);
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등, 커서를 닫고 중단
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        log.debug("Exported {} timer sessions for user {} in {}ms", rows[0], userId, System.currentTimeMillis() - started);
+        return rows[0];
+    }
+
+    private void writeRow(Writer writer, Format format, ResultSet rs) throws SQLException, IOException {
+        long id = rs.getLong("id");
+        LocalDateTime startTime = rs.getObject("start_time", LocalDateTime.class);
+        LocalDateTime endTime = rs.getObject("end_time", LocalDateTime.class);
+        LocalDate sessionDate = rs.getObject("session_date", LocalDate.class);
+        long duration = rs.getLong("duration");
+        boolean durationNull = rs.wasNull();
+        boolean active = rs.getBoolean("is_active");
+
+        // 모든 값이 숫자/ISO 날짜/불리언이므로 따옴표 처리가 필요 없음
+        if (format == Format.CSV) {
+            writer.write(Long.toString(id));
+            writer.write(',');
+            writer.write(startTime.toString());
+            writer.write(',');
+            writer.write(endTime != null ? endTime.toString() : "");
+            writer.write(',');
+            writer.write(sessionDate.toString());
+            writer.write(',');
+            writer.write(durationNull ? "" : Long.toString(duration));
+            writer.write(',');
+            writer.write(Boolean.toString(active));
+        } else {
+            writer.write("{\"id\":");
+            writer.write(Long.toString(id));
+            writer.write(",\"startTime\":\"");
+            writer.write(startTime.toString());
+            writer.write(endTime != null ? "\",\"endTime\":\"" + endTime + "\"" : "\",\"endTime\":null");
+            writer.write(",\"sessionDate\":\"");
+            writer.write(sessionDate.toString());
+            writer.write("\",\"duration\":");
+            writer.write(durationNull ? "null" : Long.toString(duration));
+            writer.write(",\"active\":");
+            writer.write(Boolean.toString(active));
+            writer.write('}');
+        }
+        writer.write('\n');
+    }
+}
@@ -1,42 +1,99 @@
 package com.toy.checkoutcheckout.domain.timer.service;
 
 import com.toy.checkoutcheckout.domain.timer.dto.DailyStudyTimeResponse;
+import com.toy.checkoutcheckout.domain.timer.dto.RecentSessionsResponse;
+import com.toy.checkoutcheckout.domain.timer.dto.StudyTimeSeriesResponse;
 import com.toy.checkoutcheckout.domain.timer.dto.TimerSessionResponse;
 import com.toy.checkoutcheckout.domain.timer.dto.TimerStatusResponse;
 import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStartedEvent;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
 import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
 import com.toy.checkoutcheckout.domain.user.entity.User;
 import com.toy.checkoutcheckout.domain.user.repository.UserRepository;
+import com.toy.checkoutcheckout.global.error.BadRequestException;
 import com.toy.checkoutcheckout.global.error.BusinessException;
 import com.toy.checkoutcheckout.global.error.ErrorCode;
 import com.toy.checkoutcheckout.global.error.TimerBusinessException;
-import lombok.RequiredArgsConstructor;
+import com.toy.checkoutcheckout.global.lock.UserLocks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 타이머 시작/종료는 사용자별 잠금({@link UserLocks}) 안에서 트랜잭션을 열고 커밋한 뒤 잠금을 푼다.
+ * - 같은 사용자의 연속 요청(더블 클릭, 여러 기기)은 차례로 처리되고, 다른 사용자끼리는 기다리지 않음
+ * - 인스턴스 사이의 동시 시작은 active_user_id 유일 제약이, 자정 정리와의 동시 종료는 세션 행 잠금이 막음
+ */
 @Service
-@RequiredArgsConstructor
 public class TimerService {
 
+    private static final int MAX_RECENT_PAGE_SIZE = 100;
+    private static final int MAX_HISTORY_DAYS = 3660; // 약 10년
+
     private final TimerSessionRepository timerSessionRepository;
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final UserDailyTotalService userDailyTotalService;
+    private final StudyDailyTotalService studyDailyTotalService;
     private final UserRepository userRepository;
+    private final ActiveTimerRegistry activeTimerRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserLocks userLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final int recentPageSize;
+
+    public TimerService(TimerSessionRepository timerSessionRepository,
+                        UserDailyTotalRepository userDailyTotalRepository,
+                        UserDailyTotalService userDailyTotalService,
+                        StudyDailyTotalService studyDailyTotalService,
+                        UserRepository userRepository,
+                        ActiveTimerRegistry activeTimerRegistry,
+                        ApplicationEventPublisher eventPublisher,
+                        UserLocks userLocks,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${timer.recent.page-size:20}") int recentPageSize) {
+        this.timerSessionRepository = timerSessionRepository;
+        this.userDailyTotalRepository = userDailyTotalRepository;
+        this.userDailyTotalService = userDailyTotalService;
+        this.studyDailyTotalService = studyDailyTotalService;
+        this.userRepository = userRepository;
+        this.activeTimerRegistry = activeTimerRegistry;
+        this.eventPublisher = eventPublisher;
+        this.userLocks = userLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentPageSize = Math.max(1, Math.min(recentPageSize, MAX_RECENT_PAGE_SIZE));
+    }
 
-    @Transactional
     public TimerSessionResponse startTimer(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // 이미 활성화된 타이머가 있는지 확인
-        timerSessionRepository.findByUserAndIsActiveTrue(user).ifPresent(activeSession -> {
+        try {
+            return userLocks.withLock(user.getId(), () -> transactionTemplate.execute(status -> start(user)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스에서 먼저 시작됨 (active_user_id 유일 제약)
             throw TimerBusinessException.TIMER_ALREADY_ACTIVE;
-        });
+        }
+    }
+
+    private TimerSessionResponse start(User user) {
+        // 이미 활성화된 타이머가 있는지 확인 (활성 타이머 색인, 시작 중인 요청 포함)
+        if (!activeTimerRegistry.claimStart(user.getId())) {
+            throw TimerBusinessException.TIMER_ALREADY_ACTIVE;
+        }
 
         LocalDateTime now = LocalDateTime.now();
         
@@ -54,23 +111,25 @@ public class TimerService {
         System.out.println("Timer started - ID: " + savedSession.getId() + 
                           ", StartTime: " + savedSession.getStartTime() + 
                           ", IsActive: " + savedSession.isActive());
+        
+        eventPublisher.publishEvent(TimerStartedEvent.from(savedSession));
                           
         return TimerSessionResponse.from(savedSession);
     }
 
-    @Transactional
     public TimerSessionResponse stopTimer(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        TimerSession activeSession = timerSessionRepository.findByUserAndIsActiveTrue(user)
+        return userLocks.withLock(user.getId(), () -> transactionTemplate.execute(status -> stop(user)));
+    }
+
+    private TimerSessionResponse stop(User user) {
+        // 세션 행을 잠가 조회 (자정 정리가 먼저 종료했으면 활성 세션이 없음)
+        TimerSession activeSession = timerSessionRepository.findActiveByUserIdForUpdate(user.getId())
                 .orElseThrow(() -> TimerBusinessException.NO_ACTIVE_TIMER);
 
-        // 타이머 중지 처리
-        activeSession.stopTimer();
-        
-        // 저장 및 변경사항 확인
-        TimerSession savedSession = timerSessionRepository.save(activeSession);
+        TimerSession savedSession = closeSession(activeSession, LocalDateTime.now());
         
         // 로깅을 추가하여 디버깅 정보 확인 (실제 운영에서는 제거)
         System.out.println("Timer stopped - ID: " + savedSession.getId() + 
@@ -81,49 +140,106 @@ public class TimerService {
         return TimerSessionResponse.from(savedSession);
     }
 
-    @Transactional(readOnly = true)
-    public TimerStatusResponse getTimerStatus(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    /**
+     * 잠가 읽은 활성 세션을 endTime 에 종료 (호출자의 트랜잭션 안에서)
+     * 자정을 넘겼으면 날짜별 세션으로 분리하고, 같은 트랜잭션에서 날짜별로 사용자/스터디 일일 롤업을 갱신한다.
+     * 사용자 종료, 자정 정리, 타이머 저널 반영이 모두 이 규칙으로 세션을 닫는다.
+     * @return 종료된 원래 세션 (시작일 구간)
+     */
+    public TimerSession closeSession(TimerSession activeSession, LocalDateTime endTime) {
+        List<TimerSession> following = timerSessionRepository.saveAll(activeSession.stopAtSplittingDays(endTime));
+        TimerSession savedSession = timerSessionRepository.save(activeSession);
+
+        credit(savedSession);
+        for (TimerSession segment : following) {
+            credit(segment);
+        }
+        return savedSession;
+    }
 
-        TimerSession activeSession = timerSessionRepository.findByUserAndIsActiveTrue(user).orElse(null);
-        return TimerStatusResponse.from(activeSession);
+    // 랭킹 등 파생 데이터 갱신은 리스너가 커밋 이후 실행
+    private void credit(TimerSession session) {
+        userDailyTotalService.credit(session);
+        studyDailyTotalService.credit(session);
+        eventPublisher.publishEvent(TimerStoppedEvent.from(session));
+    }
+
+    /**
+     * 타이머 상태 (프론트엔드가 주기적으로 조회하므로 DB 대신 활성 타이머 색인에서 응답)
+     */
+    public TimerStatusResponse getTimerStatus(Long userId) {
+        return activeTimerRegistry.find(userId)
+                .map(timer -> TimerStatusResponse.active(timer.startTime(), timer.elapsedSeconds(LocalDateTime.now())))
+                .orElseGet(TimerStatusResponse::inactive);
     }
 
     @Transactional(readOnly = true)
     public DailyStudyTimeResponse getStudyTimeHistory(String email, LocalDate startDate, LocalDate endDate) {
+        return DailyStudyTimeResponse.from(getStudyTimeSeries(email, startDate, endDate));
+    }
+
+    /**
+     * 기간 [startDate, endDate] 의 일별 공부 시간을 날짜 순 배열로 (기록이 없는 날은 0)
+     * 롤업을 날짜 오름차순으로 읽어 해당 위치에 바로 채우므로 날짜별 객체를 만들지 않음
+     */
+    @Transactional(readOnly = true)
+    public StudyTimeSeriesResponse getStudyTimeSeries(String email, LocalDate startDate, LocalDate endDate) {
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days < 1 || days > MAX_HISTORY_DAYS) {
+            throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 1일 이상 " + MAX_HISTORY_DAYS + "일 이하여야 합니다.");
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        List<Object[]> results = timerSessionRepository.findDailyStudyTimeByUserAndDateRange(user, startDate, endDate);
-        
-        Map<LocalDate, Long> dailyStudyTimes = new HashMap<>();
-        
-        // 기간 내 모든 날짜에 대해 0초로 초기화
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            dailyStudyTimes.put(currentDate, 0L);
-            currentDate = currentDate.plusDays(1);
-        }
-        
-        // 실제 공부 기록이 있는 날짜만 업데이트
-        for (Object[] result : results) {
-            LocalDate date = (LocalDate) result[0];
-            Long duration = (Long) result[1];
-            dailyStudyTimes.put(date, duration);
+        long[] seconds = new long[(int) days];
+        long total = 0L;
+        for (Object[] row : userDailyTotalRepository.findDailyStudyTimeByUserAndDateRange(user, startDate, endDate)) {
+            int index = (int) ChronoUnit.DAYS.between(startDate, (LocalDate) row[0]);
+            long duration = (Long) row[1];
+            seconds[index] = duration;
+            total += duration;
         }
 
-        return DailyStudyTimeResponse.from(dailyStudyTimes);
+        return StudyTimeSeriesResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .stepDays(1)
+                .seconds(seconds)
+                .totalSeconds(total)
+                .build();
     }
 
+    /**
+     * 최근 세션 한 페이지 (시작 시각 내림차순, 커서가 없으면 첫 페이지)
+     * limit 이 없으면 timer.recent.page-size 만큼 조회
+     */
     @Transactional(readOnly = true)
-    public List<TimerSessionResponse> getRecentSessions(String email) {
+    public RecentSessionsResponse getRecentSessions(String email, String cursor, Integer limit) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        List<TimerSession> sessions = timerSessionRepository.findByUserOrderByStartTimeDesc(user);
-        return sessions.stream()
-                .map(TimerSessionResponse::from)
-                .collect(Collectors.toList());
+        SessionCursor after = SessionCursor.decode(cursor);
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_RECENT_PAGE_SIZE)) : recentPageSize;
+        // 한 건 더 읽어 다음 페이지가 있는지 확인
+        Pageable page = PageRequest.of(0, pageSize + 1);
+        List<TimerSession> sessions = after == null
+                ? timerSessionRepository.findRecentByUserId(user.getId(), page)
+                : timerSessionRepository.findRecentByUserIdBefore(user.getId(), after.startTime(), after.id(), page);
+
+        String nextCursor = null;
+        if (sessions.size() > pageSize) {
+            sessions = sessions.subList(0, pageSize);
+            TimerSession last = sessions.get(pageSize - 1);
+            nextCursor = new SessionCursor(last.getStartTime(), last.getId()).encode();
+        }
+
+        return RecentSessionsResponse.builder()
+                .sessions(sessions.stream()
+                        .map(TimerSessionResponse::from)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
     }
 }
@@ -0,0 +1,52 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 공부시간 롤업 갱신
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDailyTotalService {
+
+    private final UserDailyTotalRepository userDailyTotalRepository;
+    private final RollupFenceService rollupFenceService;
+
+    /**
+     * 종료된 세션의 공부시간을 세션 날짜의 롤업과 그 이후 날짜의 누적값에 더한다.
+     * 그 날짜의 첫 기록이 동시에 반영되어도 한 행으로 합쳐진다 (INSERT ... ON DUPLICATE KEY UPDATE).
+     * 타이머 종료와 같은 트랜잭션에서 호출되어야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(TimerSession session) {
+        long duration = session.getDuration() != null ? session.getDuration() : 0L;
+        Long userId = session.getUser().getId();
+        LocalDate date = session.getSessionDate();
+
+        // 같은 월을 백필 중이면 적재가 끝난 뒤 반영
+        rollupFenceService.enterCredit(date);
+        userDailyTotalRepository.upsertDuration(userId, date, duration, cumulativeBefore(userId, date) + duration);
+
+        // 보통 가장 최근 날짜이므로 갱신되는 행이 없음 (자정을 넘긴 세션 등에서만 해당)
+        if (duration > 0) {
+            userDailyTotalRepository.addToCumulativeAfter(userId, date, duration);
+        }
+    }
+
+    // 직전 기록의 누적값 (그 행을 잠가 같은 날짜에 늦게 반영되는 기록과 순서를 맞춤)
+    private long cumulativeBefore(Long userId, LocalDate date) {
+        LocalDate previous = userDailyTotalRepository.findLatestDateBefore(userId, date);
+        if (previous == null) {
+            return 0L;
+        }
+        Long cumulative = userDailyTotalRepository.findCumulativeForUpdate(userId, previous);
+        return cumulative != null ? cumulative : 0L;
+    }
+}
@@ -1,5 +1,6 @@
 package com.toy.checkoutcheckout.domain.user.repository;
 
+import com.toy.checkoutcheckout.domain.rank.dto.UserRankProfile;
 import com.toy.checkoutcheckout.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +19,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
     
+    // 랭킹 표시용 사용자 정보 (엔티티 대신 필요한 컬럼만 조회)
+    @Query("SELECT new com.toy.checkoutcheckout.domain.rank.dto.UserRankProfile(u.id, u.nickname, u.characterType) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserRankProfile> findRankProfilesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 스터디 회원들의 랭킹 표시용 정보
+    @Query("SELECT new com.toy.checkoutcheckout.domain.rank.dto.UserRankProfile(u.id, u.nickname, u.characterType) " +
+           "FROM StudyMember sm JOIN User u ON sm.user.id = u.id WHERE sm.study.id = :studyId")
+    List<UserRankProfile> findRankProfilesByStudyId(@Param("studyId") Long studyId);
+    
     @Modifying
     @Transactional
     @Query("UPDATE User u SET u.characterType = :characterType WHERE u.id = :userId")
@@ -26,6 +26,7 @@ public enum ErrorCode {
     // 타이머 관련 오류
     TIMER_ALREADY_STARTED(HttpStatus.BAD_REQUEST, "T001", "이미 타이머가 시작되었습니다."),
     TIMER_NOT_STARTED(HttpStatus.BAD_REQUEST, "T002", "시작된 타이머가 없습니다."),
+    TIMER_START_PENDING(HttpStatus.CONFLICT, "T003", "타이머 시작을 저장하는 중입니다. 잠시 후 다시 시도해 주세요."),
     
     // 스터디 관련 오류
     STUDY_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "스터디를 찾을 수 없습니다."),
@@ -9,6 +9,10 @@ public class TimerBusinessException extends BusinessException {
     public static final TimerBusinessException NO_ACTIVE_TIMER = new TimerBusinessException(
             ErrorCode.TIMER_NOT_STARTED
     );
+    
+    public static final TimerBusinessException START_PENDING = new TimerBusinessException(
+            ErrorCode.TIMER_START_PENDING
+    );
 
     public TimerBusinessException(String message, String code) {
         super(message, code);
@@ -0,0 +1,33 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 인스턴스 중 리스를 획득한 한 곳에서만 메서드를 실행 (다른 인스턴스에서는 실행하지 않고 반환)
+ * 반환값이 없는 @Scheduled 작업에 사용한다. 실행 중인 리스는 {@link LeaseContext#current()} 로 확인할 수 있다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterSingleton {
+
+    /**
+     * 리스 이름 (작업별로 고유)
+     */
+    String value();
+
+    /**
+     * 리스 유지 시간 (ISO-8601), 실행 중에는 1/3 주기로 연장
+     */
+    String leaseFor() default "PT10M";
+
+    /**
+     * 작업이 빨리 끝나도 획득 시각부터 이 시간 동안은 다른 인스턴스가 실행하지 않음
+     * 인스턴스마다 조금씩 늦게 울리는 cron 이 같은 회차를 다시 실행하지 않도록 할 때 사용
+     */
+    String holdAtLeast() default "PT0S";
+}
@@ -0,0 +1,94 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link ClusterSingleton} 메서드를 리스를 획득한 경우에만 실행
+ * 실행 중에는 리스를 주기적으로 연장하고, 끝나면 holdAtLeast 를 지킨 채 반납한다.
+ */
+@Slf4j
+public class ClusterSingletonInterceptor implements MethodInterceptor {
+
+    private final Supplier<LeaseManager> leaseManager;
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClusterSingletonInterceptor(Supplier<LeaseManager> leaseManager) {
+        this.leaseManager = leaseManager;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        ClusterSingleton singleton = AnnotatedElementUtils.findMergedAnnotation(method, ClusterSingleton.class);
+        if (singleton == null) {
+            return invocation.proceed();
+        }
+
+        // 같은 리스로 이미 실행 중인 작업 안에서 호출된 경우
+        Optional<Lease> current = LeaseContext.current();
+        if (current.isPresent() && current.get().name().equals(singleton.value())) {
+            return invocation.proceed();
+        }
+
+        LeaseManager manager = leaseManager.get();
+        Duration ttl = Duration.parse(singleton.leaseFor());
+        Optional<Lease> acquired;
+        try {
+            acquired = manager.tryAcquire(singleton.value(), ttl);
+        } catch (RuntimeException e) {
+            log.warn("Could not acquire lease {}, skipping {}: {}", singleton.value(), method.getName(), e.getMessage());
+            return null;
+        }
+        if (acquired.isEmpty()) {
+            log.debug("Lease {} is held by another instance, skipping {}", singleton.value(), method.getName());
+            return null;
+        }
+
+        Lease lease = acquired.get();
+        long renewMillis = Math.max(1L, ttl.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(manager, lease, ttl),
+                renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        Lease previous = LeaseContext.bind(lease);
+        try {
+            log.debug("Running {} with lease {} (token {})", method.getName(), lease.name(), lease.token());
+            return invocation.proceed();
+        } finally {
+            LeaseContext.restore(previous);
+            renewal.cancel(false);
+            try {
+                manager.release(lease, lease.acquiredAt().plus(Duration.parse(singleton.holdAtLeast())));
+            } catch (RuntimeException e) {
+                // 반납하지 못해도 리스 시간이 지나면 만료됨
+                log.warn("Could not release lease {}: {}", lease.name(), e.getMessage());
+            }
+        }
+    }
+
+    private void renew(LeaseManager manager, Lease lease, Duration ttl) {
+        try {
+            if (!manager.renew(lease, ttl)) {
+                log.warn("Lease {} (token {}) was taken over by another instance", lease.name(), lease.token());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not renew lease {}: {}", lease.name(), e.getMessage());
+        }
+    }
+}
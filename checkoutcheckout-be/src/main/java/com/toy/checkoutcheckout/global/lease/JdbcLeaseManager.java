@@ -0,0 +1,102 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * scheduler_leases 행 기반 리스
+ * - 획득은 만료 조건을 건 UPDATE 한 번(행이 없으면 INSERT)이므로 동시에 시도해도 한 인스턴스만 성공
+ * - 펜싱 확인은 호출한 트랜잭션에서 리스 행을 공유 잠금으로 읽어, 그 트랜잭션이 끝날 때까지 넘어가지 않게 함
+ * 만료 판단은 각 인스턴스의 시계를 사용하므로 인스턴스 간 시계 차이는 리스 시간보다 충분히 작아야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.lease.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcLeaseManager implements LeaseManager {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate writeTransaction;
+    private final String holder;
+
+    public JdbcLeaseManager(SchedulerLeaseRepository schedulerLeaseRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${scheduler.lease.holder:}") String holder) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        // 작업 트랜잭션 안에서 호출되어도 리스 변경은 바로 커밋
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.holder = LeaseHolders.resolve(holder);
+    }
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Long token = writeTransaction.execute(status -> {
+                if (schedulerLeaseRepository.acquire(name, holder, now, now.plus(ttl)) == 0) {
+                    if (schedulerLeaseRepository.existsById(name)) {
+                        return null;
+                    }
+                    schedulerLeaseRepository.insert(name, holder, now.plus(ttl));
+                }
+                return schedulerLeaseRepository.findById(name).map(SchedulerLease::getToken).orElse(null);
+            });
+            return Optional.ofNullable(token).map(t -> new Lease(name, holder, t, now));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 처음 행을 만든 경우
+            log.debug("Lease {} was created concurrently by another instance", name);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean renew(Lease lease, Duration ttl) {
+        return updateExpiry(lease, LocalDateTime.now().plus(ttl));
+    }
+
+    @Override
+    public void release(Lease lease, LocalDateTime keepUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        updateExpiry(lease, keepUntil.isAfter(now) ? keepUntil : now);
+    }
+
+    @Override
+    public void assertHeld(Lease lease) {
+        boolean held = TransactionSynchronizationManager.isActualTransactionActive()
+                ? isHeld(lease)
+                : Boolean.TRUE.equals(writeTransaction.execute(status -> isHeld(lease)));
+        if (!held) {
+            throw new LeaseLostException(lease);
+        }
+    }
+
+    @Override
+    public String holder() {
+        return holder;
+    }
+
+    private boolean isHeld(Lease lease) {
+        return schedulerLeaseRepository.findForShare(lease.name())
+                .filter(row -> row.getHolder().equals(lease.holder()))
+                .filter(row -> row.getToken() == lease.token())
+                .filter(row -> row.getExpiresAt().isAfter(LocalDateTime.now()))
+                .isPresent();
+    }
+
+    private boolean updateExpiry(Lease lease, LocalDateTime expiresAt) {
+        Integer updated = writeTransaction.execute(status -> schedulerLeaseRepository.updateExpiry(
+                lease.name(), lease.holder(), lease.token(), expiresAt));
+        return updated != null && updated > 0;
+    }
+}
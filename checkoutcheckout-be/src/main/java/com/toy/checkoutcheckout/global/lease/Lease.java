@@ -0,0 +1,11 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import java.time.LocalDateTime;
+
+/**
+ * 획득한 리스
+ * token 은 같은 이름의 리스가 새로 획득될 때마다 증가하는 펜싱 토큰으로,
+ * 만료 후 다른 인스턴스가 리스를 가져가면 이전 보유자의 토큰은 더 이상 유효하지 않다.
+ */
+public record Lease(String name, String holder, long token, LocalDateTime acquiredAt) {
+}
@@ -0,0 +1,32 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import java.util.Optional;
+
+/**
+ * 현재 스레드에서 실행 중인 {@link ClusterSingleton} 작업의 리스
+ */
+public final class LeaseContext {
+
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private LeaseContext() {
+    }
+
+    public static Optional<Lease> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static Lease bind(Lease lease) {
+        Lease previous = CURRENT.get();
+        CURRENT.set(lease);
+        return previous;
+    }
+
+    static void restore(Lease previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
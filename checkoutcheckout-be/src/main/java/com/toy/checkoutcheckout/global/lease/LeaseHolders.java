@@ -0,0 +1,20 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+final class LeaseHolders {
+
+    private LeaseHolders() {
+    }
+
+    /**
+     * 설정이 없으면 "pid@호스트:임의값" 으로 인스턴스를 구분 (재시작하면 다른 보유자)
+     */
+    static String resolve(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        return ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,11 @@
+package com.toy.checkoutcheckout.global.lease;
+
+/**
+ * 작업 도중 리스가 만료되어 다른 인스턴스에 넘어간 경우 (펜싱 토큰 불일치)
+ */
+public class LeaseLostException extends IllegalStateException {
+
+    public LeaseLostException(Lease lease) {
+        super("Lease " + lease.name() + " (token " + lease.token() + ") is no longer held by " + lease.holder());
+    }
+}
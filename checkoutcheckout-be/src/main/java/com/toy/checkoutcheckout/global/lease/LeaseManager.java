@@ -0,0 +1,35 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스 중 하나만 작업을 실행하도록 하는 이름별 리스
+ * 구현은 scheduler.lease.store 로 선택 (jdbc 기본, redis)
+ */
+public interface LeaseManager {
+
+    /**
+     * 리스가 비어 있거나 만료되었으면(또는 이미 이 인스턴스가 보유 중이면) 새 토큰으로 획득
+     */
+    Optional<Lease> tryAcquire(String name, Duration ttl);
+
+    /**
+     * 보유 중인 리스의 만료 시각을 연장, 이미 넘어갔으면 false
+     */
+    boolean renew(Lease lease, Duration ttl);
+
+    /**
+     * 리스 반납, keepUntil 이 미래이면 그때까지는 다른 인스턴스가 획득하지 못함
+     */
+    void release(Lease lease, LocalDateTime keepUntil);
+
+    /**
+     * 리스를 아직 보유 중인지 확인하고, 아니면 LeaseLostException
+     * DB 구현은 현재 트랜잭션에서 리스 행을 잠그므로 커밋 전까지 다른 인스턴스가 가져갈 수 없다.
+     */
+    void assertHeld(Lease lease);
+
+    String holder();
+}
@@ -0,0 +1,94 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 키 기반 리스 (값 = "보유자|토큰", 만료는 키 TTL)
+ * 토큰은 별도 카운터 키(INCR)로 발급해 키가 만료된 뒤에도 계속 증가한다.
+ * 펜싱 확인은 조회 시점 기준이므로 DB 쓰기와 원자적이지 않다. (DB 트랜잭션과 묶으려면 jdbc 구현 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.lease.store", havingValue = "redis")
+public class RedisLeaseManager implements LeaseManager {
+
+    private static final String KEY_PREFIX = "lease:";
+    private static final String TOKEN_SUFFIX = ":token";
+
+    // 비어 있거나 같은 보유자이면 새 토큰으로 획득, 아니면 -1
+    private static final DefaultRedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) "
+                    + "if v and string.sub(v, 1, string.len(ARGV[1]) + 1) ~= ARGV[1] .. '|' then return -1 end "
+                    + "local t = redis.call('INCR', KEYS[2]) "
+                    + "redis.call('SET', KEYS[1], ARGV[1] .. '|' .. t, 'PX', ARGV[2]) "
+                    + "return t",
+            Long.class);
+
+    // 값이 같을 때만 만료 시각 변경 (0 이하이면 삭제)
+    private static final DefaultRedisScript<Long> UPDATE_EXPIRY = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String holder;
+
+    public RedisLeaseManager(StringRedisTemplate redisTemplate,
+                             @Value("${scheduler.lease.holder:}") String holder) {
+        this.redisTemplate = redisTemplate;
+        this.holder = LeaseHolders.resolve(holder);
+    }
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Long token = redisTemplate.execute(ACQUIRE, List.of(key(name), key(name) + TOKEN_SUFFIX),
+                holder, String.valueOf(ttl.toMillis()));
+        return token != null && token > 0 ? Optional.of(new Lease(name, holder, token, now)) : Optional.empty();
+    }
+
+    @Override
+    public boolean renew(Lease lease, Duration ttl) {
+        return updateExpiry(lease, ttl.toMillis());
+    }
+
+    @Override
+    public void release(Lease lease, LocalDateTime keepUntil) {
+        updateExpiry(lease, Duration.between(LocalDateTime.now(), keepUntil).toMillis());
+    }
+
+    @Override
+    public void assertHeld(Lease lease) {
+        if (!value(lease).equals(redisTemplate.opsForValue().get(key(lease.name())))) {
+            throw new LeaseLostException(lease);
+        }
+    }
+
+    @Override
+    public String holder() {
+        return holder;
+    }
+
+    private boolean updateExpiry(Lease lease, long ttlMillis) {
+        Long updated = redisTemplate.execute(UPDATE_EXPIRY, List.of(key(lease.name())),
+                value(lease), String.valueOf(ttlMillis));
+        return updated != null && updated > 0;
+    }
+
+    private static String key(String name) {
+        return KEY_PREFIX + name;
+    }
+
+    private static String value(Lease lease) {
+        return lease.holder() + "|" + lease.token();
+    }
+}
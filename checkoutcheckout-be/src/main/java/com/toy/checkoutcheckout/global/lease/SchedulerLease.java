@@ -0,0 +1,35 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이름별 리스 행 (JdbcLeaseManager)
+ * 획득은 조건부 UPDATE 한 번으로 이루어지고, 획득할 때마다 token 이 1씩 증가한다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 200)
+    private String holder;
+
+    @Column(nullable = false)
+    private Long token;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,46 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 만료되었거나 같은 보유자이면 새 토큰으로 획득
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.holder = :holder, l.token = l.token + 1, l.expiresAt = :expiresAt " +
+           "WHERE l.name = :name AND (l.expiresAt <= :now OR l.holder = :holder)")
+    int acquire(@Param("name") String name,
+                @Param("holder") String holder,
+                @Param("now") LocalDateTime now,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 처음 획득 (동시에 만들면 기본 키 충돌로 한쪽만 성공)
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, holder, token, expires_at) " +
+                   "VALUES (:name, :holder, 1, :expiresAt)", nativeQuery = true)
+    int insert(@Param("name") String name,
+               @Param("holder") String holder,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 같은 보유자, 같은 토큰일 때만 만료 시각 변경 (연장/반납)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :expiresAt " +
+           "WHERE l.name = :name AND l.holder = :holder AND l.token = :token")
+    int updateExpiry(@Param("name") String name,
+                     @Param("holder") String holder,
+                     @Param("token") long token,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM SchedulerLease l WHERE l.name = :name")
+    Optional<SchedulerLease> findForShare(@Param("name") String name);
+}
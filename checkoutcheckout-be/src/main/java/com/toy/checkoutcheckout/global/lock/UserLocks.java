@@ -0,0 +1,86 @@
+package com.toy.checkoutcheckout.global.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 작업을 한 번에 하나씩 실행하기 위한 메모리 잠금 (인스턴스 내부)
+ * - 고정 크기 스트라이프 테이블에 사용자별 잠금을 빌려 쓰고, 사용 중인 사용자가 없으면 반납해 크기가 늘지 않음
+ * - 스트라이프는 잠금을 찾고 반납하는 동안만 잡으므로, 같은 스트라이프에 걸린 다른 사용자끼리도 작업 중에는 서로 기다리지 않음
+ * - 인스턴스 사이의 보장은 DB 제약(사용자당 활성 세션 하나)이 담당
+ */
+@Component
+public class UserLocks {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public UserLocks(@Value("${timer.lock.stripes:256}") int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1; // 2의 거듭제곱으로 올림
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * userId 의 잠금을 잡은 채 task 를 실행 (트랜잭션은 task 안에서 시작해 잠금을 풀기 전에 커밋되도록 할 것)
+     */
+    public <T> T withLock(Long userId, Supplier<T> task) {
+        Stripe stripe = stripes[index(userId)];
+        Entry entry = stripe.borrow(userId);
+        entry.lock.lock();
+        try {
+            return task.get();
+        } finally {
+            entry.lock.unlock();
+            stripe.giveBack(userId, entry);
+        }
+    }
+
+    // 연속된 ID 가 인접 스트라이프에 몰리지 않도록 섞음
+    private int index(Long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // 현재 사용 중인 사용자별 잠금 수 (테스트용)
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private static final class Stripe {
+
+        private final Map<Long, Entry> entries = new HashMap<>();
+
+        synchronized Entry borrow(Long userId) {
+            Entry entry = entries.computeIfAbsent(userId, id -> new Entry());
+            entry.users++;
+            return entry;
+        }
+
+        synchronized void giveBack(Long userId, Entry entry) {
+            if (--entry.users == 0) {
+                entries.remove(userId);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users; // 잠금을 잡았거나 기다리는 요청 수 (스트라이프 잠금 안에서만 변경)
+    }
+}
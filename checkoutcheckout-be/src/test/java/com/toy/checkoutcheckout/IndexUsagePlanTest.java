@@ -0,0 +1,106 @@
+package com.toy.checkoutcheckout;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 조회 경로가 선언된 인덱스를 사용하는지 H2 실행 계획으로 확인
+ * 인덱스 선언이 빠지거나 조건이 sargable 하지 않게 바뀌면 tableScan 이 나타나 실패한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IndexUsagePlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void activeSessionLookupUsesUserActiveIndex() {
+        String plan = explain("SELECT * FROM timer_sessions WHERE user_id = 1 AND is_active = TRUE");
+
+        assertThat(plan).containsIgnoringCase("IDX_TIMER_SESSIONS_USER_ACTIVE");
+        assertThat(plan).doesNotContain("TIMER_SESSIONS.tableScan");
+    }
+
+    @Test
+    void recentSessionsUseUserStartIndex() {
+        String plan = explain("SELECT * FROM timer_sessions WHERE user_id = 1 ORDER BY start_time DESC");
+
+        assertThat(plan).doesNotContain("TIMER_SESSIONS.tableScan");
+    }
+
+    @Test
+    void studyTimeHistoryUsesRollupIndex() {
+        String plan = explain("SELECT session_date, total_duration FROM user_daily_totals " +
+                "WHERE user_id = 1 AND session_date BETWEEN DATE '2025-01-01' AND DATE '2025-01-31' " +
+                "ORDER BY session_date");
+
+        assertThat(plan).doesNotContain("USER_DAILY_TOTALS.tableScan");
+    }
+
+    @Test
+    void monthlyMemberRankingUsesHalfOpenRangeOnRollup() {
+        String plan = explain("SELECT u.id, u.nickname, COALESCE(SUM(d.total_duration), 0) AS total " +
+                "FROM study_members sm " +
+                "JOIN users u ON sm.user_id = u.id " +
+                "LEFT JOIN user_daily_totals d ON u.id = d.user_id " +
+                "AND d.session_date >= DATE '2025-01-01' AND d.session_date < DATE '2025-02-01' " +
+                "WHERE sm.study_id = 1 " +
+                "GROUP BY u.id, u.nickname");
+
+        assertThat(plan).doesNotContain("STUDY_MEMBERS.tableScan");
+        assertThat(plan).doesNotContain("USER_DAILY_TOTALS.tableScan");
+        assertThat(plan).doesNotContain("USERS.tableScan");
+    }
+
+    @Test
+    void monthlyStudyRankingUsesRollupIndexPerMember() {
+        String plan = explain("SELECT s.id, s.name, COALESCE(SUM(d.total_duration), 0) AS total " +
+                "FROM studies s " +
+                "LEFT JOIN study_members sm ON s.id = sm.study_id " +
+                "LEFT JOIN user_daily_totals d ON sm.user_id = d.user_id " +
+                "AND d.session_date >= DATE '2025-01-01' AND d.session_date < DATE '2025-02-01' " +
+                "GROUP BY s.id, s.name");
+
+        assertThat(plan).doesNotContain("STUDY_MEMBERS.tableScan");
+        assertThat(plan).doesNotContain("USER_DAILY_TOTALS.tableScan");
+    }
+
+    @Test
+    void prefixLookupSeeksUserDateIndex() {
+        String plan = explain("SELECT cumulative_duration FROM user_daily_totals WHERE user_id = 1 AND session_date = " +
+                "(SELECT MAX(p.session_date) FROM user_daily_totals p WHERE p.user_id = 1 AND p.session_date <= DATE '2025-01-31')");
+
+        assertThat(plan).doesNotContain("USER_DAILY_TOTALS.tableScan");
+    }
+
+    @Test
+    void studyMembershipCheckUsesIndex() {
+        String plan = explain("SELECT 1 FROM study_members WHERE study_id = 1 AND user_id = 2");
+
+        assertThat(plan).doesNotContain("STUDY_MEMBERS.tableScan");
+    }
+
+    @Test
+    void studyMembershipByUserUsesIndex() {
+        String plan = explain("SELECT * FROM study_members WHERE user_id = 2");
+
+        assertThat(plan).doesNotContain("STUDY_MEMBERS.tableScan");
+    }
+
+    @Test
+    void dailyCharacterLookupUsesUserAcquiredDateIndex() {
+        String plan = explain("SELECT * FROM characters WHERE user_id = 1 AND acquired_date = DATE '2025-01-01'");
+
+        assertThat(plan).containsIgnoringCase("IDX_CHARACTERS_USER_ACQUIRED_DATE");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,139 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.study.service.StudyService;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.service.TimerService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RankingCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private RankingCache rankingCache;
+
+    @Autowired
+    private RankingVersions rankingVersions;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Test
+    void loadRacingWithBumpIsNotServedUnderNewVersion() {
+        RankingCacheKey key = RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_DAILY, 9_001L, DATE, DATE);
+        AtomicInteger loads = new AtomicInteger();
+
+        // 조회 도중 변경이 커밋되어 버전이 오른 경우
+        String first = rankingCache.get(key, () -> {
+            rankingVersions.bump(RankingSnapshot.Scope.MEMBER_DAILY, 9_001L);
+            return "stale-" + loads.incrementAndGet();
+        });
+        String second = rankingCache.get(key, () -> "fresh-" + loads.incrementAndGet());
+        String third = rankingCache.get(key, () -> "again-" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("stale-1");
+        assertThat(second).isEqualTo("fresh-2");
+        assertThat(third).isEqualTo("fresh-2");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        RankingCacheKey key = RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_DAILY, 9_002L, DATE, DATE);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> rankingCache.get(key, () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "loaded";
+                })));
+            }
+            // 첫 조회가 진행 중인 동안 나머지 호출이 모두 같은 키에서 기다리도록 잠시 둠
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void timerStopInvalidatesMemberRankingOfUsersStudies() {
+        User user = fixtures.user();
+        Long studyId = fixtures.study(user).getId();
+        RankingCacheKey key = RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_DAILY, studyId, DATE, DATE);
+        rankingCache.get(key, () -> "before");
+
+        timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(LocalDateTime.now().minusMinutes(5))
+                .build());
+        timerService.stopTimer(user.getEmail());
+
+        assertThat(rankingCache.<String>get(key, () -> "after")).isEqualTo("after");
+    }
+
+    @Test
+    void membershipChangeInvalidatesMemberRankingOfStudy() {
+        Long studyId = fixtures.study(fixtures.user()).getId();
+        Long otherStudyId = fixtures.study(fixtures.user()).getId();
+        RankingCacheKey key = RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_WEEKLY, studyId, DATE, DATE);
+        RankingCacheKey otherKey = RankingCacheKey.of(RankingSnapshot.Scope.MEMBER_WEEKLY, otherStudyId, DATE, DATE);
+        rankingCache.get(key, () -> "before");
+        rankingCache.get(otherKey, () -> "before");
+
+        studyService.joinStudy(fixtures.user().getId(), studyId, null);
+
+        // 멤버가 바뀐 스터디만 다시 조회
+        assertThat(rankingCache.<String>get(key, () -> "after")).isEqualTo("after");
+        assertThat(rankingCache.<String>get(otherKey, () -> "after")).isEqualTo("before");
+    }
+}
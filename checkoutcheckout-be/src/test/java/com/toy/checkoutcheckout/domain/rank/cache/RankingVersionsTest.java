@@ -0,0 +1,81 @@
+package com.toy.checkoutcheckout.domain.rank.cache;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.study.service.StudyService;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.service.TimerService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RankingVersionsTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private RankingVersions rankingVersions;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Test
+    void stopTimerBumpsOnlyAffectedScopes() {
+        User user = fixtures.user();
+        Long myStudy = fixtures.study(user).getId();
+        Long otherStudy = fixtures.study(fixtures.user()).getId();
+
+        long memberBefore = rankingVersions.current(RankingSnapshot.Scope.MEMBER_DAILY, myStudy);
+        long otherBefore = rankingVersions.current(RankingSnapshot.Scope.MEMBER_DAILY, otherStudy);
+        long studyBefore = rankingVersions.current(RankingSnapshot.Scope.STUDY_DAILY, 0L);
+        long userDailyBefore = rankingVersions.currentUserDaily();
+
+        timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(LocalDateTime.now().minusMinutes(5))
+                .build());
+        timerService.stopTimer(user.getEmail());
+
+        assertThat(rankingVersions.current(RankingSnapshot.Scope.MEMBER_DAILY, myStudy)).isGreaterThan(memberBefore);
+        assertThat(rankingVersions.current(RankingSnapshot.Scope.MEMBER_DAILY, otherStudy)).isEqualTo(otherBefore);
+        assertThat(rankingVersions.current(RankingSnapshot.Scope.STUDY_DAILY, 0L)).isGreaterThan(studyBefore);
+        assertThat(rankingVersions.currentUserDaily()).isGreaterThan(userDailyBefore);
+    }
+
+    @Test
+    void membershipChangeBumpsStudyMemberScopes() {
+        User owner = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+        long before = rankingVersions.current(RankingSnapshot.Scope.MEMBER_WEEKLY, studyId);
+
+        studyService.joinStudy(fixtures.user().getId(), studyId, null);
+
+        assertThat(rankingVersions.current(RankingSnapshot.Scope.MEMBER_WEEKLY, studyId)).isGreaterThan(before);
+    }
+
+    @Test
+    void etagIsStableUntilVersionChanges() {
+        Object[] period = {"2025-01-01"};
+        String first = rankingVersions.etag(3, "scope", period);
+
+        assertThat(rankingVersions.etag(3, "scope", period)).isEqualTo(first);
+        assertThat(rankingVersions.etag(4, "scope", period)).isNotEqualTo(first);
+        assertThat(first).startsWith("\"").endsWith("\"");
+    }
+}
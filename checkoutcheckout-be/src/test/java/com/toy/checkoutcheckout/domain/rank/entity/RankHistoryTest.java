@@ -0,0 +1,50 @@
+package com.toy.checkoutcheckout.domain.rank.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankHistoryTest {
+
+    @Test
+    void recordsRankAndParticipantsPerDay() {
+        RankHistory history = RankHistory.empty(1L, RankHistory.GLOBAL_SCOPE_ID, 2024);
+
+        history.record(LocalDate.of(2024, 1, 1), 3, 120);
+        history.record(LocalDate.of(2024, 12, 31), 40_000, 50_000); // 윤년 366일째
+
+        assertThat(history.rankOn(LocalDate.of(2024, 1, 1))).isEqualTo(3);
+        assertThat(history.participantsOn(LocalDate.of(2024, 1, 1))).isEqualTo(120);
+        assertThat(history.rankOn(LocalDate.of(2024, 12, 31))).isEqualTo(40_000);
+        assertThat(history.participantsOn(LocalDate.of(2024, 12, 31))).isEqualTo(50_000);
+        assertThat(history.rankOn(LocalDate.of(2024, 6, 1))).isZero();
+    }
+
+    @Test
+    void clampsValuesAboveUnsignedShort() {
+        RankHistory history = RankHistory.empty(1L, 5L, 2025);
+        LocalDate date = LocalDate.of(2025, 3, 1);
+
+        history.record(date, 70_000, 1_000_000);
+
+        assertThat(history.rankOn(date)).isEqualTo(65_535);
+        assertThat(history.participantsOn(date)).isEqualTo(65_535);
+    }
+
+    @Test
+    void payloadIsFixedWidth() {
+        // 366일 x (순위 2바이트 + 참가자 수 2바이트)
+        assertThat(RankHistory.empty(1L, 0L, 2025).getPayload()).hasSize(1464);
+    }
+
+    @Test
+    void rejectsDateOutsideYear() {
+        RankHistory history = RankHistory.empty(1L, 0L, 2025);
+
+        assertThatThrownBy(() -> history.record(LocalDate.of(2026, 1, 1), 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
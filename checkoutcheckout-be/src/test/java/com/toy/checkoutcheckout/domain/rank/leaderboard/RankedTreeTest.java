@@ -0,0 +1,50 @@
+package com.toy.checkoutcheckout.domain.rank.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedTreeTest {
+
+    @Test
+    void rankAndRangeMatchSortedOrder() {
+        RankedTree tree = new RankedTree();
+        Map<Long, Double> scores = new HashMap<>();
+        Random random = new Random(42);
+
+        // 무작위 점수 갱신 (삭제 후 재삽입) 을 반복
+        for (int i = 0; i < 5_000; i++) {
+            long memberId = random.nextInt(500);
+            double score = random.nextInt(100);
+            Double previous = scores.put(memberId, score);
+            if (previous != null) {
+                tree.delete(memberId, previous);
+            }
+            tree.insert(memberId, score);
+        }
+
+        List<Map.Entry<Long, Double>> expected = new ArrayList<>(scores.entrySet());
+        expected.sort(Comparator.<Map.Entry<Long, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        for (int rank = 0; rank < expected.size(); rank++) {
+            Map.Entry<Long, Double> entry = expected.get(rank);
+            assertThat(tree.rankOf(entry.getKey(), entry.getValue())).isEqualTo(rank);
+        }
+
+        List<LeaderboardEntry> page = tree.range(100, 20);
+        assertThat(page).hasSize(20);
+        for (int i = 0; i < page.size(); i++) {
+            assertThat(page.get(i).getMemberId()).isEqualTo(expected.get(100 + i).getKey());
+        }
+        assertThat(tree.range(expected.size() - 3, Integer.MAX_VALUE)).hasSize(3);
+    }
+}
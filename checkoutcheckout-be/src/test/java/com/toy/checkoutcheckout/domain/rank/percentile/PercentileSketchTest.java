@@ -0,0 +1,54 @@
+package com.toy.checkoutcheckout.domain.rank.percentile;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PercentileSketchTest {
+
+    @Test
+    void countAboveIsExactUpToRelativeError() {
+        Random random = new Random(42);
+        long[] values = new long[10_000];
+        PercentileSketch sketch = new PercentileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + random.nextInt(12 * 60 * 60);
+            sketch.add(values[i], 1);
+        }
+
+        for (long probe : new long[]{60, 1800, 3600, 7200, 36000}) {
+            double gamma = (1 + PercentileSketch.RELATIVE_ACCURACY) / (1 - PercentileSketch.RELATIVE_ACCURACY);
+            long exactAboveUpper = Arrays.stream(values).filter(v -> v > probe * gamma).count();
+            long exactAboveLower = Arrays.stream(values).filter(v -> v > probe / gamma).count();
+
+            // 스케치가 센 "더 큰 값" 은 probe 의 상대 오차 범위 밖의 값들 사이에 있어야 함
+            assertThat(sketch.countAbove(probe)).isBetween(exactAboveUpper, exactAboveLower);
+        }
+    }
+
+    @Test
+    void moveReplacesPreviousTotal() {
+        PercentileSketch sketch = new PercentileSketch();
+        sketch.add(100, 1);
+        sketch.add(5000, 1);
+
+        sketch.move(100, 10_000);
+
+        assertThat(sketch.total()).isEqualTo(2);
+        assertThat(sketch.countAbove(6000)).isEqualTo(1);
+        assertThat(sketch.countSameBucket(100)).isZero();
+    }
+
+    @Test
+    void zeroAndOverflowValues() {
+        PercentileSketch sketch = new PercentileSketch();
+        sketch.add(0, 1);
+        sketch.add(Long.MAX_VALUE, 1);
+
+        assertThat(sketch.total()).isEqualTo(1);
+        assertThat(sketch.countAbove(0)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.toy.checkoutcheckout.domain.rank.scheduler;
+
+import com.toy.checkoutcheckout.domain.rank.entity.RankingPrecomputeRun;
+import com.toy.checkoutcheckout.domain.rank.entity.RankingSnapshot;
+import com.toy.checkoutcheckout.domain.rank.repository.RankingPrecomputeRunRepository;
+import com.toy.checkoutcheckout.domain.rank.repository.RankingSnapshotRepository;
+import com.toy.checkoutcheckout.domain.rank.service.RankingSnapshotService;
+import com.toy.checkoutcheckout.domain.study.event.StudyMembershipChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RankingSnapshotSchedulerTest {
+
+    // 금요일이면서 월말인 과거 날짜 (일간, 월간 스냅샷 대상)
+    private static final LocalDate CLOSED_DATE = LocalDate.of(2020, 1, 31);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private RankingSnapshotScheduler rankingSnapshotScheduler;
+
+    @Autowired
+    private RankingPrecomputeRunRepository rankingPrecomputeRunRepository;
+
+    @Autowired
+    private RankingSnapshotRepository rankingSnapshotRepository;
+
+    @Autowired
+    private RankingSnapshotService rankingSnapshotService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void precomputesEveryStudyAndRecordsTheRun() {
+        Long studyId = fixtures.study(fixtures.user()).getId();
+
+        rankingSnapshotScheduler.run(CLOSED_DATE);
+
+        RankingPrecomputeRun run = rankingPrecomputeRunRepository.findByClosedDate(CLOSED_DATE).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(RankingPrecomputeRun.Status.COMPLETED);
+        assertThat(run.getFailedPartitions()).isZero();
+
+        assertThat(exists(RankingSnapshot.Scope.STUDY_DAILY, 0L, CLOSED_DATE)).isTrue();
+        assertThat(exists(RankingSnapshot.Scope.STUDY_MONTHLY, 0L, CLOSED_DATE.withDayOfMonth(1))).isTrue();
+        assertThat(exists(RankingSnapshot.Scope.MEMBER_DAILY, studyId, CLOSED_DATE)).isTrue();
+        assertThat(exists(RankingSnapshot.Scope.MEMBER_MONTHLY, studyId, CLOSED_DATE.withDayOfMonth(1))).isTrue();
+        assertThat(exists(RankingSnapshot.Scope.MEMBER_WEEKLY, studyId, CLOSED_DATE.minusDays(6))).isFalse();
+
+        assertThat(meterRegistry.get("ranking.precompute.partition").tag("kind", "members").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    void rerunSkipsExistingSnapshotsAndCountsAttempts() {
+        LocalDate closedDate = CLOSED_DATE.minusDays(1);
+        Long studyId = fixtures.study(fixtures.user()).getId();
+
+        rankingSnapshotScheduler.run(closedDate);
+        Long snapshotId = rankingSnapshotRepository.findByScopeAndScopeIdAndStartDateAndEndDate(
+                RankingSnapshot.Scope.MEMBER_DAILY, studyId, closedDate, closedDate).orElseThrow().getId();
+
+        rankingSnapshotScheduler.run(closedDate);
+
+        RankingPrecomputeRun run = rankingPrecomputeRunRepository.findByClosedDate(closedDate).orElseThrow();
+        assertThat(run.getAttempts()).isEqualTo(2);
+        assertThat(run.getStatus()).isEqualTo(RankingPrecomputeRun.Status.COMPLETED);
+        assertThat(rankingSnapshotRepository.findByScopeAndScopeIdAndStartDateAndEndDate(
+                RankingSnapshot.Scope.MEMBER_DAILY, studyId, closedDate, closedDate).orElseThrow().getId())
+                .isEqualTo(snapshotId);
+    }
+
+    @Test
+    void membershipChangeDropsMemberSnapshotsOfThatStudy() {
+        Long studyId = fixtures.study(fixtures.user()).getId();
+        rankingSnapshotScheduler.run(CLOSED_DATE);
+        assertThat(rankingSnapshotService.isClosed(CLOSED_DATE)).isTrue();
+
+        rankingSnapshotService.onMembershipChanged(new StudyMembershipChangedEvent(
+                studyId, fixtures.user().getId(), StudyMembershipChangedEvent.Type.JOINED));
+
+        assertThat(exists(RankingSnapshot.Scope.MEMBER_DAILY, studyId, CLOSED_DATE)).isFalse();
+        assertThat(exists(RankingSnapshot.Scope.MEMBER_MONTHLY, studyId, CLOSED_DATE.withDayOfMonth(1))).isFalse();
+        assertThat(exists(RankingSnapshot.Scope.STUDY_DAILY, 0L, CLOSED_DATE)).isTrue();
+    }
+
+    private boolean exists(RankingSnapshot.Scope scope, Long scopeId, LocalDate startDate) {
+        return rankingSnapshotRepository.existsByScopeAndScopeIdAndStartDateAndEndDate(
+                scope, scopeId, startDate, CLOSED_DATE);
+    }
+}
@@ -0,0 +1,109 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.DailyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardStore;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.service.TimerService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DailyLeaderboardServiceTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private DailyLeaderboardService dailyLeaderboardService;
+
+    @Autowired
+    private LeaderboardStore leaderboardStore;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Test
+    void stopTimerIncrementsDailyLeaderboard() {
+        User user = fixtures.user();
+        LocalDate today = LocalDate.now();
+        dailyLeaderboardService.rebuild(today);
+
+        timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(LocalDateTime.now().minusMinutes(30))
+                .build());
+        timerService.stopTimer(user.getEmail());
+
+        DailyRankingResponse.RankEntry entry = findEntry(rankService.getDailyRanking(today, null, 500), user.getId());
+        assertThat(entry).isNotNull();
+        assertThat(entry.getStudyTime()).isBetween(1799L, 1801L);
+    }
+
+    @Test
+    void flushedLeaderboardIsRebuiltFromTimerSessions() {
+        User user = fixtures.user();
+        LocalDate today = LocalDate.now();
+
+        timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .build());
+        timerService.stopTimer(user.getEmail());
+
+        // Redis flush 상황을 흉내내기 위해 준비 표시를 제거
+        leaderboardStore.invalidate("daily:" + today);
+
+        DailyRankingResponse.RankEntry entry = findEntry(rankService.getDailyRanking(today, null, 500), user.getId());
+        assertThat(entry).isNotNull();
+        assertThat(entry.getStudyTime()).isBetween(599L, 601L);
+    }
+
+    @Test
+    void stopAppliedOnceWhenRebuildAlreadyIncludesIt() {
+        User user = fixtures.user();
+        LocalDate today = LocalDate.now();
+        dailyLeaderboardService.rebuild(today);
+
+        TimerSession session = timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(LocalDateTime.now().minusMinutes(20))
+                .build());
+        timerService.stopTimer(user.getEmail());
+        Double afterStop = dailyLeaderboardService.getScore(today, user.getId());
+
+        // 커밋 이후 재구성이 먼저 반영한 종료의 이벤트가 뒤늦게(또는 두 번) 처리되는 경우
+        leaderboardStore.invalidate("daily:" + today);
+        dailyLeaderboardService.rebuild(today);
+        TimerStoppedEvent event = TimerStoppedEvent.from(timerSessionRepository.findById(session.getId()).orElseThrow());
+        dailyLeaderboardService.onTimerStopped(event);
+        dailyLeaderboardService.onTimerStopped(event);
+
+        assertThat(afterStop).isBetween(1199d, 1201d);
+        assertThat(dailyLeaderboardService.getScore(today, user.getId())).isEqualTo(afterStop);
+    }
+
+    private DailyRankingResponse.RankEntry findEntry(DailyRankingResponse response, Long userId) {
+        return response.getRankings().stream()
+                .filter(entry -> entry.getUserId().equals(userId))
+                .findFirst()
+                .orElse(null);
+    }
+}
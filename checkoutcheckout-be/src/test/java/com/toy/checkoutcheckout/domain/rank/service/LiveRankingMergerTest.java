@@ -0,0 +1,67 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.leaderboard.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveRankingMergerTest {
+
+    @Test
+    void activeUsersAreMergedIntoStoredOrder() {
+        List<LeaderboardEntry> stored = List.of(
+                new LeaderboardEntry(1L, 500), new LeaderboardEntry(2L, 400),
+                new LeaderboardEntry(3L, 300), new LeaderboardEntry(4L, 200));
+
+        // 3 번은 진행 중 (저장 300 + 진행 250), 9 번은 오늘 처음 공부 중
+        List<LeaderboardEntry> merged = LiveRankingMerger.daily(stored, Map.of(3L, 550L, 9L, 350L), 4);
+
+        assertThat(merged).extracting(LeaderboardEntry::getMemberId).containsExactly(3L, 1L, 2L, 9L);
+        assertThat(merged.get(0).getScore()).isEqualTo(550);
+    }
+
+    @Test
+    void limitAppliesAfterMerge() {
+        List<LeaderboardEntry> stored = List.of(new LeaderboardEntry(1L, 500), new LeaderboardEntry(2L, 400));
+
+        assertThat(LiveRankingMerger.daily(stored, Map.of(2L, 450L), 1))
+                .extracting(LeaderboardEntry::getMemberId).containsExactly(1L);
+        assertThat(LiveRankingMerger.daily(List.of(), Map.of(5L, 10L), 10))
+                .extracting(LeaderboardEntry::getMemberId).containsExactly(5L);
+    }
+
+    @Test
+    void memberRankingIsReRankedWithoutTouchingStoredResponse() {
+        StudyMemberRankingResponse stored = StudyMemberRankingResponse.builder()
+                .studyId(1L)
+                .studyName("study")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .rankings(List.of(entry(1, 10L, 3600L), entry(2, 20L, 1800L), entry(3, 30L, 0L)))
+                .totalStudyTime(5400L)
+                .build();
+
+        StudyMemberRankingResponse live = LiveRankingMerger.members(stored, Map.of(30L, 7200L));
+
+        assertThat(live.getRankings()).extracting(StudyMemberRankingResponse.RankEntry::getUserId)
+                .containsExactly(30L, 10L, 20L);
+        assertThat(live.getRankings()).extracting(StudyMemberRankingResponse.RankEntry::getRank)
+                .containsExactly(1, 2, 3);
+        assertThat(live.getTotalStudyTime()).isEqualTo(12600L);
+        assertThat(stored.getRankings().get(2).getStudyTime()).isZero();
+    }
+
+    private StudyMemberRankingResponse.RankEntry entry(int rank, Long userId, Long studyTime) {
+        return StudyMemberRankingResponse.RankEntry.builder()
+                .rank(rank)
+                .userId(userId)
+                .nickname("user" + userId)
+                .studyTime(studyTime)
+                .build();
+    }
+}
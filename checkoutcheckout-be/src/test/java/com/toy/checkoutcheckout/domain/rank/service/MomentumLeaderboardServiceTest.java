@@ -0,0 +1,99 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.timer.event.TimerStoppedEvent;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MomentumLeaderboardServiceTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MomentumLeaderboardService service;
+
+    private final LocalDate today = LocalDate.now();
+
+    // 준비되지 않은 보드는 첫 종료 때 DB 롤업으로 재구성되므로 미리 준비시킴
+    @BeforeEach
+    void setUp() {
+        service.getTop(1);
+    }
+
+    @Test
+    void recentStudyOutranksOlderStudyOfTheSameLength() {
+        User older = fixtures.user();
+        User recent = fixtures.user();
+        stop(older, 3600, today.minusDays(14));
+        stop(recent, 3600, today);
+
+        Map<Long, Double> scores = service.getScores(List.of(older.getId(), recent.getId()));
+        assertThat(scores.get(recent.getId())).isGreaterThan(scores.get(older.getId()));
+    }
+
+    @Test
+    void scoreHalvesEveryHalfLife() {
+        User user = fixtures.user();
+        LocalDate date = today.minusDays(7);
+        stop(user, 4000, date);
+
+        double score = service.getScores(List.of(user.getId())).get(user.getId());
+        assertThat(service.toDecayedSeconds(score, date.plusDays(7).atTime(LocalTime.NOON)))
+                .isCloseTo(2000L, within(2L));
+    }
+
+    @Test
+    void repeatedStopsAccumulateInLogDomain() {
+        User user = fixtures.user();
+        stop(user, 1000, today);
+        stop(user, 3000, today);
+
+        double score = service.getScores(List.of(user.getId())).get(user.getId());
+        assertThat(service.toDecayedSeconds(score, today.atTime(LocalTime.NOON))).isCloseTo(4000L, within(2L));
+    }
+
+    @Test
+    void duplicateOrRebuiltStopIsAppliedOnce() {
+        User user = fixtures.user();
+        stop(user, 1000, today);
+        service.rebuild();
+        service.onTimerStopped(event(user, 1000, today));
+
+        double score = service.getScores(List.of(user.getId())).get(user.getId());
+        assertThat(service.toDecayedSeconds(score, today.atTime(LocalTime.NOON))).isCloseTo(1000L, within(2L));
+    }
+
+    @Test
+    void logAddMatchesDirectSum() {
+        double sum = MomentumLeaderboardService.logAdd(Math.log(3), Math.log(5));
+
+        assertThat(Math.exp(sum)).isCloseTo(8d, within(1e-9));
+        assertThat(MomentumLeaderboardService.logAdd(1000, 0)).isCloseTo(1000d, within(1e-9));
+    }
+
+    // 롤업에 반영(커밋)한 뒤 종료 이벤트 전달
+    private void stop(User user, long seconds, LocalDate date) {
+        fixtures.credit(user, date, seconds);
+        service.onTimerStopped(event(user, seconds, date));
+    }
+
+    private TimerStoppedEvent event(User user, long seconds, LocalDate date) {
+        return new TimerStoppedEvent(user.getId(), 1L, date,
+                date.atTime(9, 0), date.atTime(9, 0).plusSeconds(seconds), seconds);
+    }
+}
@@ -0,0 +1,78 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingRow;
+import com.toy.checkoutcheckout.domain.study.service.StudyService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RangeRankingServiceTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private RangeRankingService rangeRankingService;
+
+    @Autowired
+    private StudyService studyService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void rangeTotalIsDifferenceOfCumulativeValues() {
+        User owner = fixtures.user();
+        User member = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+        studyService.joinStudy(member.getId(), studyId, null);
+
+        fixtures.credit(owner, today.minusDays(5), 100);
+        fixtures.credit(owner, today.minusDays(1), 50);
+        // 이후 날짜 기록이 이미 있는 상태에서 중간 날짜에 늦게 반영
+        fixtures.credit(owner, today.minusDays(3), 30);
+        fixtures.credit(member, today.minusDays(2), 200);
+
+        assertThat(memberTotals(studyId, today.minusDays(4), today.minusDays(1)))
+                .containsExactly(member.getId() + ":200", owner.getId() + ":80");
+        assertThat(memberTotals(studyId, today.minusDays(5), today.minusDays(5)))
+                .containsExactly(owner.getId() + ":100", member.getId() + ":0");
+        assertThat(memberTotals(studyId, today.minusDays(90), today))
+                .containsExactly(member.getId() + ":200", owner.getId() + ":180");
+    }
+
+    @Test
+    void studyRangeTotalsIncludeSameDayCredits() {
+        User owner = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+
+        fixtures.credit(owner, today, 40);
+        fixtures.credit(owner, today, 60);
+
+        assertThat(studyTotal(today.minusDays(30), today, studyId)).isEqualTo(100L);
+        assertThat(studyTotal(today.minusDays(30), today.minusDays(1), studyId)).isZero();
+    }
+
+    private List<String> memberTotals(Long studyId, LocalDate startDate, LocalDate endDate) {
+        return rangeRankingService.members(studyId, startDate, endDate).stream()
+                .map(row -> row.userId() + ":" + row.studyTime())
+                .toList();
+    }
+
+    private Long studyTotal(LocalDate startDate, LocalDate endDate, Long studyId) {
+        return rangeRankingService.studies(startDate, endDate).stream()
+                .filter(row -> row.studyId().equals(studyId))
+                .map(StudyRankingRow::studyTime)
+                .findFirst()
+                .orElseThrow();
+    }
+}
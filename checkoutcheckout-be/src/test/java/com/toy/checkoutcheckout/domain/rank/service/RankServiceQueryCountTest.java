@@ -0,0 +1,116 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.DailyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
+import com.toy.checkoutcheckout.domain.study.service.StudyService;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.service.TimerService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RankServiceQueryCountTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void memberRankingUsesFixedNumberOfStatements() {
+        // 스터디 조회, 멤버 확인, 랭킹 조회 (멤버 수와 무관)
+        assertThat(memberRankingStatements(2)).isEqualTo(3);
+        assertThat(memberRankingStatements(8)).isEqualTo(3);
+    }
+
+    @Test
+    void memberRankingCarriesCharacterTypeFromSameQuery() {
+        User owner = fixtures.user("rabbit");
+        Long studyId = fixtures.study(owner).getId();
+
+        StudyMemberRankingResponse response = rankService.getStudyMemberDailyRanking(owner.getId(), studyId, LocalDate.now());
+
+        assertThat(response.getRankings()).singleElement()
+                .satisfies(entry -> assertThat(entry.getCharacterType()).isEqualTo("rabbit"));
+    }
+
+    @Test
+    void studyRankingUsesSingleStatement() {
+        fixtures.study(fixtures.user(null)); // 스터디 생성으로 전체 스터디 랭킹 캐시를 비움
+
+        long statements = countStatements(() -> rankService.getDailyStudyRanking(LocalDate.now()));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void dailyRankingPageUsesSingleProfileQuery() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 3; i++) {
+            User user = fixtures.user(null);
+            timerSessionRepository.save(TimerSession.builder()
+                    .user(user)
+                    .startTime(LocalDateTime.now().minusMinutes(5 + i))
+                    .build());
+            timerService.stopTimer(user.getEmail());
+        }
+        rankService.getDailyRanking(today, null, 100); // 리더보드 준비
+
+        DailyRankingResponse[] response = new DailyRankingResponse[1];
+        long statements = countStatements(() -> response[0] = rankService.getDailyRanking(today, null, 100));
+
+        assertThat(response[0].getRankings()).hasSizeGreaterThanOrEqualTo(3);
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private long memberRankingStatements(int members) {
+        User owner = fixtures.user(null);
+        Long studyId = fixtures.study(owner).getId();
+        for (int i = 1; i < members; i++) {
+            studyService.joinStudy(fixtures.user(null).getId(), studyId, null);
+        }
+
+        return countStatements(() -> rankService.getStudyMemberDailyRanking(owner.getId(), studyId, LocalDate.now()));
+    }
+
+    private long countStatements(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,64 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.RankingChangesResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingChangeLogTest {
+
+    private final RankingChangeLog changeLog = new RankingChangeLog(100, 2);
+
+    @Test
+    void unknownVersionReturnsFullRanking() {
+        RankingChangesResponse response = changeLog.changesSince("r", 7, 1, List.of(entry(1L, 1, 100L)));
+
+        assertThat(response.isFull()).isTrue();
+        assertThat(response.getChanges()).hasSize(1);
+        assertThat(response.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyMovedEntriesAreReturned() {
+        changeLog.changesSince("r", 0, 1, List.of(entry(1L, 1, 300L), entry(2L, 2, 200L), entry(3L, 3, 100L)));
+
+        // 3 번이 2 번을 앞지르고, 1 번은 그대로
+        RankingChangesResponse response = changeLog.changesSince("r", 1, 2,
+                List.of(entry(1L, 1, 300L), entry(3L, 2, 250L), entry(2L, 3, 200L)));
+
+        assertThat(response.isFull()).isFalse();
+        assertThat(response.getChanges()).extracting(RankingChangesResponse.Entry::getId).containsExactly(3L, 2L);
+        assertThat(response.getRemoved()).isEmpty();
+    }
+
+    @Test
+    void removedEntriesAreReported() {
+        changeLog.changesSince("r", 0, 1, List.of(entry(1L, 1, 300L), entry(2L, 2, 200L)));
+
+        RankingChangesResponse response = changeLog.changesSince("r", 1, 2, List.of(entry(1L, 1, 300L)));
+
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(response.getRemoved()).containsExactly(2L);
+    }
+
+    @Test
+    void oldVersionsAreEvicted() {
+        changeLog.changesSince("r", 0, 1, List.of(entry(1L, 1, 100L)));
+        changeLog.changesSince("r", 0, 2, List.of(entry(1L, 1, 200L)));
+        changeLog.changesSince("r", 0, 3, List.of(entry(1L, 1, 300L)));
+
+        assertThat(changeLog.changesSince("r", 1, 3, List.of(entry(1L, 1, 300L))).isFull()).isTrue();
+        assertThat(changeLog.changesSince("r", 2, 3, List.of(entry(1L, 1, 300L))).isFull()).isFalse();
+    }
+
+    private RankingChangesResponse.Entry entry(Long id, int rank, Long studyTime) {
+        return RankingChangesResponse.Entry.builder()
+                .id(id)
+                .name("entry-" + id)
+                .rank(rank)
+                .studyTime(studyTime)
+                .build();
+    }
+}
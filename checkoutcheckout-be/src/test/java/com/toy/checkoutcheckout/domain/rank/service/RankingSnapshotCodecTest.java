@@ -0,0 +1,36 @@
+package com.toy.checkoutcheckout.domain.rank.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingSnapshotCodecTest {
+
+    @Test
+    void roundTripPreservesOrderAndValues() {
+        List<long[]> rows = List.of(
+                new long[]{42L, 36_000L},
+                new long[]{7L, 127L},
+                new long[]{1_000_000L, 0L},
+                new long[]{Long.MAX_VALUE, 86_400L}
+        );
+
+        byte[] payload = RankingSnapshotCodec.encode(rows);
+        List<long[]> decoded = RankingSnapshotCodec.decode(payload);
+
+        assertThat(decoded).hasSize(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(decoded.get(i)).containsExactly(rows.get(i));
+        }
+    }
+
+    @Test
+    void typicalEntryFitsInFewBytes() {
+        List<long[]> rows = List.of(new long[]{1234L, 7_200L});
+
+        // 버전(1) + 개수(1) + id(2) + 공부시간(2)
+        assertThat(RankingSnapshotCodec.encode(rows)).hasSize(6);
+    }
+}
@@ -0,0 +1,132 @@
+package com.toy.checkoutcheckout.domain.rank.stream;
+
+import com.toy.checkoutcheckout.domain.rank.dto.StudyMemberRankingResponse;
+import com.toy.checkoutcheckout.domain.study.repository.StudyMemberRepository;
+import com.toy.checkoutcheckout.domain.timer.service.ActiveTimerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyRankBroadcasterStallTest {
+
+    private static final Long STUDY_ID = 987_654L;
+
+    @Autowired
+    private StudyMemberRepository studyMemberRepository;
+
+    @Autowired
+    private ActiveTimerRegistry activeTimerRegistry;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private StudyRankBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void stalledClientIsDroppedWithoutBlockingOthers() throws InterruptedException {
+        broadcaster = new StudyRankBroadcaster(studyMemberRepository, activeTimerRegistry, 1, 8, 30, 100, 2) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.pop();
+            }
+        };
+        RecordingEmitter healthy = new RecordingEmitter();
+        emitters.add(new StalledEmitter());
+        emitters.add(healthy);
+
+        broadcaster.subscribe(1L, today());
+        broadcaster.subscribe(2L, today());
+
+        // 멈춘 구독자는 전송 제한 시간 후 끊기고, 같은 디스패처 스레드를 쓰는 다른 구독자는 계속 받음
+        assertThat(awaitSubscriberCount(1)).isEqualTo(1);
+        broadcaster.heartbeat();
+        assertThat(awaitSent(healthy, 2)).isEqualTo(2);
+    }
+
+    @Test
+    void subscribersBeyondSendThreadsAreDroppedInsteadOfGrowingThePool() throws InterruptedException {
+        broadcaster = new StudyRankBroadcaster(studyMemberRepository, activeTimerRegistry, 1, 8, 30, 100, 1) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.pop();
+            }
+        };
+        emitters.add(new StalledEmitter());
+        emitters.add(new RecordingEmitter());
+
+        broadcaster.subscribe(1L, today());
+        assertThat(awaitSubscriberCount(0)).isZero();
+
+        // 하나뿐인 전송 스레드가 멈춘 쓰기에 묶여 있으므로 새 구독자의 전송은 거절되어 끊김
+        broadcaster.subscribe(2L, today());
+        assertThat(awaitSubscriberCount(0)).isZero();
+    }
+
+    private StudyMemberRankingResponse today() {
+        return StudyMemberRankingResponse.builder()
+                .studyId(STUDY_ID)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .rankings(List.of())
+                .totalStudyTime(0L)
+                .build();
+    }
+
+    private int awaitSubscriberCount(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && broadcaster.subscriberCount(STUDY_ID) != expected; i++) {
+            Thread.sleep(20);
+        }
+        return broadcaster.subscriberCount(STUDY_ID);
+    }
+
+    private int awaitSent(RecordingEmitter emitter, int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && emitter.sent.get() < expected; i++) {
+            Thread.sleep(20);
+        }
+        return emitter.sent.get();
+    }
+
+    // 소켓 쓰기가 멈춘 클라이언트 (서블릿 쓰기처럼 인터럽트로도 풀리지 않음)
+    private class StalledEmitter extends SseEmitter {
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // 취소되어도 계속 멈춰 있음
+                }
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final AtomicInteger sent = new AtomicInteger();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sent.incrementAndGet();
+        }
+    }
+}
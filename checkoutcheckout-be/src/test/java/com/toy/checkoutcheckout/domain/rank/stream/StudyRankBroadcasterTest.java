@@ -0,0 +1,84 @@
+package com.toy.checkoutcheckout.domain.rank.stream;
+
+import com.toy.checkoutcheckout.domain.rank.service.RankService;
+import com.toy.checkoutcheckout.domain.study.service.StudyService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.global.error.ForbiddenException;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyRankBroadcasterTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private StudyRankBroadcaster broadcaster;
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Test
+    void subscribersShareOneChannelPerStudy() {
+        User owner = fixtures.user();
+        User member = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+        studyService.joinStudy(member.getId(), studyId, null);
+
+        subscribe(owner, studyId);
+        subscribe(member, studyId);
+
+        assertThat(broadcaster.subscriberCount(studyId)).isEqualTo(2);
+    }
+
+    @Test
+    void leavingStudyClosesOnlyThatMembersStream() throws InterruptedException {
+        User owner = fixtures.user();
+        User member = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+        studyService.joinStudy(member.getId(), studyId, null);
+
+        subscribe(owner, studyId);
+        subscribe(member, studyId);
+        studyService.leaveStudy(member.getId(), studyId);
+
+        assertThat(awaitSubscriberCount(studyId, 1)).isEqualTo(1);
+    }
+
+    @Test
+    void nonMemberCannotSubscribe() {
+        User owner = fixtures.user();
+        User outsider = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+
+        assertThatThrownBy(() -> subscribe(outsider, studyId))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    // 컨트롤러와 같은 경로로 구독 (멤버 확인 후 등록)
+    private void subscribe(User user, Long studyId) {
+        broadcaster.subscribe(user.getId(),
+                rankService.getStudyMemberDailyRanking(user.getId(), studyId, LocalDate.now()));
+    }
+
+    // 연결 종료는 전송 스레드에서 처리되므로 잠시 기다림
+    private int awaitSubscriberCount(Long studyId, int expected) throws InterruptedException {
+        for (int i = 0; i < 50 && broadcaster.subscriberCount(studyId) != expected; i++) {
+            Thread.sleep(20);
+        }
+        return broadcaster.subscriberCount(studyId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.toy.checkoutcheckout.domain.timer.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StudyActivityTest {
+
+    @Test
+    void recordsStudiedDayAndIntensity() {
+        StudyActivity activity = StudyActivity.empty(1L, 2024);
+        LocalDate first = LocalDate.of(2024, 1, 1);
+        LocalDate last = LocalDate.of(2024, 12, 31); // 윤년 366일째
+
+        activity.record(first, 600);
+        activity.record(last, 4 * 3600);
+
+        assertThat(activity.studiedOn(first)).isTrue();
+        assertThat(activity.levelOn(first)).isEqualTo(1);
+        assertThat(activity.studiedOn(last)).isTrue();
+        assertThat(activity.levelOn(last)).isEqualTo(4);
+        assertThat(activity.studiedOn(LocalDate.of(2024, 1, 2))).isFalse();
+        assertThat(activity.dayBits().cardinality()).isEqualTo(2);
+
+        // 하루 합계로 덮어씀 (이웃한 날짜의 강도는 그대로)
+        activity.record(LocalDate.of(2024, 1, 2), 3600);
+        activity.record(first, 0);
+        assertThat(activity.studiedOn(first)).isFalse();
+        assertThat(activity.levelOn(first)).isZero();
+        assertThat(activity.levelOn(LocalDate.of(2024, 1, 2))).isEqualTo(3);
+    }
+
+    @Test
+    void quantizesDailyTotals() {
+        assertThat(StudyActivity.level(0)).isZero();
+        assertThat(StudyActivity.level(1)).isEqualTo(1);
+        assertThat(StudyActivity.level(1799)).isEqualTo(1);
+        assertThat(StudyActivity.level(1800)).isEqualTo(2);
+        assertThat(StudyActivity.level(3600)).isEqualTo(3);
+        assertThat(StudyActivity.level(10800)).isEqualTo(4);
+    }
+
+    @Test
+    void wholeYearFitsInFewHundredBytes() {
+        StudyActivity activity = StudyActivity.empty(1L, 2025);
+
+        // 366비트 + 366 x 4비트
+        assertThat(activity.getDays()).hasSize(46);
+        assertThat(activity.getLevels()).hasSize(183);
+        assertThatThrownBy(() -> activity.record(LocalDate.of(2024, 5, 1), 60))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.toy.checkoutcheckout.domain.timer.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Test
+    void recoversRecordsAfterCheckpoint() throws IOException {
+        try (TimerJournal journal = new TimerJournal(directory, false)) {
+            journal.append(TimerJournalRecord.Type.START, 1L, now, 0L, 0L);
+            journal.append(TimerJournalRecord.Type.START, 2L, now, 0L, 0L);
+            journal.checkpoint(1L);
+            journal.append(TimerJournalRecord.Type.STOP, 2L, now.plusMinutes(5), 2L, 0L);
+        }
+
+        try (TimerJournal journal = new TimerJournal(directory, false)) {
+            List<TimerJournalRecord> records = journal.unpersisted();
+            assertThat(records).extracting(TimerJournalRecord::seq).containsExactly(2L, 3L);
+            assertThat(records.get(1)).isEqualTo(
+                    new TimerJournalRecord(TimerJournalRecord.Type.STOP, 3L, 2L, now.plusMinutes(5), 2L, 0L));
+            assertThat(journal.lastSeq()).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    void truncatesPartialAndCorruptTail() throws IOException {
+        try (TimerJournal journal = new TimerJournal(directory, false)) {
+            journal.append(TimerJournalRecord.Type.START, 1L, now, 0L, 0L);
+            journal.append(TimerJournalRecord.Type.STOP, 1L, now, 1L, 0L);
+        }
+        Path log = directory.resolve("timer-journal.log");
+        // 두 번째 기록 손상 + 쓰다 만 기록
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), TimerJournalRecord.SIZE + 10);
+            channel.write(ByteBuffer.wrap(new byte[7]), TimerJournalRecord.SIZE * 2L);
+        }
+
+        try (TimerJournal journal = new TimerJournal(directory, false)) {
+            assertThat(journal.unpersisted()).extracting(TimerJournalRecord::seq).containsExactly(1L);
+            assertThat(Files.size(log)).isEqualTo(TimerJournalRecord.SIZE);
+
+            // 잘라낸 뒤에 이어서 덧붙임
+            assertThat(journal.append(TimerJournalRecord.Type.STOP, 1L, now, 1L, 0L).seq()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void emptiesLogOnceEverythingIsPersisted() throws IOException {
+        try (TimerJournal journal = new TimerJournal(directory, false)) {
+            journal.append(TimerJournalRecord.Type.START, 1L, now, 0L, 0L);
+            journal.append(TimerJournalRecord.Type.STOP, 1L, now, 1L, 0L);
+            journal.checkpoint(2L);
+            assertThat(Files.size(directory.resolve("timer-journal.log"))).isZero();
+        }
+
+        // 파일을 비워도 순번은 체크포인트 이후로 이어짐
+        try (TimerJournal journal = new TimerJournal(directory, true)) {
+            assertThat(journal.unpersisted()).isEmpty();
+            assertThat(journal.append(TimerJournalRecord.Type.START, 1L, now, 0L, 0L).seq()).isEqualTo(3L);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.toy.checkoutcheckout.domain.timer.journal;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "timer.journal.enabled=true",
+        "timer.journal.path=${java.io.tmpdir}/checkoutcheckout-timer-journal-test"
+})
+@ActiveProfiles("test")
+class TimerJournalWriterTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerJournalWriter writer;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Autowired
+    private UserDailyTotalRepository userDailyTotalRepository;
+
+    @Test
+    void journaledStopAfterMidnightCreditsEachDaySeparately() throws InterruptedException {
+        User user = fixtures.user();
+        LocalDate today = LocalDate.now();
+        LocalDateTime midnight = today.atStartOfDay();
+        TimerSession session = timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(midnight.minusHours(1))
+                .build());
+
+        writer.append(TimerJournalRecord.Type.STOP, user.getId(), midnight.plusMinutes(30), 0L, session.getId());
+        writer.drain();
+
+        List<TimerSession> sessions = awaitClosed(user);
+        assertThat(sessions).hasSize(2);
+        assertThat(sessions.get(1).getEndTime()).isEqualTo(midnight);
+        assertThat(sessions.get(0).getStartTime()).isEqualTo(midnight);
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), today.minusDays(1))).isEqualTo(3600L);
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), today)).isEqualTo(1800L);
+    }
+
+    @Test
+    void stopWithoutTargetSessionIsSkipped() throws InterruptedException {
+        User user = fixtures.user();
+        timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .build());
+
+        writer.append(TimerJournalRecord.Type.STOP, user.getId(), LocalDateTime.now(), 0L, 0L);
+        writer.drain();
+        awaitDrained();
+
+        assertThat(timerSessionRepository.findByUserAndIsActiveTrue(user)).isPresent();
+    }
+
+    // 작성기 스레드가 먼저 가져간 기록은 그쪽에서 반영되므로 잠시 기다림
+    private List<TimerSession> awaitClosed(User user) throws InterruptedException {
+        for (int i = 0; i < 50 && timerSessionRepository.findByUserAndIsActiveTrue(user).isPresent(); i++) {
+            Thread.sleep(20);
+        }
+        return timerSessionRepository.findByUserOrderByStartTimeDesc(user);
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        for (int i = 0; i < 50 && writer.pending() > 0; i++) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(100);
+    }
+}
@@ -0,0 +1,81 @@
+package com.toy.checkoutcheckout.domain.timer.scheduler;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.service.TimerService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TimerSchedulerTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerScheduler timerScheduler;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Autowired
+    private UserDailyTotalRepository userDailyTotalRepository;
+
+    @Test
+    void closesSessionsAtMidnightAndContinuesThemToday() {
+        LocalDateTime midnight = LocalDate.now().atStartOfDay();
+        LocalDate yesterday = midnight.toLocalDate().minusDays(1);
+        User overnight = fixtures.user();
+        User today = fixtures.user();
+
+        TimerSession session = timerSessionRepository.save(TimerSession.builder()
+                .user(overnight)
+                .startTime(midnight.minusHours(1))
+                .build());
+        timerSessionRepository.save(TimerSession.builder()
+                .user(today)
+                .startTime(LocalDateTime.now())
+                .build());
+
+        timerScheduler.closeActiveTimers(midnight);
+
+        List<TimerSession> sessions = timerSessionRepository.findByUserOrderByStartTimeDesc(overnight);
+        assertThat(sessions).hasSize(2);
+
+        TimerSession first = sessions.get(1);
+        assertThat(first.getId()).isEqualTo(session.getId());
+        assertThat(first.isActive()).isFalse();
+        assertThat(first.getSessionDate()).isEqualTo(yesterday);
+        assertThat(first.getEndTime()).isEqualTo(midnight);
+        assertThat(first.getDuration()).isEqualTo(3600L);
+
+        // 자정 이후는 종료된 조각 대신 오늘 날짜의 활성 세션으로 이어짐
+        TimerSession second = sessions.get(0);
+        assertThat(second.isActive()).isTrue();
+        assertThat(second.getSessionDate()).isEqualTo(midnight.toLocalDate());
+        assertThat(second.getStartTime()).isEqualTo(midnight);
+
+        assertThat(userDailyTotalRepository.sumByUserIdAndDateRange(overnight.getId(), yesterday, yesterday))
+                .isEqualTo(3600L);
+
+        // 자정 이후에 시작된 세션은 그대로 진행
+        assertThat(timerSessionRepository.findByUserAndIsActiveTrue(today)).isPresent();
+        timerService.stopTimer(today.getEmail());
+        timerService.stopTimer(overnight.getEmail());
+    }
+}
@@ -0,0 +1,198 @@
+package com.toy.checkoutcheckout.domain.timer.scheduler;
+
+import com.toy.checkoutcheckout.domain.study.entity.StudyMembershipPeriod;
+import com.toy.checkoutcheckout.domain.study.repository.StudyMembershipPeriodRepository;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.timer.service.StudyDailyTotalService;
+import com.toy.checkoutcheckout.domain.timer.service.UserDailyTotalService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다른 테스트의 롤업과 겹치지 않도록 과거 기간(2001년 3~4월)만 재집계한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserDailyTotalBackfillJobTest {
+
+    private static final LocalDate START = LocalDate.of(2001, 3, 1);
+    private static final LocalDate END = LocalDate.of(2001, 4, 30);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private UserDailyTotalBackfillJob backfillJob;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Autowired
+    private UserDailyTotalRepository userDailyTotalRepository;
+
+    @Autowired
+    private UserDailyTotalService userDailyTotalService;
+
+    @Autowired
+    private StudyDailyTotalService studyDailyTotalService;
+
+    @Autowired
+    private StudyMembershipPeriodRepository studyMembershipPeriodRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void backfillMatchesSessionsAcrossMonthPartitions() {
+        User user = fixtures.user();
+        LocalDate march = LocalDate.of(2001, 3, 10);
+        LocalDate april = LocalDate.of(2001, 4, 2);
+        session(user, march, 600);
+        session(user, march, 300);
+        session(user, april, 1200);
+
+        backfillJob.backfill(START, END);
+
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), march)).isEqualTo(900L);
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), april)).isEqualTo(1200L);
+        // 누적값은 월 구간 경계를 넘어 이어짐
+        assertThat(cumulative(user, march)).isEqualTo(900L);
+        assertThat(cumulative(user, april)).isEqualTo(2100L);
+    }
+
+    @Test
+    void rerunningBackfillIsIdempotent() {
+        User user = fixtures.user();
+        LocalDate date = LocalDate.of(2001, 3, 20);
+        session(user, date, 500);
+
+        backfillJob.backfill(START, END);
+        backfillJob.backfill(START, END);
+
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), date)).isEqualTo(500L);
+        assertThat(cumulative(user, date)).isEqualTo(500L);
+        assertThat(rows(user)).isEqualTo(1);
+    }
+
+    @Test
+    void creditsDuringBackfillAreNeitherLostNorDoubleCounted() throws Exception {
+        User user = fixtures.user();
+        LocalDate date = LocalDate.of(2001, 4, 15);
+        session(user, date, 100);
+        credited(user, date, 100);
+
+        int credits = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            Future<?> live = executor.submit(() -> {
+                ready.await();
+                for (int i = 0; i < credits; i++) {
+                    credited(user, date, 10);
+                }
+                return null;
+            });
+            Future<?> backfill = executor.submit(() -> {
+                ready.await();
+                for (int i = 0; i < 3; i++) {
+                    backfillJob.backfill(START, END);
+                }
+                return null;
+            });
+            ready.countDown();
+            live.get();
+            backfill.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // 백필 전후 어느 쪽에 반영되었든 세션 합계와 같아야 함
+        long expected = 100L + credits * 10L;
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), date)).isEqualTo(expected);
+        assertThat(cumulative(user, date)).isEqualTo(expected);
+    }
+
+    @Test
+    void studyTotalsFollowMembershipPeriods() {
+        User owner = fixtures.user();
+        User former = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+        // 3월 5일 정오에 가입해 3월 20일에 탈퇴한 멤버
+        studyMembershipPeriodRepository.save(StudyMembershipPeriod.builder()
+                .studyId(studyId)
+                .userId(former.getId())
+                .joinedAt(LocalDate.of(2001, 3, 5).atTime(12, 0))
+                .leftAt(LocalDate.of(2001, 3, 20).atStartOfDay())
+                .build());
+        session(former, LocalDate.of(2001, 3, 5), 600); // 가입 전에 종료
+        session(former, LocalDate.of(2001, 3, 6), 900);
+        session(former, LocalDate.of(2001, 3, 25), 300); // 탈퇴 후
+
+        backfillJob.backfill(START, END);
+
+        // 탈퇴한 멤버의 기간 내 기록은 남고, 가입 전/탈퇴 후 기록은 들어가지 않음
+        assertThat(studyTotal(studyId, LocalDate.of(2001, 3, 5))).isNull();
+        assertThat(studyTotal(studyId, LocalDate.of(2001, 3, 6))).isEqualTo(900L);
+        assertThat(studyTotal(studyId, LocalDate.of(2001, 3, 25))).isNull();
+    }
+
+    // 롤업에는 반영하지 않은 종료 세션 (백필 대상)
+    private void session(User user, LocalDate date, long seconds) {
+        timerSessionRepository.save(closedSession(user, date, seconds));
+    }
+
+    // 실시간 종료와 같이 세션 저장과 롤업 반영을 한 트랜잭션에서
+    private void credited(User user, LocalDate date, long seconds) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            TimerSession session = timerSessionRepository.save(closedSession(user, date, seconds));
+            userDailyTotalService.credit(session);
+            studyDailyTotalService.credit(session);
+        });
+    }
+
+    private TimerSession closedSession(User user, LocalDate date, long seconds) {
+        return TimerSession.builder()
+                .user(user)
+                .startTime(date.atTime(9, 0))
+                .endTime(date.atTime(9, 0).plusSeconds(seconds))
+                .duration(seconds)
+                .sessionDate(date)
+                .isActive(false)
+                .build();
+    }
+
+    private Long cumulative(User user, LocalDate date) {
+        return jdbcTemplate.queryForObject("SELECT cumulative_duration FROM user_daily_totals " +
+                "WHERE user_id = ? AND session_date = ?", Long.class, user.getId(), date);
+    }
+
+    private Long studyTotal(Long studyId, LocalDate date) {
+        return jdbcTemplate.query("SELECT total_duration FROM study_daily_totals WHERE study_id = ? AND session_date = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, studyId, date);
+    }
+
+    private Integer rows(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_daily_totals WHERE user_id = ?",
+                Integer.class, user.getId());
+    }
+}
@@ -0,0 +1,91 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.dto.TimerStatusResponse;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.global.error.TimerBusinessException;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ActiveTimerRegistryTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private ActiveTimerRegistry activeTimerRegistry;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Test
+    void statusAndDuplicateStartAreAnsweredFromRegistry() {
+        User user = fixtures.user();
+
+        timerService.startTimer(user.getEmail());
+
+        TimerStatusResponse status = timerService.getTimerStatus(user.getId());
+        assertThat(status.isActive()).isTrue();
+        assertThat(status.getStartTime()).isNotNull();
+        assertThatThrownBy(() -> timerService.startTimer(user.getEmail()))
+                .isInstanceOf(TimerBusinessException.class);
+
+        timerService.stopTimer(user.getEmail());
+
+        assertThat(timerService.getTimerStatus(user.getId()).isActive()).isFalse();
+        assertThat(activeTimerRegistry.find(user.getId())).isEmpty();
+    }
+
+    @Test
+    void findAllReturnsOnlyActiveUsersAmongRequested() {
+        User running = fixtures.user();
+        User idle = fixtures.user();
+        timerService.startTimer(running.getEmail());
+
+        assertThat(activeTimerRegistry.findAll(List.of(running.getId(), idle.getId())))
+                .containsOnlyKeys(running.getId());
+
+        timerService.stopTimer(running.getEmail());
+    }
+
+    @Test
+    void reconcileRepairsDriftSeenTwice() {
+        User user = fixtures.user();
+
+        // 색인을 거치지 않고 저장된 활성 세션
+        TimerSession session = timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(LocalDateTime.now().minusMinutes(5))
+                .build());
+
+        activeTimerRegistry.reconcile();
+        assertThat(activeTimerRegistry.find(user.getId())).isEmpty();
+
+        activeTimerRegistry.reconcile();
+        assertThat(activeTimerRegistry.find(user.getId()))
+                .hasValueSatisfying(timer -> assertThat(timer.sessionId()).isEqualTo(session.getId()));
+
+        // 색인을 거치지 않고 종료된 세션
+        session.stopAtSplittingDays(LocalDateTime.now());
+        timerSessionRepository.save(session);
+
+        activeTimerRegistry.reconcile();
+        activeTimerRegistry.reconcile();
+        assertThat(activeTimerRegistry.find(user.getId())).isEmpty();
+    }
+}
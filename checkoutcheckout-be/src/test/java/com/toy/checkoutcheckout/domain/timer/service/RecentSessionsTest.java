@@ -0,0 +1,78 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.dto.RecentSessionsResponse;
+import com.toy.checkoutcheckout.domain.timer.dto.TimerSessionResponse;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.global.error.BadRequestException;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RecentSessionsTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Test
+    void pagesThroughSessionsNewestFirstWithCursor() {
+        User user = fixtures.user();
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(1);
+        List<Long> expected = new ArrayList<>();
+        // 시작 시각이 같은 세션은 ID 역순
+        for (int minutes : new int[]{0, 10, 10, 20, 30}) {
+            expected.add(0, saveClosedSession(user, base.plusMinutes(minutes)).getId());
+        }
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            RecentSessionsResponse page = timerService.getRecentSessions(user.getEmail(), cursor, 2);
+            assertThat(page.getSessions()).hasSizeLessThanOrEqualTo(2);
+            page.getSessions().stream().map(TimerSessionResponse::getId).forEach(paged::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(paged).isEqualTo(expected);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        User user = fixtures.user();
+
+        assertThatThrownBy(() -> timerService.getRecentSessions(user.getEmail(), "not-a-cursor", null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private TimerSession saveClosedSession(User user, LocalDateTime startTime) {
+        return timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(5))
+                .duration(300L)
+                .isActive(false)
+                .build());
+    }
+}
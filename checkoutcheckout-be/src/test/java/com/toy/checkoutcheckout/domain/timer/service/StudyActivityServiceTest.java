@@ -0,0 +1,66 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.dto.StudyHeatmapResponse;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyActivityServiceTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private StudyActivityService studyActivityService;
+
+    @Test
+    void streaksSpanYearBoundary() {
+        User user = fixtures.user();
+        LocalDate today = LocalDate.of(2025, 1, 3);
+
+        // 2024-12-20 ~ 12-24 (5일), 2024-12-29 ~ 2025-01-02 (5일, 연도 경계), 오늘은 아직 기록 없음
+        for (int day = 20; day <= 24; day++) {
+            fixtures.credit(user, LocalDate.of(2024, 12, day), 600);
+        }
+        for (LocalDate date = LocalDate.of(2024, 12, 29); date.isBefore(today); date = date.plusDays(1)) {
+            fixtures.credit(user, date, 2 * 3600);
+        }
+        // 이전 연도의 가장 긴 구간 (7일)
+        for (int day = 1; day <= 7; day++) {
+            fixtures.credit(user, LocalDate.of(2023, 3, day), 60);
+        }
+
+        StudyHeatmapResponse heatmap = studyActivityService.getHeatmap(user.getId(), today);
+
+        assertThat(heatmap.getCurrentStreak()).isEqualTo(5);
+        assertThat(heatmap.getLongestStreak()).isEqualTo(7);
+        assertThat(heatmap.getActiveDays()).isEqualTo(10);
+        assertThat(heatmap.getLevels()).hasSize(365).endsWith("111110000333330");
+        assertThat(heatmap.getStartDate()).isEqualTo(today.minusDays(364));
+    }
+
+    @Test
+    void recordUpdatesExistingYear() {
+        User user = fixtures.user();
+        LocalDate today = LocalDate.of(2025, 6, 10);
+        fixtures.credit(user, today.minusDays(1), 600);
+        studyActivityService.getHeatmap(user.getId(), today); // 연도 행 생성
+
+        // 오늘 종료된 타이머 반영
+        fixtures.credit(user, today, 3600);
+        studyActivityService.record(user.getId(), today);
+
+        StudyHeatmapResponse heatmap = studyActivityService.getHeatmap(user.getId(), today);
+        assertThat(heatmap.getLevels()).endsWith("13");
+        assertThat(heatmap.getCurrentStreak()).isEqualTo(2);
+    }
+}
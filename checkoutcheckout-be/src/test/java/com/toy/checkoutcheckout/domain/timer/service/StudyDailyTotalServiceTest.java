@@ -0,0 +1,152 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.rank.dto.StudyRankingResponse;
+import com.toy.checkoutcheckout.domain.rank.service.RankService;
+import com.toy.checkoutcheckout.domain.study.service.StudyService;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.timer.repository.UserDailyTotalRepository;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyDailyTotalServiceTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Autowired
+    private UserDailyTotalRepository userDailyTotalRepository;
+
+    @Test
+    void stopTimerCreditsEveryStudyOfTheUser() {
+        User user = fixtures.user();
+        Long first = fixtures.study(user).getId();
+        Long second = fixtures.study(fixtures.user()).getId();
+        studyService.joinStudy(user.getId(), second, null);
+
+        study(user, LocalDateTime.now().minusMinutes(15));
+
+        LocalDate today = LocalDate.now();
+        assertThat(studyTime(rankService.getDailyStudyRanking(today), first)).isBetween(899L, 901L);
+        assertThat(studyTime(rankService.getDailyStudyRanking(today), second)).isBetween(899L, 901L);
+    }
+
+    @Test
+    void sessionsBeforeJoinDateAreNotCredited() {
+        User owner = fixtures.user();
+        User member = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+
+        // 어제 시작한 세션을 오늘 가입 후 종료
+        timerSessionRepository.save(TimerSession.builder()
+                .user(member)
+                .startTime(LocalDateTime.now().minusDays(1))
+                .build());
+        studyService.joinStudy(member.getId(), studyId, null);
+        timerService.stopTimer(member.getEmail());
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        assertThat(studyTime(rankService.getDailyStudyRanking(yesterday), studyId)).isZero();
+    }
+
+    @Test
+    void leavingKeepsAlreadyCreditedTime() {
+        User owner = fixtures.user();
+        User member = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+        studyService.joinStudy(member.getId(), studyId, null);
+
+        study(member, LocalDateTime.now().minusMinutes(10));
+        studyService.leaveStudy(member.getId(), studyId);
+
+        assertThat(studyTime(rankService.getDailyStudyRanking(LocalDate.now()), studyId)).isBetween(599L, 601L);
+    }
+
+    @Test
+    void stopAfterMidnightCreditsEachDaySeparately() {
+        User user = fixtures.user();
+        LocalDate today = LocalDate.now();
+
+        study(user, today.minusDays(1).atTime(23, 0));
+
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), today.minusDays(1))).isEqualTo(3600L);
+        assertThat(userDailyTotalRepository.findTotalDuration(user.getId(), today)).isNotNull();
+    }
+
+    @Test
+    void concurrentFirstCreditsOfADayAreMergedIntoOneRow() throws Exception {
+        User owner = fixtures.user();
+        Long studyId = fixtures.study(owner).getId();
+        List<User> members = new ArrayList<>(List.of(owner));
+        for (int i = 0; i < 3; i++) {
+            User member = fixtures.user();
+            studyService.joinStudy(member.getId(), studyId, null);
+            members.add(member);
+        }
+        // 아직 아무도 기록하지 않은 날짜 (가입 이후)
+        LocalDate date = LocalDate.now().plusDays(3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(members.size());
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (User member : members) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                fixtures.credit(member, date, 100);
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get(); // 유니크 제약 위반 없이 모두 반영
+        }
+        executor.shutdown();
+
+        assertThat(studyTime(rankService.getDailyStudyRanking(date), studyId)).isEqualTo(400L);
+    }
+
+    private void study(User user, LocalDateTime startTime) {
+        timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(startTime)
+                .build());
+        timerService.stopTimer(user.getEmail());
+    }
+
+    private Long studyTime(StudyRankingResponse response, Long studyId) {
+        return response.getRankings().stream()
+                .filter(entry -> entry.getStudyId().equals(studyId))
+                .map(StudyRankingResponse.RankEntry::getStudyTime)
+                .findFirst()
+                .orElse(0L); // 랭킹에 없으면 0 으로 취급
+    }
+}
@@ -0,0 +1,65 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.dto.DailyStudyTimeResponse;
+import com.toy.checkoutcheckout.domain.timer.dto.StudyTimeSeriesResponse;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.global.error.BadRequestException;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyTimeSeriesTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerService timerService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void fillsGapsInDateOrder() {
+        User user = fixtures.user();
+        fixtures.credit(user, today.minusDays(4), 100);
+        fixtures.credit(user, today.minusDays(1), 50);
+        fixtures.credit(user, today.minusDays(10), 999); // 기간 밖
+
+        StudyTimeSeriesResponse series = timerService.getStudyTimeSeries(user.getEmail(), today.minusDays(5), today);
+
+        assertThat(series.getStartDate()).isEqualTo(today.minusDays(5));
+        assertThat(series.getStepDays()).isEqualTo(1);
+        assertThat(series.getSeconds()).containsExactly(0L, 100L, 0L, 0L, 50L, 0L);
+        assertThat(series.getTotalSeconds()).isEqualTo(150L);
+
+        // 기존 형식은 같은 값을 날짜 오름차순 목록으로
+        DailyStudyTimeResponse history = timerService.getStudyTimeHistory(user.getEmail(), today.minusDays(5), today);
+        assertThat(history.getRecords()).extracting(DailyStudyTimeResponse.DailyRecord::getDate)
+                .containsExactly(today.minusDays(5), today.minusDays(4), today.minusDays(3),
+                        today.minusDays(2), today.minusDays(1), today);
+        assertThat(history.getRecords()).extracting(DailyStudyTimeResponse.DailyRecord::getDuration)
+                .containsExactly(0L, 100L, 0L, 0L, 50L, 0L);
+    }
+
+    @Test
+    void coversYearLongRangeAndRejectsInvertedRange() {
+        User user = fixtures.user();
+        fixtures.credit(user, today.minusDays(365), 60);
+
+        StudyTimeSeriesResponse series = timerService.getStudyTimeSeries(user.getEmail(), today.minusDays(365), today);
+        assertThat(series.getSeconds()).hasSize(366);
+        assertThat(series.getSeconds()[0]).isEqualTo(60L);
+
+        assertThatThrownBy(() -> timerService.getStudyTimeSeries(user.getEmail(), today, today.minusDays(1)))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
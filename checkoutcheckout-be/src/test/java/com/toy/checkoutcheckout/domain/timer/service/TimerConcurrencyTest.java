@@ -0,0 +1,99 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.global.error.TimerBusinessException;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TimerConcurrencyTest {
+
+    private static final int USERS = 8;
+    private static final int THREADS = 16;
+    private static final int CALLS_PER_THREAD = 250;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerService timerService;
+
+    @Autowired
+    private ActiveTimerRegistry activeTimerRegistry;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Test
+    void atMostOneActiveSessionPerUserUnderConcurrentStartAndStop() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(fixtures.user());
+        }
+        AtomicInteger[] balance = new AtomicInteger[USERS]; // 성공한 시작 - 성공한 종료
+        for (int i = 0; i < USERS; i++) {
+            balance[i] = new AtomicInteger();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                    int index = random.nextInt(USERS);
+                    String email = users.get(index).getEmail();
+                    try {
+                        if (random.nextBoolean()) {
+                            timerService.startTimer(email);
+                            balance[index].incrementAndGet();
+                        } else {
+                            timerService.stopTimer(email);
+                            balance[index].decrementAndGet();
+                        }
+                    } catch (TimerBusinessException expected) {
+                        // 이미 진행 중인 타이머 시작, 진행 중이지 않은 타이머 종료
+                    }
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        for (int i = 0; i < USERS; i++) {
+            User user = users.get(i);
+            long active = timerSessionRepository.findByUserOrderByStartTimeDesc(user).stream()
+                    .filter(TimerSession::isActive)
+                    .count();
+            assertThat(active).isLessThanOrEqualTo(1L).isEqualTo(balance[i].get());
+            assertThat(activeTimerRegistry.find(user.getId()).isPresent()).isEqualTo(active == 1);
+            if (active == 1) {
+                timerService.stopTimer(user.getEmail());
+            }
+        }
+    }
+}
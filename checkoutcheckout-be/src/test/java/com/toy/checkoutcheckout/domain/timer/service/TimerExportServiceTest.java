@@ -0,0 +1,93 @@
+package com.toy.checkoutcheckout.domain.timer.service;
+
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.repository.TimerSessionRepository;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.global.error.BadRequestException;
+import com.toy.checkoutcheckout.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TimerExportServiceTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TimerExportService timerExportService;
+
+    @Autowired
+    private TimerSessionRepository timerSessionRepository;
+
+    @Test
+    void exportsSessionsInRangeAsCsv() throws IOException {
+        User user = fixtures.user();
+        LocalDate day = LocalDate.now().minusDays(10);
+        saveClosedSession(user, day.minusDays(1).atTime(23, 0));
+        TimerSession inRange = saveClosedSession(user, day.atTime(9, 0));
+        saveClosedSession(user, day.plusDays(1).atTime(9, 0));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = timerExportService.export(user.getId(), day, day, TimerExportService.Format.CSV, false, out);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "id,start_time,end_time,session_date,duration_seconds,active",
+                inRange.getId() + "," + day.atTime(9, 0) + "," + day.atTime(9, 30) + "," + day + ",1800,false");
+    }
+
+    @Test
+    void exportsAllSessionsAsGzippedNdjson() throws IOException {
+        User user = fixtures.user();
+        LocalDate day = LocalDate.now().minusDays(3);
+        TimerSession first = saveClosedSession(user, day.atTime(8, 0));
+        TimerSession second = saveClosedSession(user, day.atTime(20, 0));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        timerExportService.export(user.getId(), null, null, TimerExportService.Format.NDJSON, true, out);
+
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("{\"id\":" + first.getId() + ",\"startTime\":\"" + day.atTime(8, 0)
+                + "\",\"endTime\":\"" + day.atTime(8, 30) + "\",\"sessionDate\":\"" + day
+                + "\",\"duration\":1800,\"active\":false}");
+        assertThat(lines[1]).startsWith("{\"id\":" + second.getId() + ",");
+    }
+
+    @Test
+    void rejectsInvertedRangeAndUnknownFormat() {
+        assertThatThrownBy(() -> timerExportService.validateRange(LocalDate.now(), LocalDate.now().minusDays(1)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TimerExportService.Format.from("xml"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private TimerSession saveClosedSession(User user, LocalDateTime startTime) {
+        return timerSessionRepository.save(TimerSession.builder()
+                .user(user)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .duration(1800L)
+                .isActive(false)
+                .build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 DB 를 공유하는 여러 인스턴스의 스케줄러가 동시에 울려도 한 번만 실행되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClusterSingletonInterceptorTest {
+
+    private static final int INSTANCES = 5;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentSchedulersRunJobOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        List<Job> schedulers = schedulers(new Job(runs), INSTANCES);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(INSTANCES);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (Job scheduler : schedulers) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    scheduler.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(runs).hasValue(1);
+
+        // 늦게 울린 인스턴스도 holdAtLeast 동안은 다시 실행하지 않음
+        schedulers(new Job(runs), 1).get(0).run();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void jobSeesItsLeaseWhileRunning() {
+        ContextJob target = new ContextJob();
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(advisor());
+        ContextJob job = (ContextJob) factory.getProxy();
+
+        job.run();
+
+        assertThat(target.observedToken).isPositive();
+        assertThat(LeaseContext.current()).isEmpty();
+    }
+
+    // 인스턴스마다 다른 보유자의 리스 저장소를 쓰는 프록시
+    private List<Job> schedulers(Job target, int count) {
+        List<Job> schedulers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ProxyFactory factory = new ProxyFactory(target);
+            factory.setProxyTargetClass(true);
+            factory.addAdvisor(advisor());
+            schedulers.add((Job) factory.getProxy());
+        }
+        return schedulers;
+    }
+
+    private DefaultPointcutAdvisor advisor() {
+        LeaseManager manager = new JdbcLeaseManager(schedulerLeaseRepository, transactionManager,
+                "scheduler-" + UUID.randomUUID());
+        return new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ClusterSingleton.class),
+                new ClusterSingletonInterceptor(() -> manager));
+    }
+
+    static class Job {
+
+        private final AtomicInteger runs;
+
+        Job(AtomicInteger runs) {
+            this.runs = runs;
+        }
+
+        @ClusterSingleton(value = "test-run-once", holdAtLeast = "PT10M")
+        public void run() {
+            runs.incrementAndGet();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class ContextJob {
+
+        volatile long observedToken;
+
+        @ClusterSingleton("test-lease-context")
+        public void run() {
+            observedToken = LeaseContext.current().map(Lease::token).orElse(-1L);
+        }
+    }
+}
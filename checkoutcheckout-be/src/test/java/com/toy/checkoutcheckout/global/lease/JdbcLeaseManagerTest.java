@@ -0,0 +1,108 @@
+package com.toy.checkoutcheckout.global.lease;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JdbcLeaseManagerTest {
+
+    private static final int INSTANCES = 6;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void onlyOneInstanceAcquiresConcurrently() throws Exception {
+        String name = "test-" + UUID.randomUUID();
+        List<JdbcLeaseManager> managers = instances();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(INSTANCES);
+        try {
+            List<Future<Optional<Lease>>> results = new ArrayList<>();
+            for (JdbcLeaseManager manager : managers) {
+                Callable<Optional<Lease>> attempt = () -> {
+                    start.await();
+                    return manager.tryAcquire(name, Duration.ofMinutes(1));
+                };
+                results.add(executor.submit(attempt));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Optional<Lease>> result : results) {
+                if (result.get().isPresent()) {
+                    acquired++;
+                }
+            }
+            assertThat(acquired).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredLeaseMovesToAnotherInstanceWithHigherToken() throws Exception {
+        String name = "test-" + UUID.randomUUID();
+        List<JdbcLeaseManager> managers = instances();
+        JdbcLeaseManager first = managers.get(0);
+        JdbcLeaseManager second = managers.get(1);
+
+        Lease old = first.tryAcquire(name, Duration.ofMillis(50)).orElseThrow();
+        assertThat(second.tryAcquire(name, Duration.ofMinutes(1))).isEmpty();
+
+        Thread.sleep(100);
+        Lease current = second.tryAcquire(name, Duration.ofMinutes(1)).orElseThrow();
+
+        assertThat(current.token()).isGreaterThan(old.token());
+        assertThat(first.renew(old, Duration.ofMinutes(1))).isFalse();
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> first.assertHeld(old)))
+                .isInstanceOf(LeaseLostException.class);
+        second.assertHeld(current);
+    }
+
+    @Test
+    void releaseKeepsLeaseUntilHoldTime() {
+        String name = "test-" + UUID.randomUUID();
+        List<JdbcLeaseManager> managers = instances();
+
+        Lease lease = managers.get(0).tryAcquire(name, Duration.ofMinutes(1)).orElseThrow();
+        managers.get(0).release(lease, LocalDateTime.now().plusMinutes(5));
+        assertThat(managers.get(1).tryAcquire(name, Duration.ofMinutes(1))).isEmpty();
+
+        managers.get(0).release(lease, LocalDateTime.now());
+        assertThat(managers.get(1).tryAcquire(name, Duration.ofMinutes(1))).isPresent();
+    }
+
+    private List<JdbcLeaseManager> instances() {
+        List<JdbcLeaseManager> managers = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            managers.add(new JdbcLeaseManager(schedulerLeaseRepository, transactionManager, "instance-" + i));
+        }
+        return managers;
+    }
+}
@@ -0,0 +1,48 @@
+package com.toy.checkoutcheckout.global.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserLocksTest {
+
+    @Test
+    void usersSharingStripeDoNotWaitForEachOther() throws Exception {
+        UserLocks locks = new UserLocks(1); // 모든 사용자가 같은 스트라이프
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> locks.withLock(1L, () -> {
+            held.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 사용자 1 의 잠금을 잡은 동안에도 사용자 2 는 바로 실행
+        assertThat(CompletableFuture.supplyAsync(() -> locks.withLock(2L, () -> "done"))
+                .get(5, TimeUnit.SECONDS)).isEqualTo("done");
+
+        // 같은 사용자는 앞선 작업이 끝날 때까지 기다림
+        CompletableFuture<String> sameUser = CompletableFuture.supplyAsync(() -> locks.withLock(1L, () -> "after"));
+        Thread.sleep(100);
+        assertThat(sameUser).isNotDone();
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(sameUser.get(5, TimeUnit.SECONDS)).isEqualTo("after");
+        assertThat(locks.size()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
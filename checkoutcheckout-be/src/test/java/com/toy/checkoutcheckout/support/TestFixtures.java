@@ -0,0 +1,89 @@
+package com.toy.checkoutcheckout.support;
+
+import com.toy.checkoutcheckout.domain.study.dto.StudyRequest;
+import com.toy.checkoutcheckout.domain.study.dto.StudyResponse;
+import com.toy.checkoutcheckout.domain.study.service.StudyService;
+import com.toy.checkoutcheckout.domain.timer.entity.TimerSession;
+import com.toy.checkoutcheckout.domain.timer.service.StudyDailyTotalService;
+import com.toy.checkoutcheckout.domain.timer.service.UserDailyTotalService;
+import com.toy.checkoutcheckout.domain.user.entity.User;
+import com.toy.checkoutcheckout.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 통합 테스트 공용 데이터 생성
+ * 테스트끼리 같은 DB 를 공유하므로 이메일/닉네임/스터디 이름에 임의 접미사를 붙인다.
+ */
+@Component
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final StudyService studyService;
+    private final UserDailyTotalService userDailyTotalService;
+    private final StudyDailyTotalService studyDailyTotalService;
+    private final TransactionTemplate transactionTemplate;
+
+    public TestFixtures(UserRepository userRepository,
+                        StudyService studyService,
+                        UserDailyTotalService userDailyTotalService,
+                        StudyDailyTotalService studyDailyTotalService,
+                        PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.studyService = studyService;
+        this.userDailyTotalService = userDailyTotalService;
+        this.studyDailyTotalService = studyDailyTotalService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public User user() {
+        return user(null);
+    }
+
+    public User user(String characterType) {
+        String suffix = suffix();
+        return userRepository.save(User.builder()
+                .email("user-" + suffix + "@test.com")
+                .password("password")
+                .nickname("user-" + suffix)
+                .characterType(characterType)
+                .role(User.Role.USER)
+                .build());
+    }
+
+    /**
+     * owner 가 만든 공개 스터디 (승인 없이 가입 가능)
+     */
+    public StudyResponse study(User owner) {
+        return studyService.createStudy(owner.getId(), StudyRequest.builder()
+                .name("study-" + suffix())
+                .maxMembers(10)
+                .isPasswordProtected(false)
+                .isApprovalRequired(false)
+                .build());
+    }
+
+    /**
+     * date 에 seconds 만큼 공부한 종료 세션을 사용자/스터디 일일 롤업에 반영 (세션 행은 저장하지 않음)
+     */
+    public void credit(User user, LocalDate date, long seconds) {
+        TimerSession session = TimerSession.builder()
+                .user(user)
+                .startTime(date.atTime(9, 0))
+                .sessionDate(date)
+                .duration(seconds)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> {
+            userDailyTotalService.credit(session);
+            studyDailyTotalService.credit(session);
+        });
+    }
+
+    private String suffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -195,10 +195,13 @@ export const timerApi = {
     }
   },
   
+  // 최근 세션 첫 페이지 (다음 페이지는 응답의 nextCursor 를 cursor 로 전달)
   getRecentSessions: async (): Promise<TimerSession[]> => {
     try {
-      const response = await apiClient.get<TimerSession[]>(ENDPOINTS.RECENT);
-      return response.data;
+      const response = await apiClient.get(ENDPOINTS.RECENT, {
+        params: { limit: 5 }
+      });
+      return response.data?.data?.sessions ?? [];
     } catch (error) {
       console.error('최근 세션 조회 실패:', error);
       throw error;